@@ -0,0 +1,220 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import java.io.EOFException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+import software.amazon.smithy.java.core.serde.event.FrameDecoder;
+
+/**
+ * Subscribes to an event stream body until its first frame has fully arrived, then publishes the whole body again.
+ *
+ * <p>Chunks are kept as they arrive until the frame decoder reports a complete frame. {@code onInitialFrame} is
+ * then called with this processor as the publisher of the body: the kept chunks are replayed first, and the rest
+ * are passed through from the source as they are requested. A blocking reader over that publisher can decode the
+ * initial event without ever waiting on the network.
+ *
+ * <p>Supports a single subscriber, which may only subscribe once {@code onInitialFrame} was called.
+ */
+final class InitialFrameProcessor implements Flow.Processor<ByteBuffer, ByteBuffer> {
+
+    private final FrameDecoder<?> frameDecoder;
+    private final Consumer<Flow.Publisher<ByteBuffer>> onInitialFrame;
+    private final Consumer<Throwable> onFailure;
+    private final ArrayDeque<ByteBuffer> kept = new ArrayDeque<>();
+    private Flow.Subscription upstream;
+    private Flow.Subscriber<? super ByteBuffer> downstream;
+    private boolean initialFrameReceived;
+    private boolean replaying;
+    private boolean upstreamDone;
+    private Throwable upstreamFailure;
+    private boolean terminated;
+
+    InitialFrameProcessor(
+            FrameDecoder<?> frameDecoder,
+            Consumer<Flow.Publisher<ByteBuffer>> onInitialFrame,
+            Consumer<Throwable> onFailure
+    ) {
+        this.frameDecoder = frameDecoder;
+        this.onInitialFrame = onInitialFrame;
+        this.onFailure = onFailure;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized (this) {
+            upstream = subscription;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        boolean complete;
+        synchronized (this) {
+            if (terminated) {
+                return;
+            }
+            if (initialFrameReceived) {
+                // Only requested once the kept chunks were replayed and the subscriber asked for more.
+                complete = false;
+            } else {
+                kept.add(item);
+                try {
+                    // The decoder consumes its input, so it gets a view and the kept chunk stays intact.
+                    complete = !frameDecoder.decode(item.duplicate()).isEmpty();
+                } catch (RuntimeException e) {
+                    terminated = true;
+                    kept.clear();
+                    upstream.cancel();
+                    onFailure.accept(e);
+                    return;
+                }
+                initialFrameReceived = complete;
+                if (!complete) {
+                    upstream.request(1);
+                    return;
+                }
+            }
+        }
+        if (complete) {
+            onInitialFrame.accept(this);
+        } else {
+            downstream.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        finishUpstream(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        finishUpstream(null);
+    }
+
+    private void finishUpstream(Throwable failure) {
+        boolean beforeInitialFrame;
+        synchronized (this) {
+            if (terminated || upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            upstreamFailure = failure;
+            beforeInitialFrame = !initialFrameReceived;
+            if (beforeInitialFrame) {
+                terminated = true;
+                kept.clear();
+            } else if (!canTerminateDownstream()) {
+                // Signalled once the kept chunks are replayed.
+                return;
+            }
+        }
+        if (beforeInitialFrame) {
+            onFailure.accept(failure != null
+                    ? failure
+                    : new UncheckedIOException(new EOFException("Event stream ended before the initial event")));
+        } else {
+            terminateDownstream();
+        }
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        synchronized (this) {
+            if (downstream == null && initialFrameReceived) {
+                downstream = subscriber;
+                subscriber = null;
+            }
+        }
+        if (subscriber != null) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("Event stream body can only be subscribed to once"));
+            return;
+        }
+        downstream.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                requestDownstream(n);
+            }
+
+            @Override
+            public void cancel() {
+                synchronized (InitialFrameProcessor.this) {
+                    terminated = true;
+                    kept.clear();
+                }
+                upstream.cancel();
+            }
+        });
+    }
+
+    private void requestDownstream(long n) {
+        List<ByteBuffer> replay = new ArrayList<>();
+        long forward;
+        synchronized (this) {
+            if (terminated) {
+                return;
+            }
+            if (n <= 0) {
+                terminated = true;
+                kept.clear();
+                upstream.cancel();
+                downstream.onError(new IllegalArgumentException("Requested demand must be positive: " + n));
+                return;
+            }
+            while (n > 0 && !kept.isEmpty()) {
+                replay.add(kept.poll());
+                n--;
+            }
+            forward = kept.isEmpty() && !upstreamDone ? n : 0;
+            replaying = true;
+        }
+        for (ByteBuffer buffer : replay) {
+            downstream.onNext(buffer);
+        }
+        boolean terminate;
+        synchronized (this) {
+            replaying = false;
+            terminate = canTerminateDownstream();
+        }
+        if (terminate) {
+            terminateDownstream();
+        } else if (forward > 0) {
+            upstream.request(forward);
+        }
+    }
+
+    // Must hold the lock; marks the stream terminated if it returns true.
+    private boolean canTerminateDownstream() {
+        if (upstreamDone && kept.isEmpty() && !replaying && downstream != null && !terminated) {
+            terminated = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void terminateDownstream() {
+        if (upstreamFailure != null) {
+            downstream.onError(upstreamFailure);
+        } else {
+            downstream.onComplete();
+        }
+    }
+}
@@ -5,6 +5,7 @@
 
 package software.amazon.smithy.java.aws.events;
 
+import java.util.concurrent.CompletableFuture;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.schema.TraitKey;
@@ -45,6 +46,36 @@ public final class RpcEventStreamsUtil {
         return reader.readInitialEvent();
     }
 
+    /**
+     * Deserializes the initial event of an event stream without blocking on the body.
+     *
+     * <p>The returned future completes once the body's first frame has arrived and was decoded. The events that
+     * follow it are read from the initial event's stream member as they arrive.
+     *
+     * @param eventDecoderFactory decoder factory for the stream
+     * @param bodyDataStream      event stream body
+     * @return the initial event.
+     * @param <O> initial event type
+     */
+    public static <O extends SerializableStruct> CompletableFuture<O> deserializeInitialEvent(
+            EventDecoderFactory<AwsEventFrame> eventDecoderFactory,
+            DataStream bodyDataStream
+    ) {
+        var result = new CompletableFuture<O>();
+        bodyDataStream.subscribe(new InitialFrameProcessor(eventDecoderFactory.newFrameDecoder(), body -> {
+            try {
+                // The first frame is buffered by now, so reading it does not block.
+                var replayed = DataStream.ofPublisher(body,
+                        bodyDataStream.contentType(),
+                        bodyDataStream.contentLength());
+                result.complete(RpcEventStreamsUtil.<O>deserializeResponse(eventDecoderFactory, replayed));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, result::completeExceptionally));
+        return result;
+    }
+
     private static Schema streamingMember(Schema schema) {
         for (var member : schema.members()) {
             if (member.isMember() && member.memberTarget().hasTrait(TraitKey.STREAMING_TRAIT)) {
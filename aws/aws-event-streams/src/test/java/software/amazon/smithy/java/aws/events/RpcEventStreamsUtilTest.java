@@ -0,0 +1,144 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+import software.amazon.eventstream.Message;
+import software.amazon.smithy.java.aws.events.model.StructureEvent;
+import software.amazon.smithy.java.aws.events.model.TestEventStream;
+import software.amazon.smithy.java.aws.events.model.TestOperation;
+import software.amazon.smithy.java.aws.events.model.TestOperationInput;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.json.JsonCodec;
+
+class RpcEventStreamsUtilTest {
+
+    @Test
+    public void initialEventCompletesWithoutWaitingForLaterEvents() {
+        var initial = frame("initial-request", "{\"inputStringMember\":\"Hello\"}");
+        var event = frame("structureMember", "{\"foo\":\"bar\"}");
+        var third = initial.length / 3;
+        var body = new ChunkPublisher(List.of(
+                Arrays.copyOfRange(initial, 0, third),
+                Arrays.copyOfRange(initial, third, 2 * third),
+                Arrays.copyOfRange(initial, 2 * third, initial.length),
+                event));
+
+        var result = RpcEventStreamsUtil.<TestOperationInput>deserializeInitialEvent(
+                decoderFactory(),
+                DataStream.ofPublisher(body, "application/vnd.amazon.eventstream", -1));
+        body.release(2);
+        assertFalse(result.isDone());
+
+        body.release(3);
+        assertTrue(result.isDone());
+        var input = result.join();
+        assertEquals("Hello", input.getInputStringMember());
+
+        body.release(4);
+        var reader = input.getStream().asReader();
+        var expected = TestEventStream.builder()
+                .structureMember(StructureEvent.builder().foo("bar").build())
+                .build();
+        assertEquals(expected, reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    public void failsWhenBodyEndsBeforeInitialEvent() {
+        var initial = frame("initial-request", "{\"inputStringMember\":\"Hello\"}");
+        var body = new ChunkPublisher(List.of(Arrays.copyOf(initial, initial.length - 1)));
+
+        var result = RpcEventStreamsUtil.deserializeInitialEvent(
+                decoderFactory(),
+                DataStream.ofPublisher(body, "application/vnd.amazon.eventstream", -1));
+        body.release(1);
+
+        var e = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(UncheckedIOException.class, e.getCause());
+    }
+
+    private static AwsEventDecoderFactory<?, ?> decoderFactory() {
+        return AwsEventDecoderFactory.forInputStream(TestOperation.instance(), JsonCodec.builder().build(), f -> f);
+    }
+
+    private static byte[] frame(String eventType, String payload) {
+        var headers = HeadersBuilder.forEvent()
+                .eventType(eventType)
+                .contentType("text/json")
+                .build();
+        var buffer = new Message(headers, payload.getBytes(StandardCharsets.UTF_8)).toByteBuffer();
+        var bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Publishes chunks on demand, but only as many as the test released so far.
+     */
+    private static final class ChunkPublisher implements Flow.Publisher<ByteBuffer> {
+        private final List<byte[]> chunks;
+        private Flow.Subscriber<? super ByteBuffer> subscriber;
+        private long requested;
+        private int released;
+        private int sent;
+        private boolean draining;
+
+        ChunkPublisher(List<byte[]> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested += n;
+                    drain();
+                }
+
+                @Override
+                public void cancel() {}
+            });
+        }
+
+        void release(int count) {
+            released = count;
+            drain();
+        }
+
+        private void drain() {
+            if (draining) {
+                return;
+            }
+            draining = true;
+            while (requested > 0 && sent < released) {
+                requested--;
+                subscriber.onNext(ByteBuffer.wrap(chunks.get(sent++)));
+            }
+            if (sent == chunks.size()) {
+                sent++;
+                subscriber.onComplete();
+            }
+            draining = false;
+        }
+    }
+}
@@ -11,10 +11,16 @@ extra["moduleName"] = "software.amazon.smithy.java.aws.integrations.lambda"
 
 dependencies {
     implementation("com.amazonaws:aws-lambda-java-core:1.4.0")
+    implementation(libs.crac)
     implementation(project(":server:server-api"))
     implementation(project(":http:http-api"))
+    implementation(project(":io"))
     implementation(project(":logging"))
     implementation(project(":core"))
     api(project(":server:server-core"))
     testImplementation(project(":codecs:cbor-codec"))
+    testImplementation(project(":server:server-rpcv2-cbor"))
+    testImplementation(project(":server:server-rpcv2-json"))
+    testImplementation(project(":aws:server:aws-server-restjson"))
+    testImplementation(testFixtures(project(":server:server-core")))
 }
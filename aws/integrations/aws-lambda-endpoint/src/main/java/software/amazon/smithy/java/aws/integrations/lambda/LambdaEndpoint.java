@@ -7,18 +7,12 @@ package software.amazon.smithy.java.aws.integrations.lambda;
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
-import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ExecutionException;
+import org.crac.Core;
+import org.crac.Resource;
 import software.amazon.smithy.java.http.api.HttpHeaders;
-import software.amazon.smithy.java.http.api.ModifiableHttpHeaders;
-import software.amazon.smithy.java.io.datastream.DataStream;
 import software.amazon.smithy.java.logging.InternalLogger;
 import software.amazon.smithy.java.server.Route;
 import software.amazon.smithy.java.server.Service;
@@ -27,12 +21,12 @@ import software.amazon.smithy.java.server.core.HandlerAssembler;
 import software.amazon.smithy.java.server.core.HttpJob;
 import software.amazon.smithy.java.server.core.HttpRequest;
 import software.amazon.smithy.java.server.core.HttpResponse;
+import software.amazon.smithy.java.server.core.InlineOrchestrator;
 import software.amazon.smithy.java.server.core.Orchestrator;
 import software.amazon.smithy.java.server.core.ProtocolResolver;
 import software.amazon.smithy.java.server.core.ServiceMatcher;
 import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
 import software.amazon.smithy.java.server.core.ServiceProtocolResolutionResult;
-import software.amazon.smithy.java.server.core.SingleThreadOrchestrator;
 import software.amazon.smithy.utils.SmithyUnstableApi;
 
 /**
@@ -51,6 +45,16 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
     private static final List<Service> SERVICES;
     private static final Orchestrator ORCHESTRATOR;
     private static final ProtocolResolver RESOLVER;
+    // CRaC only keeps weak references to registered resources.
+    private static final Resource PRIMING_RESOURCE = new Resource() {
+        @Override
+        public void beforeCheckpoint(org.crac.Context<? extends Resource> context) {
+            prime();
+        }
+
+        @Override
+        public void afterRestore(org.crac.Context<? extends Resource> context) {}
+    };
 
     static {
         LOADER = ServiceLoader.load(SmithyServiceProvider.class);
@@ -62,14 +66,32 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
         ORCHESTRATOR = buildOrchestrator(SERVICES);
         RESOLVER = buildProtocolResolver(SERVICES);
         // TODO: Add some kind of configuration object
+        Core.getGlobalContext().register(PRIMING_RESOURCE);
     }
 
     public LambdaEndpoint() {}
 
+    /**
+     * Exercise every operation's request deserialization and response serialization with synthetic requests,
+     * without invoking the operations.
+     *
+     * <p>Runs automatically before a SnapStart/CRaC checkpoint so restored functions start with classes loaded and
+     * codec pools warm. Functions without snapshots can call this from their initialization code instead.
+     */
+    public static void prime() {
+        RESOLVER.prime();
+    }
+
     @Override
     public ProxyResponse handleRequest(ProxyRequest proxyRequest, Context context) {
         // TODO: Improve error handling
-        HttpRequest request = getRequest(proxyRequest);
+        HttpRequest request;
+        try {
+            request = ProxyAdapter.toHttpRequest(proxyRequest);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Rejected malformed proxy event: {}", e.getMessage());
+            return ProxyAdapter.badRequest();
+        }
         HttpJob job = getJob(request, RESOLVER);
         try {
             ORCHESTRATOR.enqueue(job).get();
@@ -77,13 +99,14 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
             // TODO: Handle modeled errors (pending error serialization?)
             LOGGER.error("Job failed: ", e);
         }
-        ProxyResponse response = getResponse(job.response(), proxyRequest.getIsBase64Encoded());
+        ProxyResponse response = ProxyAdapter.toProxyResponse(proxyRequest, job.response());
         return response;
     }
 
     private static Orchestrator buildOrchestrator(List<Service> services) {
         List<Handler> handlers = new HandlerAssembler().assembleHandlers(services);
-        return new SingleThreadOrchestrator(handlers);
+        // Lambda hands over one request at a time and waits for it, so run it on the invoking thread.
+        return new InlineOrchestrator(handlers);
     }
 
     private static ProtocolResolver buildProtocolResolver(List<Service> services) {
@@ -91,86 +114,14 @@ public final class LambdaEndpoint implements RequestHandler<ProxyRequest, ProxyR
         return new ProtocolResolver(new ServiceMatcher(List.of(route)));
     }
 
-    private static HttpRequest getRequest(ProxyRequest proxyRequest) {
-        String method = proxyRequest.getHttpMethod();
-        String encodedUri = URLEncoder.encode(proxyRequest.getPath(), StandardCharsets.UTF_8);
-        ModifiableHttpHeaders headers = HttpHeaders.ofModifiable();
-        if (proxyRequest.getMultiValueHeaders() != null && !proxyRequest.getMultiValueHeaders().isEmpty()) {
-            // TODO: handle single-value headers?
-            // -- APIGW puts the actual headers in both, but only the latest header per key
-            headers.addHeaders(proxyRequest.getMultiValueHeaders());
-        }
-        URI uri;
-        if (proxyRequest.getMultiValueQueryStringParameters() != null && !proxyRequest
-                .getMultiValueQueryStringParameters()
-                .isEmpty()) {
-            // TODO: handle single-value params?
-            // -- APIGW puts the actual params in both, but only the latest param per key
-            Map<String, List<String>> params = proxyRequest.getMultiValueQueryStringParameters();
-            StringBuilder encodedParams = new StringBuilder();
-            for (Map.Entry<String, List<String>> entry : params.entrySet()) {
-                for (String value : entry.getValue()) {
-                    encodedParams.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8));
-                    encodedParams.append('=');
-                    encodedParams.append(URLEncoder.encode(value, StandardCharsets.UTF_8));
-                    encodedParams.append('&');
-                }
-            }
-            encodedParams.setLength(encodedParams.length() - 1);
-            uri = URI.create(encodedUri + "?" + encodedParams);
-        } else {
-            // TODO: handle stage?
-            uri = URI.create(encodedUri);
-        }
-        HttpRequest request = new HttpRequest(headers, uri, method);
-        if (proxyRequest.getBody() != null) {
-            // TODO: handle content-type intelligently?
-            String contentType = headers.firstValue("content-type");
-            // TODO: handle base64 encoding
-            byte[] bytes;
-            if (proxyRequest.getIsBase64Encoded()) {
-                bytes = Base64.getDecoder().decode(proxyRequest.getBody());
-            } else {
-                bytes = proxyRequest.getBody().getBytes(StandardCharsets.UTF_8);
-            }
-            request.setDataStream(DataStream.ofBytes(bytes, contentType));
-        }
-        return request;
-    }
-
     private static HttpJob getJob(HttpRequest request, ProtocolResolver resolver) {
         ServiceProtocolResolutionResult resolutionResult = resolver.resolve(
                 new ServiceProtocolResolutionRequest(request.uri(),
                         request.headers(),
                         request.context(),
                         request.method()));
-        HttpResponse response = new HttpResponse((ModifiableHttpHeaders) request.headers());
+        HttpResponse response = new HttpResponse(HttpHeaders.ofModifiable());
         HttpJob job = new HttpJob(resolutionResult.operation(), resolutionResult.protocol(), request, response);
         return job;
     }
-
-    private static ProxyResponse getResponse(HttpResponse httpResponse, boolean shouldBase64Encode) {
-        // TODO: Add response headers
-        ProxyResponse.Builder builder = ProxyResponse.builder()
-                .multiValueHeaders(httpResponse.headers().map())
-                .statusCode(httpResponse.getStatusCode());
-
-        DataStream val = httpResponse.getSerializedValue();
-        if (val != null) {
-            ByteBuffer buf = val.asByteBuffer();
-            String body;
-            // TODO: handle base64 encoding better
-            if (shouldBase64Encode) {
-                builder.isBase64Encoded(true);
-                // TODO: don't use array(), or determine if we can just *not* use `String` for the body
-                body = Base64.getEncoder().encodeToString(buf.array());
-            } else {
-                body = StandardCharsets.UTF_8.decode(buf).toString();
-            }
-            builder.body(body);
-        }
-
-        ProxyResponse response = builder.build();
-        return response;
-    }
 }
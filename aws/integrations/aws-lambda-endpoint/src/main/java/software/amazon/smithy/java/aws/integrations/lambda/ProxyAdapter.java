@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.integrations.lambda;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+import software.amazon.smithy.java.io.uri.URLEncoding;
+import software.amazon.smithy.java.server.core.HttpRequest;
+import software.amazon.smithy.java.server.core.HttpResponse;
+
+/**
+ * Maps proxy integration events to server requests, and server responses back to proxy responses.
+ *
+ * <p>Both the 1.0 payload format (REST APIs) and the 2.0 payload format (HTTP APIs and function URLs) are
+ * supported. The 2.0 format carries the raw path and query string, which are handed to the protocols as-is. The 1.0
+ * format only carries decoded values, which are percent-encoded once.
+ */
+final class ProxyAdapter {
+
+    private static final String PAYLOAD_FORMAT_V2 = "2.0";
+
+    private ProxyAdapter() {}
+
+    /**
+     * Maps an event to a request.
+     *
+     * @param event proxy integration event.
+     * @return the request.
+     * @throws IllegalArgumentException if the event lacks the method or path, or has a malformed body.
+     */
+    static HttpRequest toHttpRequest(ProxyRequest event) {
+        boolean v2 = PAYLOAD_FORMAT_V2.equals(event.getVersion());
+        var method = v2 ? methodV2(event) : event.getHttpMethod();
+        if (method == null) {
+            throw new IllegalArgumentException("Proxy event has no HTTP method");
+        }
+        if ((v2 ? event.getRawPath() : event.getPath()) == null) {
+            throw new IllegalArgumentException("Proxy event has no path");
+        }
+        var headers = v2 ? headersV2(event) : headersV1(event);
+        // TODO: handle stage?
+        var uri = v2 ? uriV2(event) : uriV1(event);
+        var request = new HttpRequest(headers, uri, method);
+        var body = event.getBody();
+        if (body != null) {
+            byte[] bytes = event.getIsBase64Encoded()
+                    ? Base64.getDecoder().decode(body)
+                    : body.getBytes(StandardCharsets.UTF_8);
+            request.setDataStream(DataStream.ofBytes(bytes, headers.contentType()));
+        }
+        return request;
+    }
+
+    /**
+     * Creates the response sent for events that can't be mapped to a request.
+     */
+    static ProxyResponse badRequest() {
+        return ProxyResponse.builder().statusCode(400).build();
+    }
+
+    static ProxyResponse toProxyResponse(ProxyRequest event, HttpResponse response) {
+        var builder = ProxyResponse.builder().statusCode(response.getStatusCode());
+        if (PAYLOAD_FORMAT_V2.equals(event.getVersion())) {
+            // The 2.0 format ignores multi-value headers; repeated values are joined and cookies are set separately.
+            Map<String, String> headers = new HashMap<>();
+            List<String> cookies = new ArrayList<>();
+            for (var entry : response.headers().map().entrySet()) {
+                if (entry.getKey().equalsIgnoreCase("set-cookie")) {
+                    cookies.addAll(entry.getValue());
+                } else {
+                    headers.put(entry.getKey(), String.join(",", entry.getValue()));
+                }
+            }
+            builder.headers(headers).cookies(cookies);
+        } else {
+            builder.multiValueHeaders(response.headers().map());
+        }
+
+        DataStream val = response.getSerializedValue();
+        if (val != null) {
+            ByteBuffer buf = val.asByteBuffer();
+            // TODO: handle base64 encoding better
+            if (event.getIsBase64Encoded()) {
+                builder.isBase64Encoded(true);
+                builder.body(StandardCharsets.ISO_8859_1.decode(Base64.getEncoder().encode(buf)).toString());
+            } else {
+                builder.body(StandardCharsets.UTF_8.decode(buf).toString());
+            }
+        }
+        return builder.build();
+    }
+
+    private static String methodV2(ProxyRequest event) {
+        var context = event.getRequestContext();
+        return context == null || context.getHttp() == null ? null : context.getHttp().getMethod();
+    }
+
+    private static HttpHeaders headersV1(ProxyRequest event) {
+        // TODO: handle single-value headers?
+        // -- APIGW puts the actual headers in both, but only the latest header per key
+        var headers = event.getMultiValueHeaders();
+        return HttpHeaders.of(headers != null ? headers : Map.of());
+    }
+
+    private static HttpHeaders headersV2(ProxyRequest event) {
+        var source = event.getHeaders();
+        var cookies = event.getCookies();
+        var headers = HttpHeaders.ofModifiable(source != null ? source.size() + 1 : 1);
+        if (source != null) {
+            for (var entry : source.entrySet()) {
+                headers.addHeader(entry.getKey(), entry.getValue());
+            }
+        }
+        if (cookies != null && !cookies.isEmpty()) {
+            headers.addHeader("cookie", String.join("; ", cookies));
+        }
+        return headers;
+    }
+
+    private static SmithyUri uriV1(ProxyRequest event) {
+        String path = URLEncoding.encodeUnreserved(event.getPath(), true);
+        // TODO: handle single-value params?
+        // -- APIGW puts the actual params in both, but only the latest param per key
+        var params = event.getMultiValueQueryStringParameters();
+        if (params == null || params.isEmpty()) {
+            return SmithyUri.of(null, null, -1, path, null);
+        }
+        StringBuilder query = new StringBuilder();
+        for (var entry : params.entrySet()) {
+            for (String value : entry.getValue()) {
+                if (!query.isEmpty()) {
+                    query.append('&');
+                }
+                URLEncoding.encodeUnreserved(entry.getKey(), query, false);
+                query.append('=');
+                URLEncoding.encodeUnreserved(value, query, false);
+            }
+        }
+        return SmithyUri.of(null, null, -1, path, query.toString());
+    }
+
+    private static SmithyUri uriV2(ProxyRequest event) {
+        var query = event.getRawQueryString();
+        return SmithyUri.of(null, null, -1, event.getRawPath(), query == null || query.isEmpty() ? null : query);
+    }
+}
@@ -16,6 +16,7 @@ import java.util.Map;
  * Note: Not all fields are currently supported.
  */
 final class ProxyRequest {
+    private String version;
     private Map<String, String> pathParameters;
     private Map<String, String> stageVariables;
     private String resource;
@@ -26,8 +27,14 @@ final class ProxyRequest {
     private RequestContext requestContext;
     private String body;
     private boolean isBase64Encoded;
+    // Only set by the 2.0 payload format.
+    private String rawPath;
+    private String rawQueryString;
+    private Map<String, String> headers;
+    private List<String> cookies;
 
     private ProxyRequest(Builder builder) {
+        this.version = builder.version;
         this.pathParameters = builder.pathParameters;
         this.stageVariables = builder.stageVariables;
         this.resource = builder.resource;
@@ -38,6 +45,14 @@ final class ProxyRequest {
         this.requestContext = builder.requestContext;
         this.body = builder.body;
         this.isBase64Encoded = builder.isBase64Encoded;
+        this.rawPath = builder.rawPath;
+        this.rawQueryString = builder.rawQueryString;
+        this.headers = builder.headers;
+        this.cookies = builder.cookies;
+    }
+
+    public String getVersion() {
+        return version;
     }
 
     public Map<String, String> getPathParameters() {
@@ -80,11 +95,28 @@ final class ProxyRequest {
         return isBase64Encoded;
     }
 
+    public String getRawPath() {
+        return rawPath;
+    }
+
+    public String getRawQueryString() {
+        return rawQueryString;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public List<String> getCookies() {
+        return cookies;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
     public static class Builder {
+        private String version;
         private Map<String, String> pathParameters;
         private Map<String, String> stageVariables;
         private String resource;
@@ -95,6 +127,15 @@ final class ProxyRequest {
         private RequestContext requestContext;
         private String body;
         private boolean isBase64Encoded;
+        private String rawPath;
+        private String rawQueryString;
+        private Map<String, String> headers;
+        private List<String> cookies;
+
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
 
         public Builder pathParameters(Map<String, String> pathParameters) {
             this.pathParameters = pathParameters;
@@ -146,6 +187,26 @@ final class ProxyRequest {
             return this;
         }
 
+        public Builder rawPath(String rawPath) {
+            this.rawPath = rawPath;
+            return this;
+        }
+
+        public Builder rawQueryString(String rawQueryString) {
+            this.rawQueryString = rawQueryString;
+            return this;
+        }
+
+        public Builder headers(Map<String, String> headers) {
+            this.headers = headers;
+            return this;
+        }
+
+        public Builder cookies(List<String> cookies) {
+            this.cookies = cookies;
+            return this;
+        }
+
         public ProxyRequest build() {
             return new ProxyRequest(this);
         }
@@ -154,6 +215,10 @@ final class ProxyRequest {
     // This and the setters only exist so that Lambda can use this POJO when serializing the event
     private ProxyRequest() {}
 
+    private void setVersion(String version) {
+        this.version = version;
+    }
+
     private void setPathParameters(Map<String, String> pathParameters) {
         this.pathParameters = pathParameters;
     }
@@ -193,4 +258,20 @@ final class ProxyRequest {
     private void setIsBase64Encoded(boolean isBase64Encoded) {
         this.isBase64Encoded = isBase64Encoded;
     }
+
+    private void setRawPath(String rawPath) {
+        this.rawPath = rawPath;
+    }
+
+    private void setRawQueryString(String rawQueryString) {
+        this.rawQueryString = rawQueryString;
+    }
+
+    private void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    private void setCookies(List<String> cookies) {
+        this.cookies = cookies;
+    }
 }
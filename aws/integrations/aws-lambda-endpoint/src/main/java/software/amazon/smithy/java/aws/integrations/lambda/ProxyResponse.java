@@ -22,6 +22,7 @@ final class ProxyResponse {
     private final Map<String, List<String>> multiValueHeaders;
     private final String body;
     private final Boolean isBase64Encoded;
+    private final List<String> cookies;
 
     private ProxyResponse(Builder builder) {
         this.statusCode = builder.statusCode;
@@ -29,6 +30,7 @@ final class ProxyResponse {
         this.multiValueHeaders = Collections.unmodifiableMap(builder.multiValueHeaders);
         this.body = builder.body;
         this.isBase64Encoded = builder.isBase64Encoded;
+        this.cookies = builder.cookies;
     }
 
     public Integer getStatusCode() {
@@ -51,6 +53,10 @@ final class ProxyResponse {
         return isBase64Encoded;
     }
 
+    public List<String> getCookies() {
+        return cookies;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -61,6 +67,7 @@ final class ProxyResponse {
         private Map<String, List<String>> multiValueHeaders = Collections.emptyMap();
         private String body;
         private Boolean isBase64Encoded;
+        private List<String> cookies;
 
         public Builder statusCode(Integer statusCode) {
             this.statusCode = statusCode;
@@ -87,6 +94,11 @@ final class ProxyResponse {
             return this;
         }
 
+        public Builder cookies(List<String> cookies) {
+            this.cookies = cookies;
+            return this;
+        }
+
         public ProxyResponse build() {
             return new ProxyResponse(this);
         }
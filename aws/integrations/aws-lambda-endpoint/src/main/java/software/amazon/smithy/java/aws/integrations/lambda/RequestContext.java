@@ -15,27 +15,40 @@ package software.amazon.smithy.java.aws.integrations.lambda;
 final class RequestContext {
 
     private String requestId;
+    // Only set by the 2.0 payload format.
+    private Http http;
 
     private RequestContext(Builder builder) {
         this.requestId = builder.requestId;
+        this.http = builder.http;
     }
 
     public String getRequestId() {
         return requestId;
     }
 
+    public Http getHttp() {
+        return http;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
 
     public static class Builder {
         private String requestId;
+        private Http http;
 
         public Builder requestId(String requestId) {
             this.requestId = requestId;
             return this;
         }
 
+        public Builder http(Http http) {
+            this.http = http;
+            return this;
+        }
+
         public RequestContext build() {
             return new RequestContext(this);
         }
@@ -47,4 +60,30 @@ final class RequestContext {
     private void setRequestId(String requestId) {
         this.requestId = requestId;
     }
+
+    private void setHttp(Http http) {
+        this.http = http;
+    }
+
+    /**
+     * The HTTP request details of a 2.0 payload format event.
+     */
+    static final class Http {
+        private String method;
+
+        Http(String method) {
+            this.method = method;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        // This and the setter only exist so that Lambda can use this POJO when serializing the event
+        private Http() {}
+
+        private void setMethod(String method) {
+            this.method = method;
+        }
+    }
 }
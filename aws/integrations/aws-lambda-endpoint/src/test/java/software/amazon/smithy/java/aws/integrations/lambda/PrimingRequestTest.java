@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.integrations.lambda;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.java.core.schema.PreludeSchemas;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SchemaUtils;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.schema.ShapeBuilder;
+import software.amazon.smithy.java.core.serde.ShapeDeserializer;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.server.core.HttpJob;
+import software.amazon.smithy.java.server.core.HttpResponse;
+import software.amazon.smithy.java.server.core.ServerProtocolProvider;
+import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
+import software.amazon.smithy.java.server.core.testing.TestApiOperation;
+import software.amazon.smithy.java.server.core.testing.TestService;
+import software.amazon.smithy.model.pattern.UriPattern;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.HttpTrait;
+
+public class PrimingRequestTest {
+
+    static Stream<ServerProtocolProvider> protocols() {
+        return ServiceLoader.load(ServerProtocolProvider.class).stream().map(ServiceLoader.Provider::get);
+    }
+
+    @ParameterizedTest
+    @MethodSource("protocols")
+    public void primingRequestResolvesAndDeserializes(ServerProtocolProvider provider) {
+        var service = new TestService(
+                "test.priming#GreetingService",
+                List.of(TestApiOperation.of(GREET, GREETING, GreetingBuilder::new)));
+        var operation = service.getOperation("Greet");
+        var protocol = provider.provideProtocolHandler(List.of(service));
+        var input = new Greeting("hello");
+
+        var request = protocol.createPrimingRequest(operation, input);
+        assertThat(request, notNullValue());
+
+        var result = protocol.resolveOperation(
+                new ServiceProtocolResolutionRequest(
+                        request.uri(),
+                        request.headers(),
+                        request.context(),
+                        request.method()),
+                List.of(service));
+        assertThat(result, notNullValue());
+        assertThat(result.operation(), sameInstance(operation));
+
+        var job = new HttpJob(operation, protocol, request, new HttpResponse(HttpHeaders.ofModifiable()));
+        protocol.deserializeInput(job).join();
+        Greeting deserialized = job.request().getDeserializedValue();
+        assertThat(deserialized.message, equalTo("hello"));
+    }
+
+    private static final Schema GREETING = Schema.structureBuilder(ShapeId.from("test.priming#Greeting"))
+            .putMember("message", PreludeSchemas.STRING)
+            .build();
+    private static final Schema GREETING_MESSAGE = GREETING.member("message");
+    private static final Schema GREET = Schema.createOperation(
+            ShapeId.from("test.priming#Greet"),
+            HttpTrait.builder().method("POST").uri(UriPattern.parse("/greet")).code(200).build());
+
+    private static final class Greeting implements SerializableStruct {
+        private final String message;
+
+        private Greeting(String message) {
+            this.message = message;
+        }
+
+        @Override
+        public Schema schema() {
+            return GREETING;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            if (message != null) {
+                serializer.writeString(GREETING_MESSAGE, message);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getMemberValue(Schema member) {
+            return (T) SchemaUtils.validateSameMember(GREETING_MESSAGE, member, message);
+        }
+    }
+
+    private static final class GreetingBuilder implements ShapeBuilder<Greeting> {
+        private String message;
+
+        @Override
+        public Schema schema() {
+            return GREETING;
+        }
+
+        @Override
+        public Greeting build() {
+            return new Greeting(message);
+        }
+
+        @Override
+        public GreetingBuilder deserialize(ShapeDeserializer decoder) {
+            decoder.readStruct(GREETING, this, (builder, member, de) -> builder.message = de.readString(member));
+            return this;
+        }
+    }
+}
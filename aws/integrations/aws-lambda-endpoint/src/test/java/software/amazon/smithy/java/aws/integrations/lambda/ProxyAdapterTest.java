@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.integrations.lambda;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.server.core.HttpResponse;
+
+public class ProxyAdapterTest {
+
+    @Test
+    public void encodesDecodedV1Values() {
+        var event = ProxyRequest.builder()
+                .httpMethod("GET")
+                .path("/things/a b")
+                .multiValueQueryStringParameters(Map.of("q", List.of("x&y")))
+                .multiValueHeaders(Map.of("x-id", List.of("1", "2")))
+                .build();
+
+        var request = ProxyAdapter.toHttpRequest(event);
+
+        assertThat(request.method(), equalTo("GET"));
+        assertThat(request.uri().getPath(), equalTo("/things/a%20b"));
+        assertThat(request.uri().getQuery(), equalTo("q=x%26y"));
+        assertThat(request.headers().allValues("x-id"), contains("1", "2"));
+    }
+
+    @Test
+    public void usesRawV2Values() {
+        var event = ProxyRequest.builder()
+                .version("2.0")
+                .rawPath("/things/a%2Fb")
+                .rawQueryString("q=1&q=2")
+                .headers(Map.of("content-type", "application/json"))
+                .cookies(List.of("a=1", "b=2"))
+                .requestContext(RequestContext.builder().http(new RequestContext.Http("POST")).build())
+                .body(Base64.getEncoder().encodeToString("{}".getBytes(StandardCharsets.UTF_8)))
+                .isBase64Encoded(true)
+                .build();
+
+        var request = ProxyAdapter.toHttpRequest(event);
+
+        assertThat(request.method(), equalTo("POST"));
+        assertThat(request.uri().getPath(), equalTo("/things/a%2Fb"));
+        assertThat(request.uri().getQuery(), equalTo("q=1&q=2"));
+        assertThat(request.headers().firstValue("cookie"), equalTo("a=1; b=2"));
+        assertThat(StandardCharsets.UTF_8.decode(request.getDataStream().asByteBuffer()).toString(), equalTo("{}"));
+    }
+
+    @Test
+    public void rejectsV2EventsWithoutHttpContext() {
+        var noContext = ProxyRequest.builder().version("2.0").rawPath("/").build();
+        var noHttp = ProxyRequest.builder()
+                .version("2.0")
+                .rawPath("/")
+                .requestContext(RequestContext.builder().build())
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> ProxyAdapter.toHttpRequest(noContext));
+        assertThrows(IllegalArgumentException.class, () -> ProxyAdapter.toHttpRequest(noHttp));
+        assertThat(ProxyAdapter.badRequest().getStatusCode(), equalTo(400));
+    }
+
+    @Test
+    public void rejectsEventsWithoutPath() {
+        var v1 = ProxyRequest.builder().httpMethod("GET").build();
+        var v2 = ProxyRequest.builder()
+                .version("2.0")
+                .requestContext(RequestContext.builder().http(new RequestContext.Http("GET")).build())
+                .build();
+
+        assertThrows(IllegalArgumentException.class, () -> ProxyAdapter.toHttpRequest(v1));
+        assertThrows(IllegalArgumentException.class, () -> ProxyAdapter.toHttpRequest(v2));
+    }
+
+    @Test
+    public void splitsCookiesFromV2ResponseHeaders() {
+        var event = ProxyRequest.builder().version("2.0").build();
+        var response = new HttpResponse(HttpHeaders.ofModifiable());
+        response.setStatusCode(200);
+        response.headers().addHeader("set-cookie", List.of("a=1", "b=2"));
+        response.headers().addHeader("x-id", List.of("1", "2"));
+        response.setSerializedValue(DataStream.ofString("ok"));
+
+        var proxyResponse = ProxyAdapter.toProxyResponse(event, response);
+
+        assertThat(proxyResponse.getCookies(), contains("a=1", "b=2"));
+        assertThat(proxyResponse.getHeaders(), equalTo(Map.of("x-id", "1,2")));
+        assertThat(proxyResponse.getBody(), equalTo("ok"));
+    }
+}
@@ -1,6 +1,7 @@
 plugins {
     id("smithy-java.module-conventions")
     id("smithy-java.protocol-testing-conventions")
+    id("smithy-java.jmh-conventions")
 }
 
 description = "This module provides the AWS RestJson1 support for servers."
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.server.restjson.router;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the tree and trie URI matchers on a service with many operations.
+ *
+ * <p>Run with: {@code ./gradlew :aws:server:aws-server-restjson:jmh}
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriMatcherMapBenchmark {
+
+    @Param({"10", "300"})
+    private int resources;
+
+    private UriMatcherMap<String> tree;
+    private UriMatcherMap<String> trie;
+    private String[] uris;
+
+    @Setup
+    public void setup() {
+        var treeBuilder = UriTreeMatcherMap.<String>builder();
+        var trieBuilder = SegmentTrieMatcherMap.<String>builder();
+        for (int i = 0; i < resources; i++) {
+            // A typical CRUD-style resource, plus a greedy and a query-literal route.
+            String[] patterns = {
+                    "/resources" + i,
+                    "/resources" + i + "/{id}",
+                    "/resources" + i + "/{id}/children/{childId}",
+                    "/resources" + i + "/{id}/objects/{key+}",
+                    "/resources" + i + "/{id}?action=archive",
+            };
+            for (String pattern : patterns) {
+                treeBuilder.add(UriPattern.forSpecificityRouting(pattern), pattern);
+                trieBuilder.add(UriPattern.forSpecificityRouting(pattern), pattern);
+            }
+        }
+        tree = treeBuilder.build();
+        trie = trieBuilder.build();
+        int last = resources - 1;
+        uris = new String[] {
+                "/resources" + last,
+                "/resources" + last + "/abc123",
+                "/resources" + last + "/abc123/children/def456",
+                "/resources" + last + "/abc123/objects/a/b/c.txt",
+                "/resources" + last + "/abc123?action=archive",
+                "/unknown/abc123",
+        };
+    }
+
+    @Benchmark
+    public void tree(Blackhole bh) {
+        for (String uri : uris) {
+            ValuedMatch<String> match = tree.match(uri);
+            bh.consume(match);
+            if (match != null) {
+                bh.consume(match.getLabelValues("id"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void trie(Blackhole bh) {
+        for (String uri : uris) {
+            ValuedMatch<String> match = trie.match(uri);
+            bh.consume(match);
+            if (match != null) {
+                bh.consume(match.getLabelValues("id"));
+            }
+        }
+    }
+}
@@ -12,10 +12,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.smithy.aws.traits.protocols.RestJson1Trait;
+import software.amazon.smithy.java.aws.server.restjson.router.SegmentTrieMatcherMap;
 import software.amazon.smithy.java.aws.server.restjson.router.UriMatcherMap;
 import software.amazon.smithy.java.aws.server.restjson.router.UriMatcherMapBuilder;
 import software.amazon.smithy.java.aws.server.restjson.router.UriPattern;
-import software.amazon.smithy.java.aws.server.restjson.router.UriTreeMatcherMap;
 import software.amazon.smithy.java.aws.server.restjson.router.ValuedMatch;
 import software.amazon.smithy.java.context.Context;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
@@ -26,6 +26,7 @@ import software.amazon.smithy.java.http.api.HttpRequest;
 import software.amazon.smithy.java.http.api.HttpResponse;
 import software.amazon.smithy.java.http.binding.HttpBinding;
 import software.amazon.smithy.java.http.binding.ResponseSerializer;
+import software.amazon.smithy.java.io.uri.SmithyUri;
 import software.amazon.smithy.java.io.uri.URLEncoding;
 import software.amazon.smithy.java.json.JsonCodec;
 import software.amazon.smithy.java.server.Operation;
@@ -44,6 +45,8 @@ final class AwsRestJson1Protocol extends ServerProtocol {
             ValuedMatch<Operation<? extends SerializableStruct, ? extends SerializableStruct>>> MATCH_KEY = Context
                     .key("Aws Rest Json1 Valued Match");
 
+    private static final SmithyUri PRIMING_ENDPOINT = SmithyUri.of("http://localhost");
+
     private final Codec codec;
     private final Map<String, UriMatcherMap<Operation<?, ?>>> httpMethodToMatchersMap;
     private final HttpBinding httpBinding = new HttpBinding();
@@ -64,7 +67,7 @@ final class AwsRestJson1Protocol extends ServerProtocol {
                 String pattern = httpTrait
                         .getUri()
                         .toString();
-                httpMethodToMatchers.computeIfAbsent(method, k -> UriTreeMatcherMap.builder())
+                httpMethodToMatchers.computeIfAbsent(method, k -> SegmentTrieMatcherMap.builder())
                         .add(UriPattern.forSpecificityRouting(pattern), operation);
             }
         }
@@ -87,8 +90,9 @@ final class AwsRestJson1Protocol extends ServerProtocol {
             ServiceProtocolResolutionRequest request,
             List<Service> candidates
     ) {
+        // Route on the raw path; label values are decoded once they are bound in deserializeInput.
         var uri = request.uri().getPath();
-        String rawQuery = request.uri().getRawQuery();
+        String rawQuery = request.uri().getQuery();
         if (rawQuery != null) {
             uri += "?" + rawQuery;
         }
@@ -157,6 +161,31 @@ final class AwsRestJson1Protocol extends ServerProtocol {
         return CompletableFuture.completedFuture(null);
     }
 
+    @Override
+    public software.amazon.smithy.java.server.core.HttpRequest createPrimingRequest(
+            Operation<?, ?> operation,
+            SerializableStruct input
+    ) {
+        if (operation.getApiOperation().schema().getTrait(TraitKey.HTTP_TRAIT) == null) {
+            return null;
+        }
+        // The client-side binding serializer produces exactly the request this protocol expects to receive.
+        var serialized = httpBinding.requestSerializer()
+                .operation(operation.getApiOperation())
+                .payloadCodec(codec)
+                .payloadMediaType("application/json")
+                .endpoint(PRIMING_ENDPOINT)
+                .shapeValue(input)
+                .serializeRequest();
+        var uri = serialized.uri();
+        var request = new software.amazon.smithy.java.server.core.HttpRequest(
+                serialized.headers(),
+                SmithyUri.of(null, null, -1, uri.getPath(), uri.getQuery()),
+                serialized.method());
+        request.setDataStream(serialized.body());
+        return request;
+    }
+
     @Override
     public CompletableFuture<Void> serializeOutput(Job job, SerializableStruct output, boolean isError) {
         HttpJob httpJob = (HttpJob) job; //We already check in the deserializeInput method.
@@ -0,0 +1,427 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.server.restjson.router;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import software.amazon.smithy.java.aws.server.restjson.router.TreeNode.QueryMatcher;
+import software.amazon.smithy.java.aws.server.restjson.router.UriTreeMatcherMap.ParsedUri;
+import software.amazon.smithy.java.aws.server.restjson.router.UriTreeMatcherMapBuilder.TreeNodeBuilder;
+
+/**
+ * A compiled segment trie implementing the same specificity routing
+ * as {@link UriTreeMatcherMap}, tuned for matching cost.
+ *
+ * <p>The URI is never split into strings: path segments are tracked
+ * as offsets into the URI, literal segments are looked up in a hash
+ * table probed directly with the segment's character range, and
+ * labels are captured as offsets that are only turned into strings
+ * when their values are requested. The query string is only parsed
+ * when a candidate pattern has query literal constraints.
+ *
+ * @param <T> The type that the URI patterns map to.
+ */
+public final class SegmentTrieMatcherMap<T> implements UriMatcherMap<T> {
+    private final Node<T> root;
+    private final boolean allowEmptyPathSegments;
+
+    SegmentTrieMatcherMap(Node<T> root, boolean allowEmptyPathSegments) {
+        this.root = Objects.requireNonNull(root);
+        this.allowEmptyPathSegments = allowEmptyPathSegments;
+    }
+
+    public static <T> UriMatcherMapBuilder<T> builder() {
+        return new SegmentTrieMatcherMapBuilder<>();
+    }
+
+    @Override
+    public ValuedMatch<T> match(String uri) {
+        MatchState state = new MatchState(uri, allowEmptyPathSegments);
+        if (state.segmentCount == 0 && allowEmptyPathSegments && root.hasLabels()) {
+            // Same corner case as TreeNode#routeWithEmptyPath: let
+            // root labels capture an empty path.
+            state.useSingleEmptySegment();
+            TrieMatch<T> result = root.route(state, 0, 0);
+            if (result != null) {
+                return result;
+            }
+            state.useNoSegments();
+        }
+        return root.route(state, 0, 0);
+    }
+
+    /**
+     * A compiled trie node.
+     *
+     * @param <T> The type that the URI patterns map to.
+     */
+    static final class Node<T> {
+        private final String label;
+        private final boolean isGreedyLabel;
+        private final LiteralTable<T> literals;
+        private final List<Node<T>> labels;
+        private final List<Node<T>> greedyLabels;
+        private final List<QueryMatcher<T>> leaves;
+
+        private Node(
+                String label,
+                boolean isGreedyLabel,
+                LiteralTable<T> literals,
+                List<Node<T>> labels,
+                List<Node<T>> greedyLabels,
+                List<QueryMatcher<T>> leaves
+        ) {
+            this.label = label;
+            this.isGreedyLabel = isGreedyLabel;
+            this.literals = literals;
+            this.labels = labels;
+            this.greedyLabels = greedyLabels;
+            this.leaves = leaves;
+        }
+
+        static <T> Node<T> compile(TreeNodeBuilder<T> builder) {
+            List<String> literalKeys = new ArrayList<>(builder.children.size());
+            List<Node<T>> literalNodes = new ArrayList<>(builder.children.size());
+            for (Map.Entry<String, TreeNodeBuilder<T>> entry : builder.children.entrySet()) {
+                literalKeys.add(entry.getKey());
+                literalNodes.add(compile(entry.getValue()));
+            }
+            return new Node<>(
+                    builder.isPlaceholder ? builder.content : null,
+                    builder.isGreedyPlaceholder,
+                    new LiteralTable<>(literalKeys, literalNodes),
+                    compileAll(builder.placeholdersMap),
+                    compileAll(builder.greedyPlaceholdersMap),
+                    List.copyOf(builder.queryMatchers));
+        }
+
+        private static <T> List<Node<T>> compileAll(Map<String, TreeNodeBuilder<T>> builders) {
+            List<Node<T>> result = new ArrayList<>(builders.size());
+            for (TreeNodeBuilder<T> builder : builders.values()) {
+                result.add(compile(builder));
+            }
+            return List.copyOf(result);
+        }
+
+        boolean hasLabels() {
+            return !labels.isEmpty() || !greedyLabels.isEmpty();
+        }
+
+        /**
+         * Routes the segments starting at {@code index}, with
+         * {@code depth} labels captured so far. Mirrors the traversal
+         * order of {@link TreeNode}: literals, then labels, then greedy
+         * labels, and finally extending this node's greedy capture.
+         *
+         * @return The best match, or null if nothing matches.
+         */
+        TrieMatch<T> route(MatchState state, int index, int depth) {
+            if (index == state.segmentCount) {
+                return leaves.isEmpty() ? null : matchLeaves(state, depth);
+            }
+            int start = state.segmentStarts[index];
+            int end = state.segmentEnds[index];
+            TrieMatch<T> result;
+            Node<T> child = literals.get(state.uri, start, end);
+            if (child != null) {
+                result = child.route(state, index + 1, depth);
+                if (result != null) {
+                    return result;
+                }
+            }
+            result = routeLabels(state, index, depth, labels);
+            if (result != null) {
+                return result;
+            }
+            result = routeLabels(state, index, depth, greedyLabels);
+            if (result != null) {
+                return result;
+            }
+            if (isGreedyLabel) {
+                // This node's own capture is the innermost one, stretch
+                // it over the current segment.
+                int previousEnd = state.captureEnds[depth - 1];
+                state.captureEnds[depth - 1] = end;
+                result = route(state, index + 1, depth);
+                state.captureEnds[depth - 1] = previousEnd;
+            }
+            return result;
+        }
+
+        private static <T> TrieMatch<T> routeLabels(MatchState state, int index, int depth, List<Node<T>> nodes) {
+            TrieMatch<T> best = null;
+            for (int i = 0; i < nodes.size(); i++) {
+                Node<T> node = nodes.get(i);
+                state.captureNames[depth] = node.label;
+                state.captureStarts[depth] = state.segmentStarts[index];
+                state.captureEnds[depth] = state.segmentEnds[index];
+                TrieMatch<T> result = node.route(state, index + 1, depth + 1);
+                if (result != null && (best == null || result.isBetterThan(best))) {
+                    best = result;
+                }
+            }
+            return best;
+        }
+
+        private TrieMatch<T> matchLeaves(MatchState state, int depth) {
+            TrieMatch<T> best = null;
+            for (int i = 0; i < leaves.size(); i++) {
+                QueryMatcher<T> leaf = leaves.get(i);
+                int pathRank = leaf.getPathRank();
+                int queryRank = leaf.getQueryRank();
+                if (best != null && !isBetter(pathRank, queryRank, best.pathRank, best.queryRank)) {
+                    continue;
+                }
+                Match queryMatch = TreeNode.NO_QUERY_MATCH;
+                if (leaf.hasQueryPattern()) {
+                    queryMatch = leaf.matchQuery(state.parsedQuery());
+                    if (queryMatch == null) {
+                        continue;
+                    }
+                }
+                best = new TrieMatch<>(state, depth, queryMatch, leaf.getValue(), pathRank, queryRank);
+            }
+            return best;
+        }
+    }
+
+    static boolean isBetter(int pathRank, int queryRank, int otherPathRank, int otherQueryRank) {
+        if (pathRank == otherPathRank) {
+            return queryRank > otherQueryRank;
+        }
+        return pathRank > otherPathRank;
+    }
+
+    /**
+     * Open addressing table of literal segments, probed with a
+     * character range of the URI so that no substring is created.
+     *
+     * @param <T> The type that the URI patterns map to.
+     */
+    static final class LiteralTable<T> {
+        private final String[] keys;
+        private final Object[] nodes;
+        private final int mask;
+
+        LiteralTable(List<String> keys, List<Node<T>> nodes) {
+            int capacity = Integer.highestOneBit(Math.max(1, keys.size()) * 2) * 2;
+            this.keys = new String[capacity];
+            this.nodes = new Object[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                int slot = spread(key.hashCode()) & mask;
+                while (this.keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = key;
+                this.nodes[slot] = nodes.get(i);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> get(String uri, int start, int end) {
+            int length = end - start;
+            // Same function as String#hashCode so it agrees with the
+            // hashes computed for the keys at build time.
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + uri.charAt(i);
+            }
+            for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+                String key = keys[slot];
+                if (key.length() == length && uri.regionMatches(start, key, 0, length)) {
+                    return (Node<T>) nodes[slot];
+                }
+            }
+            return null;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * Per-call matching state: segment offsets of the URI path and
+     * the stack of labels captured along the current trie branch.
+     */
+    static final class MatchState {
+        private final String uri;
+        private final boolean allowEmptyPathSegments;
+        private final int queryStart;
+        private int[] segmentStarts;
+        private int[] segmentEnds;
+        private int segmentCount;
+        private final String[] captureNames;
+        private final int[] captureStarts;
+        private final int[] captureEnds;
+        private ParsedUri parsedQuery;
+
+        MatchState(String uri, boolean allowEmptyPathSegments) {
+            this.uri = uri;
+            this.allowEmptyPathSegments = allowEmptyPathSegments;
+            int questionMark = uri.indexOf('?');
+            this.queryStart = questionMark < 0 ? -1 : questionMark + 1;
+            splitPath(questionMark < 0 ? uri.length() : questionMark);
+            int maxCaptures = Math.max(1, segmentCount);
+            this.captureNames = new String[maxCaptures];
+            this.captureStarts = new int[maxCaptures];
+            this.captureEnds = new int[maxCaptures];
+        }
+
+        /**
+         * Records the segments of the path the same way as
+         * {@code UriUtils.getRawPath} followed by
+         * {@code ParsedUri.getPathSegments}: leading and trailing
+         * slashes are ignored, and repeated slashes are collapsed unless
+         * empty path segments are allowed.
+         */
+        private void splitPath(int pathEnd) {
+            int from = 0;
+            while (from < pathEnd - 1 && uri.charAt(from) == '/') {
+                from++;
+            }
+            int to = pathEnd;
+            while (to > from && uri.charAt(to - 1) == '/') {
+                to--;
+            }
+            segmentStarts = new int[8];
+            segmentEnds = new int[8];
+            int end = from;
+            int start;
+            do {
+                start = end;
+                if (allowEmptyPathSegments) {
+                    if (start < to && uri.charAt(start) == '/') {
+                        start++;
+                    }
+                } else {
+                    while (start < to && uri.charAt(start) == '/') {
+                        start++;
+                    }
+                }
+                end = start;
+                while (end < to && uri.charAt(end) != '/') {
+                    end++;
+                }
+                addSegment(start, end);
+                if (end == start) {
+                    ++end;
+                }
+            } while (end < to);
+            if (segmentCount == 1 && segmentStarts[0] == segmentEnds[0]) {
+                segmentCount = 0;
+            }
+        }
+
+        private void addSegment(int start, int end) {
+            if (segmentCount == segmentStarts.length) {
+                segmentStarts = Arrays.copyOf(segmentStarts, segmentCount * 2);
+                segmentEnds = Arrays.copyOf(segmentEnds, segmentCount * 2);
+            }
+            segmentStarts[segmentCount] = start;
+            segmentEnds[segmentCount] = end;
+            segmentCount++;
+        }
+
+        void useSingleEmptySegment() {
+            segmentStarts[0] = 0;
+            segmentEnds[0] = 0;
+            segmentCount = 1;
+        }
+
+        void useNoSegments() {
+            segmentCount = 0;
+        }
+
+        ParsedUri parsedQuery() {
+            if (parsedQuery == null) {
+                String query = queryStart < 0 ? null : uri.substring(queryStart);
+                parsedQuery = new ParsedUri(query, List.of(), allowEmptyPathSegments);
+            }
+            return parsedQuery;
+        }
+    }
+
+    /**
+     * A {@link ValuedMatch} holding label captures as URI offsets.
+     *
+     * @param <T> The type that the URI patterns map to.
+     */
+    static final class TrieMatch<T> implements ValuedMatch<T> {
+        private final String uri;
+        private final boolean allowEmptyPathSegments;
+        private final String[] labels;
+        private final int[] starts;
+        private final int[] ends;
+        private final Match queryMatch;
+        private final T value;
+        private final int pathRank;
+        private final int queryRank;
+
+        TrieMatch(MatchState state, int captures, Match queryMatch, T value, int pathRank, int queryRank) {
+            this.uri = state.uri;
+            this.allowEmptyPathSegments = state.allowEmptyPathSegments;
+            this.labels = Arrays.copyOf(state.captureNames, captures);
+            this.starts = Arrays.copyOf(state.captureStarts, captures);
+            this.ends = Arrays.copyOf(state.captureEnds, captures);
+            this.queryMatch = queryMatch;
+            this.value = value;
+            this.pathRank = pathRank;
+            this.queryRank = queryRank;
+        }
+
+        @Override
+        public List<String> getLabelValues(String label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i].equals(label)) {
+                    return List.of(labelValue(i));
+                }
+            }
+            return queryMatch.getLabelValues(label);
+        }
+
+        @Override
+        public boolean isPathLabel(String label) {
+            for (String captured : labels) {
+                if (captured.equals(label)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public T getValue() {
+            return value;
+        }
+
+        boolean isBetterThan(TrieMatch<T> other) {
+            return isBetter(pathRank, queryRank, other.pathRank, other.queryRank);
+        }
+
+        private String labelValue(int index) {
+            String raw = uri.substring(starts[index], ends[index]);
+            // A greedy label spanning several segments: the tree
+            // matcher joins them with single slashes.
+            if (!allowEmptyPathSegments && raw.contains("//")) {
+                StringBuilder joined = new StringBuilder(raw.length());
+                for (int i = 0; i < raw.length(); i++) {
+                    char c = raw.charAt(i);
+                    if (c != '/' || joined.isEmpty() || joined.charAt(joined.length() - 1) != '/') {
+                        joined.append(c);
+                    }
+                }
+                return joined.toString();
+            }
+            return raw;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.server.restjson.router;
+
+/**
+ * A {@link UriMatcherMapBuilder} implementation that builds a
+ * {@link SegmentTrieMatcherMap}.
+ *
+ * <p>Patterns are collected with the same tree builder used by
+ * {@link UriTreeMatcherMap}, so both matchers route identically, and
+ * compiled into the trie on {@link #build()}.
+ *
+ * @param <T> The type that the URI patterns map to.
+ */
+final class SegmentTrieMatcherMapBuilder<T> implements UriMatcherMapBuilder<T> {
+    private final UriTreeMatcherMapBuilder<T> tree = new UriTreeMatcherMapBuilder<>();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(UriPattern pattern, T mapping) {
+        tree.add(pattern, mapping);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UriMatcherMap<T> build() {
+        return new SegmentTrieMatcherMap<>(
+                SegmentTrieMatcherMap.Node.compile(tree.getRoot()),
+                tree.getAllowEmptyPathSegments());
+    }
+}
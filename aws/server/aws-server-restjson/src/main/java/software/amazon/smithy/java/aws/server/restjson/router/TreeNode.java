@@ -286,6 +286,18 @@ final class TreeNode<T> {
             return UriTreeMatcherMap.noMatch();
         }
 
+        int getPathRank() {
+            return pathRank;
+        }
+
+        T getValue() {
+            return value;
+        }
+
+        boolean hasQueryPattern() {
+            return queryPattern != null;
+        }
+
         int getQueryRank() {
             if (queryPattern == null) {
                 return 0;
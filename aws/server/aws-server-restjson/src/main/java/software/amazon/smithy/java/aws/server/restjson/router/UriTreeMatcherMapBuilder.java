@@ -44,7 +44,15 @@ final class UriTreeMatcherMapBuilder<T> implements UriMatcherMapBuilder<T> {
      */
     @Override
     public UriMatcherMap<T> build() {
-        return new UriTreeMatcherMap<>(root.seal(), allowEmptyPathSegments != null && allowEmptyPathSegments);
+        return new UriTreeMatcherMap<>(root.seal(), getAllowEmptyPathSegments());
+    }
+
+    TreeNodeBuilder<T> getRoot() {
+        return root;
+    }
+
+    boolean getAllowEmptyPathSegments() {
+        return allowEmptyPathSegments != null && allowEmptyPathSegments;
     }
 
     /**
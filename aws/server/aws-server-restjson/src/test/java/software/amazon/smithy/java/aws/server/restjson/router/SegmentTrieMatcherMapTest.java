@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.aws.server.restjson.router;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class SegmentTrieMatcherMapTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "/",
+            "/{root}",
+            "/things",
+            "/things/{id}",
+            "/things/{id}/parts/{part}",
+            "/things/special",
+            "/things/{id}?mode=fast",
+            "/things/{id}?mode=fast&level=1",
+            "/files/{key+}",
+            "/files/{key+}/meta",
+            "/a/{b}/c",
+            "/a/{x}/d");
+
+    private static final List<String> LABELS = List.of("root", "id", "part", "key", "b", "x");
+
+    static Stream<Arguments> uris() {
+        return Stream.of(
+                "/",
+                "",
+                "/foo",
+                "/things",
+                "/things/",
+                "//things//123",
+                "/things/special",
+                "/things/123",
+                "/things/123/parts/9",
+                "/things/123?mode=fast",
+                "/things/123?mode=fast&level=1",
+                "/things/123?mode=slow",
+                "/files/a",
+                "/files/a/b/c",
+                "/files/a//b/c/",
+                "/files/a/b/meta",
+                "/a/1/c",
+                "/a/1/d",
+                "/a/1/e",
+                "/nothing/here/at/all").map(Arguments::of);
+    }
+
+    @ParameterizedTest
+    @MethodSource("uris")
+    public void routesLikeTreeMatcher(String uri) {
+        assertSameMatch(uri, false);
+    }
+
+    @ParameterizedTest
+    @MethodSource("uris")
+    public void routesLikeTreeMatcherWithEmptySegments(String uri) {
+        assertSameMatch(uri, true);
+    }
+
+    private static void assertSameMatch(String uri, boolean allowEmptyPathSegments) {
+        var treeBuilder = UriTreeMatcherMap.<String>builder();
+        var trieBuilder = SegmentTrieMatcherMap.<String>builder();
+        for (String pattern : PATTERNS) {
+            treeBuilder.add(UriPattern.forSpecificityRouting(pattern, allowEmptyPathSegments), pattern);
+            trieBuilder.add(UriPattern.forSpecificityRouting(pattern, allowEmptyPathSegments), pattern);
+        }
+        var expected = treeBuilder.build().match(uri);
+        var actual = trieBuilder.build().match(uri);
+
+        if (expected == null) {
+            assertThat(actual, nullValue());
+            return;
+        }
+        assertThat(actual.getValue(), equalTo(expected.getValue()));
+        for (String label : LABELS) {
+            assertThat(label, actual.getLabelValues(label), equalTo(expected.getLabelValues(label)));
+            assertThat(label, actual.isPathLabel(label), equalTo(expected.isPathLabel(label)));
+        }
+    }
+}
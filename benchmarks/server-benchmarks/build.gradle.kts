@@ -0,0 +1,88 @@
+plugins {
+    id("smithy-java.java-conventions")
+    id("smithy-java.jmh-conventions")
+    id("software.amazon.smithy.gradle.smithy-base")
+}
+
+description = "End-to-end throughput and latency benchmarks for the smithy-java server stack."
+
+// Not published. No `smithy-java.module-conventions`, no publishing, no BOM entry.
+
+// Benchmarks target JDK 25, see `benchmarks/build.gradle.kts`.
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(25)
+    }
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.release.set(25)
+}
+
+dependencies {
+    // Protocol traits used by the benchmark model.
+    implementation(libs.smithy.model)
+    implementation(libs.smithy.aws.traits)
+    implementation(libs.smithy.protocol.traits)
+
+    // Server-mode codegen for the benchmark services (see `smithy-build.json`).
+    smithyBuild(project(":codegen:codegen-plugin"))
+    smithyBuild(project(":server:server-api"))
+
+    // The server stack under test, with every protocol it serves.
+    jmh(project(":core"))
+    jmh(project(":io"))
+    jmh(project(":server:server-api"))
+    jmh(project(":server:server-core"))
+    jmh(project(":server:server-netty"))
+    jmh(project(":server:server-rpcv2-cbor"))
+    jmh(project(":server:server-rpcv2-json"))
+    jmh(project(":aws:server:aws-server-restjson"))
+    jmh(project(":codecs:cbor-codec"))
+    jmh(project(":codecs:json-codec", configuration = "shadow"))
+
+    // Load generator.
+    jmh(project(":http:http-api"))
+    jmh(project(":http:http-client"))
+}
+
+// One codegen projection per protocol, each in its own package so the shared
+// operation shapes don't collide.
+val codegenProjections = listOf("cbor-server", "json-server", "restjson-server")
+
+afterEvaluate {
+    val projectionPaths =
+        codegenProjections.map { name ->
+            smithy.getPluginProjectionPath(name, "java-codegen").get()
+        }
+    sourceSets.named("jmh") {
+        java {
+            projectionPaths.forEach { srcDir("$it/java") }
+        }
+        resources {
+            projectionPaths.forEach { srcDir("$it/resources") }
+        }
+    }
+}
+
+tasks.named("compileJmhJava") {
+    dependsOn("smithyBuild")
+}
+
+tasks.named<Copy>("processJmhResources") {
+    duplicatesStrategy = DuplicatesStrategy.INCLUDE
+    dependsOn("smithyBuild")
+}
+
+// Client concurrency: -Pjmh.threads=N (default 16).
+// Throughput and latency percentiles come from the two benchmark modes; the gc
+// profiler reports the allocation rate per request (client and server together).
+jmh {
+    benchmarkMode.set(listOf("thrpt", "sample"))
+    timeUnit = "ms"
+    threads = providers.gradleProperty("jmh.threads").orElse("16").get().toInt()
+    profilers.add("gc")
+    jvmArgs.addAll("-Xms2g", "-Xmx2g", "-XX:+UseG1GC", "-XX:+AlwaysPreTouch")
+    resultFormat = "json"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
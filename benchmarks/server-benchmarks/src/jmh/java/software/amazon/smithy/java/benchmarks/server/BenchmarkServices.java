@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.benchmarks.server;
+
+import software.amazon.smithy.java.benchmarks.server.generated.cbor.service.CborBenchmarkService;
+import software.amazon.smithy.java.benchmarks.server.generated.json.service.JsonBenchmarkService;
+import software.amazon.smithy.java.benchmarks.server.generated.restjson.service.RestJsonBenchmarkService;
+import software.amazon.smithy.java.server.RequestContext;
+import software.amazon.smithy.java.server.Service;
+
+/**
+ * Echo implementations of the codegen-generated benchmark services, one per protocol.
+ */
+final class BenchmarkServices {
+
+    private BenchmarkServices() {}
+
+    static Service cbor() {
+        return CborBenchmarkService.builder().addPutItemOperation(new CborPutItem()).build();
+    }
+
+    static Service json() {
+        return JsonBenchmarkService.builder().addPutItemOperation(new JsonPutItem()).build();
+    }
+
+    static Service restJson() {
+        return RestJsonBenchmarkService.builder().addPutItemOperation(new RestJsonPutItem()).build();
+    }
+
+    private static final class CborPutItem
+            implements software.amazon.smithy.java.benchmarks.server.generated.cbor.service.PutItemOperation {
+        @Override
+        public software.amazon.smithy.java.benchmarks.server.generated.cbor.model.PutItemOutput putItem(
+                software.amazon.smithy.java.benchmarks.server.generated.cbor.model.PutItemInput input,
+                RequestContext context
+        ) {
+            return software.amazon.smithy.java.benchmarks.server.generated.cbor.model.PutItemOutput.builder()
+                    .item(input.getItem())
+                    .build();
+        }
+    }
+
+    private static final class JsonPutItem
+            implements software.amazon.smithy.java.benchmarks.server.generated.json.service.PutItemOperation {
+        @Override
+        public software.amazon.smithy.java.benchmarks.server.generated.json.model.PutItemOutput putItem(
+                software.amazon.smithy.java.benchmarks.server.generated.json.model.PutItemInput input,
+                RequestContext context
+        ) {
+            return software.amazon.smithy.java.benchmarks.server.generated.json.model.PutItemOutput.builder()
+                    .item(input.getItem())
+                    .build();
+        }
+    }
+
+    private static final class RestJsonPutItem
+            implements software.amazon.smithy.java.benchmarks.server.generated.restjson.service.PutItemOperation {
+        @Override
+        public software.amazon.smithy.java.benchmarks.server.generated.restjson.model.PutItemOutput putItem(
+                software.amazon.smithy.java.benchmarks.server.generated.restjson.model.PutItemInput input,
+                RequestContext context
+        ) {
+            return software.amazon.smithy.java.benchmarks.server.generated.restjson.model.PutItemOutput.builder()
+                    .item(input.getItem())
+                    .build();
+        }
+    }
+}
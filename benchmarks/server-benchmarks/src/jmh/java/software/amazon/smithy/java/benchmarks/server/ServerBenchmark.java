@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.benchmarks.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import software.amazon.smithy.java.cbor.Rpcv2CborCodec;
+import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.http.api.HttpRequest;
+import software.amazon.smithy.java.http.client.HttpClient;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+import software.amazon.smithy.java.json.JsonCodec;
+import software.amazon.smithy.java.server.Server;
+import software.amazon.smithy.java.server.Service;
+
+/**
+ * Drives an in-process {@code NettyServer} with the project's own HTTP client.
+ *
+ * <p>Each protocol gets its own server hosting a single service, and every invocation is one complete
+ * request/response exchange for {@code PutItem}, which echoes its input. Request bodies are encoded once at setup,
+ * so the client side of each invocation is limited to writing bytes and draining the response; what remains is
+ * dominated by the server's connection handling, routing, orchestration and serde.
+ */
+@State(Scope.Benchmark)
+public class ServerBenchmark {
+
+    @Param({"rpcv2Cbor", "rpcv2Json", "restJson1"})
+    private String protocol;
+
+    @Param({"16", "4096"})
+    private int payloadSize;
+
+    private Server server;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        int port = freePort();
+        server = Server.builder()
+                .endpoints(URI.create("http://localhost:" + port))
+                .addService(service())
+                .build();
+        server.start();
+
+        client = HttpClient.builder()
+                .maxConnectionsPerRoute(256)
+                .maxTotalConnections(256)
+                .maxIdleTime(Duration.ofMinutes(2))
+                .build();
+
+        request = createRequest("http://localhost:" + port);
+        // Fail the trial up front rather than measuring error responses.
+        try (var response = client.send(request)) {
+            response.body().asInputStream().transferTo(OutputStream.nullOutputStream());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(protocol + " request failed with status " + response.statusCode());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() throws Exception {
+        if (client != null) {
+            client.close();
+            client = null;
+        }
+        if (server != null) {
+            server.shutdown().get(30, TimeUnit.SECONDS);
+            server = null;
+        }
+    }
+
+    @Benchmark
+    public int putItem() throws IOException {
+        try (var response = client.send(request)) {
+            response.body().asInputStream().transferTo(OutputStream.nullOutputStream());
+            return response.statusCode();
+        }
+    }
+
+    private Service service() {
+        return switch (protocol) {
+            case "rpcv2Cbor" -> BenchmarkServices.cbor();
+            case "rpcv2Json" -> BenchmarkServices.json();
+            case "restJson1" -> BenchmarkServices.restJson();
+            default -> throw new IllegalArgumentException("Unknown protocol: " + protocol);
+        };
+    }
+
+    private HttpRequest createRequest(String endpoint) {
+        var request = HttpRequest.create().setMethod("POST");
+        Codec codec;
+        String contentType;
+        switch (protocol) {
+            case "rpcv2Cbor" -> {
+                codec = Rpcv2CborCodec.builder().build();
+                contentType = "application/cbor";
+                request.setUri(SmithyUri.of(endpoint + "/service/CborBenchmarkService/operation/PutItem"))
+                        .setHeader("smithy-protocol", "rpc-v2-cbor");
+            }
+            case "rpcv2Json" -> {
+                codec = JsonCodec.builder().build();
+                contentType = "application/json";
+                request.setUri(SmithyUri.of(endpoint + "/service/JsonBenchmarkService/operation/PutItem"))
+                        .setHeader("smithy-protocol", "rpc-v2-json");
+            }
+            case "restJson1" -> {
+                codec = JsonCodec.builder().build();
+                contentType = "application/json";
+                request.setUri(SmithyUri.of(endpoint + "/items"));
+            }
+            default -> throw new IllegalArgumentException("Unknown protocol: " + protocol);
+        }
+        ByteBuffer body = codec.serialize(input());
+        byte[] bytes = new byte[body.remaining()];
+        body.get(bytes);
+        return request.setHeader("content-type", contentType)
+                .setHeader("content-length", Integer.toString(bytes.length))
+                .setBody(DataStream.ofBytes(bytes, contentType));
+    }
+
+    private Document input() {
+        List<Document> tags = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tags.add(Document.of("tag-" + i));
+        }
+        var item = Document.of(Map.of(
+                "id",
+                Document.of("item-1"),
+                "name",
+                Document.of("benchmark"),
+                "count",
+                Document.of(42),
+                "tags",
+                Document.of(tags),
+                "payload",
+                Document.of(new byte[payloadSize])));
+        return Document.of(Map.of("item", item));
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -39,5 +39,12 @@ public final class HttpContext {
     public static final Context.Key<Boolean> DISABLE_REQUEST_COMPRESSION =
             Context.key("If request compression is disabled");
 
+    /**
+     * If response decompression is disabled. When disabled, no Accept-Encoding header is added and compressed
+     * responses are passed through as-is.
+     */
+    public static final Context.Key<Boolean> DISABLE_RESPONSE_DECOMPRESSION =
+            Context.key("If response decompression is disabled");
+
     private HttpContext() {}
 }
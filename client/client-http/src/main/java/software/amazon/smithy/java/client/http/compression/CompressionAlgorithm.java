@@ -10,7 +10,7 @@ import software.amazon.smithy.java.io.datastream.DataStream;
 
 /**
  * Represents a compression algorithm that can be used to compress request
- * bodies.
+ * bodies and decompress response bodies.
  */
 public interface CompressionAlgorithm {
     /**
@@ -24,6 +24,11 @@ public interface CompressionAlgorithm {
      */
     DataStream compress(DataStream data);
 
+    /**
+     * Decompresses content encoded with this algorithm as it's read.
+     */
+    DataStream decompress(DataStream data);
+
     List<CompressionAlgorithm> SUPPORTED_ALGORITHMS = List.of(new Gzip());
 
     static List<CompressionAlgorithm> supportedAlgorithms() {
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.http.compression;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterInputStream;
+import java.util.zip.DeflaterOutputStream;
+import software.amazon.smithy.java.io.ByteBufferOutputStream;
+import software.amazon.smithy.java.io.datastream.DataStream;
+
+/**
+ * The "deflate" content coding: zlib-wrapped DEFLATE data.
+ *
+ * <p>Decompression also accepts raw DEFLATE data, which some servers send instead.
+ */
+public final class Deflate implements CompressionAlgorithm {
+
+    @Override
+    public String algorithmId() {
+        return "deflate";
+    }
+
+    @Override
+    public DataStream compress(DataStream data) {
+        if (!data.hasKnownLength()) { // Using streaming
+            return DataStream.ofInputStream(new DeflaterInputStream(data.asInputStream()), data.contentType(), -1);
+        }
+
+        try (var bos = new ByteBufferOutputStream();
+                var in = data.asInputStream()) {
+            var deflate = new DeflaterOutputStream(bos);
+            in.transferTo(deflate);
+            deflate.close();
+            return DataStream.ofByteBuffer(bos.toByteBuffer());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public DataStream decompress(DataStream data) {
+        return DataStream.ofInputStream(new InflatingInputStream(data.asInputStream(), false), data.contentType(), -1);
+    }
+}
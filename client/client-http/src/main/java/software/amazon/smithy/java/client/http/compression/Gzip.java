@@ -32,9 +32,14 @@ public final class Gzip implements CompressionAlgorithm {
             var gzip = new GZIPOutputStream(bos);
             in.transferTo(gzip);
             gzip.close();
-            return DataStream.ofBytes(bos.toByteBuffer().array());
+            return DataStream.ofByteBuffer(bos.toByteBuffer());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
+
+    @Override
+    public DataStream decompress(DataStream data) {
+        return DataStream.ofInputStream(new InflatingInputStream(data.asInputStream(), true), data.contentType(), -1);
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.http.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Inflater;
+
+/**
+ * A bounded pool of {@link Inflater}s.
+ *
+ * <p>Each inflater holds native zlib state that is only freed by {@link Inflater#end()} or a cleaner, so reusing them
+ * avoids allocating and tearing down that state for every response. Inflaters that don't fit in the pool are ended
+ * right away.
+ */
+final class InflaterPool {
+    private static final int MAX_POOLED = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    /**
+     * Inflaters for raw DEFLATE data, as found inside a GZIP member.
+     */
+    static final InflaterPool RAW = new InflaterPool(true);
+
+    /**
+     * Inflaters for zlib-wrapped DEFLATE data.
+     */
+    static final InflaterPool ZLIB = new InflaterPool(false);
+
+    private final boolean nowrap;
+    private final ArrayBlockingQueue<Inflater> pooled = new ArrayBlockingQueue<>(MAX_POOLED);
+
+    private InflaterPool(boolean nowrap) {
+        this.nowrap = nowrap;
+    }
+
+    Inflater acquire() {
+        var inflater = pooled.poll();
+        return inflater != null ? inflater : new Inflater(nowrap);
+    }
+
+    void release(Inflater inflater) {
+        inflater.reset();
+        if (!pooled.offer(inflater)) {
+            inflater.end();
+        }
+    }
+}
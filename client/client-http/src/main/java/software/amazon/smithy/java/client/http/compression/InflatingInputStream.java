@@ -0,0 +1,258 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.http.compression;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * An InputStream that decompresses GZIP or DEFLATE data from a source InputStream as it's read.
+ *
+ * <p>Unlike {@link java.util.zip.GZIPInputStream}, the {@link Inflater} is borrowed from an {@link InflaterPool} and
+ * returned as soon as the compressed data ends or the stream is closed.
+ *
+ * <p>GZIP data may contain multiple members, and each member's CRC and size are verified. Like GZIPInputStream, data
+ * after a member that doesn't start another member, such as zero padding, is ignored. DEFLATE data may be either
+ * zlib-wrapped, as HTTP specifies, or raw, as some servers send it.
+ */
+final class InflatingInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final InputStream source;
+    private final boolean gzip;
+    private final CRC32 crc;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+    private InflaterPool pool;
+    private Inflater inflater;
+    private boolean needsHeader = true;
+    private boolean eof;
+    private boolean closed;
+
+    InflatingInputStream(InputStream source, boolean gzip) {
+        this.source = Objects.requireNonNull(source, "source");
+        this.gzip = gzip;
+        this.crc = gzip ? new CRC32() : null;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int result = read(b, 0, 1);
+        return result == -1 ? -1 : (b[0] & 0xFF);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+
+        while (!eof) {
+            if (needsHeader) {
+                if (!startMember()) {
+                    finish();
+                    break;
+                }
+                needsHeader = false;
+            }
+
+            int n;
+            try {
+                n = inflater.inflate(b, off, len);
+            } catch (DataFormatException e) {
+                throw new ZipException(e.getMessage() != null ? e.getMessage() : "Invalid compressed data");
+            }
+            pos = limit - inflater.getRemaining();
+
+            if (n > 0) {
+                if (gzip) {
+                    crc.update(b, off, n);
+                }
+                return n;
+            } else if (inflater.finished()) {
+                if (gzip) {
+                    readTrailer();
+                    inflater.reset();
+                    crc.reset();
+                    // Another GZIP member may follow.
+                    needsHeader = true;
+                } else {
+                    finish();
+                }
+            } else if (inflater.needsDictionary()) {
+                throw new ZipException("Compressed data requires a preset dictionary");
+            } else if (inflater.needsInput()) {
+                if (!ensure(1)) {
+                    throw new EOFException("Unexpected end of compressed data");
+                }
+                inflater.setInput(buffer, pos, limit - pos);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Reads the header of the next member, if any, and feeds the buffered data after it to the inflater.
+     *
+     * @return true if a member was started, false if the source is exhausted.
+     */
+    private boolean startMember() throws IOException {
+        if (!ensure(1)) {
+            return false;
+        }
+
+        if (inflater == null) {
+            pool = gzip || !isZlibHeader() ? InflaterPool.RAW : InflaterPool.ZLIB;
+            inflater = pool.acquire();
+        } else if (!isGzipHeader()) {
+            // Trailing data after a GZIP member ends the stream.
+            return false;
+        }
+
+        if (gzip) {
+            readGzipHeader();
+        }
+
+        inflater.setInput(buffer, pos, limit - pos);
+        return true;
+    }
+
+    private boolean isZlibHeader() throws IOException {
+        if (!ensure(2)) {
+            return false;
+        }
+        int cmf = buffer[pos] & 0xFF;
+        int flg = buffer[pos + 1] & 0xFF;
+        return (cmf & 0x0F) == 8 && ((cmf << 8) | flg) % 31 == 0;
+    }
+
+    private boolean isGzipHeader() throws IOException {
+        return ensure(2) && ((buffer[pos] & 0xFF) | ((buffer[pos + 1] & 0xFF) << 8)) == GZIP_MAGIC;
+    }
+
+    private void readGzipHeader() throws IOException {
+        if (readUShort() != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        } else if (readUByte() != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readUByte();
+        // Skip MTIME, XFL, and OS.
+        skipBytes(6);
+        if ((flags & FEXTRA) != 0) {
+            skipBytes(readUShort());
+        }
+        if ((flags & FNAME) != 0) {
+            skipZeroTerminated();
+        }
+        if ((flags & FCOMMENT) != 0) {
+            skipZeroTerminated();
+        }
+        if ((flags & FHCRC) != 0) {
+            skipBytes(2);
+        }
+    }
+
+    private void readTrailer() throws IOException {
+        long expectedCrc = readUInt();
+        long expectedSize = readUInt();
+        if (expectedCrc != crc.getValue()) {
+            throw new ZipException("Corrupt GZIP trailer: CRC mismatch");
+        } else if (expectedSize != (inflater.getBytesWritten() & 0xFFFFFFFFL)) {
+            throw new ZipException("Corrupt GZIP trailer: size mismatch");
+        }
+    }
+
+    private long readUInt() throws IOException {
+        return readUShort() | ((long) readUShort() << 16);
+    }
+
+    private int readUShort() throws IOException {
+        return readUByte() | (readUByte() << 8);
+    }
+
+    private int readUByte() throws IOException {
+        if (!ensure(1)) {
+            throw new EOFException("Unexpected end of GZIP data");
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    private void skipBytes(int n) throws IOException {
+        for (int i = 0; i < n; i++) {
+            readUByte();
+        }
+    }
+
+    private void skipZeroTerminated() throws IOException {
+        while (readUByte() != 0) {
+            // Skip until the terminating zero.
+        }
+    }
+
+    /**
+     * Ensures at least {@code n} unread bytes are buffered, reading from the source as needed.
+     *
+     * @return false if the source ended first.
+     */
+    private boolean ensure(int n) throws IOException {
+        if (limit - pos >= n) {
+            return true;
+        }
+        if (pos > 0) {
+            System.arraycopy(buffer, pos, buffer, 0, limit - pos);
+            limit -= pos;
+            pos = 0;
+        }
+        while (limit < n) {
+            int read = source.read(buffer, limit, buffer.length - limit);
+            if (read == -1) {
+                return false;
+            }
+            limit += read;
+        }
+        return true;
+    }
+
+    private void finish() {
+        eof = true;
+        if (inflater != null) {
+            pool.release(inflater);
+            inflater = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                finish();
+            } finally {
+                source.close();
+            }
+        }
+    }
+}
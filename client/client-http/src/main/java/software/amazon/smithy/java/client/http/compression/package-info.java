@@ -1,4 +1,4 @@
 /**
- * HTTP request compression support.
+ * HTTP request compression and response decompression support.
  */
 package software.amazon.smithy.java.client.http.compression;
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.http.plugins;
+
+import java.util.List;
+import java.util.Locale;
+import software.amazon.smithy.java.client.core.AutoClientPlugin;
+import software.amazon.smithy.java.client.core.ClientConfig;
+import software.amazon.smithy.java.client.core.interceptors.ClientInterceptor;
+import software.amazon.smithy.java.client.core.interceptors.RequestHook;
+import software.amazon.smithy.java.client.core.interceptors.ResponseHook;
+import software.amazon.smithy.java.client.http.HttpContext;
+import software.amazon.smithy.java.client.http.HttpMessageExchange;
+import software.amazon.smithy.java.client.http.compression.CompressionAlgorithm;
+import software.amazon.smithy.java.client.http.compression.Deflate;
+import software.amazon.smithy.java.client.http.compression.Gzip;
+import software.amazon.smithy.java.context.Context;
+import software.amazon.smithy.java.core.schema.ApiOperation;
+import software.amazon.smithy.java.http.api.HeaderName;
+import software.amazon.smithy.java.http.api.HttpRequest;
+import software.amazon.smithy.java.http.api.HttpResponse;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Advertises supported content codings with Accept-Encoding and decompresses encoded response bodies as they're read.
+ *
+ * <p>Operations with a streaming output are left alone, since their Content-Encoding describes the payload itself
+ * and callers expect to receive it as-is. Decompression can be disabled using
+ * {@link HttpContext#DISABLE_RESPONSE_DECOMPRESSION}.
+ */
+@SmithyInternalApi
+public final class ResponseDecompressionPlugin implements AutoClientPlugin {
+
+    @Override
+    public void configureClient(ClientConfig.Builder config) {
+        if (config.isUsingMessageExchange(HttpMessageExchange.INSTANCE)) {
+            config.addInterceptor(ResponseDecompressionInterceptor.INSTANCE);
+        }
+    }
+
+    static final class ResponseDecompressionInterceptor implements ClientInterceptor {
+
+        private static final ClientInterceptor INSTANCE = new ResponseDecompressionInterceptor();
+        private static final List<CompressionAlgorithm> SUPPORTED_ALGORITHMS = List.of(new Gzip(), new Deflate());
+        private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+        @Override
+        public <RequestT> RequestT modifyBeforeRetryLoop(RequestHook<?, ?, RequestT> hook) {
+            if (hook.request() instanceof HttpRequest req
+                    && shouldDecompress(hook.operation(), hook.context())
+                    && !req.headers().hasHeader(HeaderName.ACCEPT_ENCODING)) {
+                var modifiable = req.toModifiable();
+                modifiable.headers().setHeader(HeaderName.ACCEPT_ENCODING, ACCEPT_ENCODING);
+                return hook.asRequestType(modifiable);
+            }
+            return hook.request();
+        }
+
+        @Override
+        public <ResponseT> ResponseT modifyBeforeDeserialization(ResponseHook<?, ?, ?, ResponseT> hook) {
+            if (hook.response() instanceof HttpResponse res && shouldDecompress(hook.operation(), hook.context())) {
+                var algorithm = findAlgorithm(res.headers().firstValue(HeaderName.CONTENT_ENCODING));
+                if (algorithm != null && res.body() != null && res.body().contentLength() != 0) {
+                    var modifiable = res.toModifiable();
+                    modifiable.headers().removeHeader(HeaderName.CONTENT_ENCODING);
+                    modifiable.headers().removeHeader(HeaderName.CONTENT_LENGTH);
+                    modifiable.setBody(algorithm.decompress(res.body()));
+                    return hook.asResponseType(modifiable);
+                }
+            }
+            return hook.response();
+        }
+
+        private static boolean shouldDecompress(ApiOperation<?, ?> operation, Context context) {
+            return operation.outputStreamMember() == null
+                    && !context.getOrDefault(HttpContext.DISABLE_RESPONSE_DECOMPRESSION, false);
+        }
+
+        // Only a single coding is decoded; anything else, like "gzip, br", is passed through.
+        private static CompressionAlgorithm findAlgorithm(String contentEncoding) {
+            if (contentEncoding != null) {
+                var coding = contentEncoding.trim().toLowerCase(Locale.ROOT);
+                for (var algorithm : SUPPORTED_ALGORITHMS) {
+                    if (coding.equals(algorithm.algorithmId())) {
+                        return algorithm;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.http.compression;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.io.datastream.DataStream;
+
+public class InflatingInputStreamTest {
+
+    private static final byte[] DATA = "Hello World! ".repeat(10000).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void decompressesGzip() throws Exception {
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(gzip(DATA)), true)) {
+            assertArrayEquals(DATA, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void decompressesGzipReadOneByteAtATime() throws Exception {
+        var source = new OneByteInputStream(new ByteArrayInputStream(gzip("Hello".getBytes(StandardCharsets.UTF_8))));
+
+        try (var in = new InflatingInputStream(source, true)) {
+            var out = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                out.write(b);
+            }
+            assertEquals("Hello", out.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void decompressesConcatenatedGzipMembers() throws Exception {
+        var first = gzip("Hello ".getBytes(StandardCharsets.UTF_8));
+        var second = gzip("World".getBytes(StandardCharsets.UTF_8));
+        var both = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, both, first.length, second.length);
+
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(both), true)) {
+            assertEquals("Hello World", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void ignoresPaddingAfterGzipMember() throws Exception {
+        var compressed = gzip(DATA);
+        var padded = Arrays.copyOf(compressed, compressed.length + 512);
+
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(padded), true)) {
+            assertArrayEquals(DATA, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void ignoresSingleTrailingByteAfterGzipMember() throws Exception {
+        var compressed = gzip(DATA);
+        var padded = Arrays.copyOf(compressed, compressed.length + 1);
+
+        try (var in = new InflatingInputStream(new OneByteInputStream(new ByteArrayInputStream(padded)), true)) {
+            assertArrayEquals(DATA, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void compressesOnlyTheWrittenBytes() throws Exception {
+        var gzipped = new Gzip().compress(DataStream.ofBytes(DATA));
+        var deflated = new Deflate().compress(DataStream.ofBytes(DATA));
+
+        var expectedGzip = gzip(DATA);
+        assertEquals(expectedGzip.length, gzipped.contentLength());
+        assertArrayEquals(expectedGzip, gzipped.asInputStream().readAllBytes());
+        var expectedDeflate = deflate(DATA, false);
+        assertEquals(expectedDeflate.length, deflated.contentLength());
+        assertArrayEquals(expectedDeflate, deflated.asInputStream().readAllBytes());
+    }
+
+    @Test
+    public void decompressesZlibDeflate() throws Exception {
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(deflate(DATA, false)), false)) {
+            assertArrayEquals(DATA, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void decompressesRawDeflate() throws Exception {
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(deflate(DATA, true)), false)) {
+            assertArrayEquals(DATA, in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void emptySourceIsEmpty() throws Exception {
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(new byte[0]), true)) {
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void failsOnCorruptTrailer() throws Exception {
+        var compressed = gzip(DATA);
+        compressed[compressed.length - 8] ^= 1;
+
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(compressed), true)) {
+            assertThrows(ZipException.class, in::readAllBytes);
+        }
+    }
+
+    @Test
+    public void failsOnTruncatedData() throws Exception {
+        var compressed = gzip(DATA);
+        var truncated = Arrays.copyOf(compressed, compressed.length / 2);
+
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(truncated), true)) {
+            assertThrows(EOFException.class, in::readAllBytes);
+        }
+    }
+
+    @Test
+    public void failsOnInvalidHeader() throws Exception {
+        var notGzip = "not gzip data".getBytes(StandardCharsets.UTF_8);
+
+        try (var in = new InflatingInputStream(new ByteArrayInputStream(notGzip), true)) {
+            assertThrows(ZipException.class, in::readAllBytes);
+        }
+    }
+
+    @Test
+    public void throwsAfterClose() throws Exception {
+        var in = new InflatingInputStream(new ByteArrayInputStream(gzip(DATA)), true);
+        in.close();
+
+        assertThrows(IOException.class, in::read);
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data, boolean nowrap) throws IOException {
+        var out = new ByteArrayOutputStream();
+        var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap);
+        try (var deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(data);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static final class OneByteInputStream extends FilterInputStream {
+        private OneByteInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
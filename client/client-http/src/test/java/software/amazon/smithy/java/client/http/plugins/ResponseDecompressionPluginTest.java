@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.client.http.plugins;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.client.core.interceptors.RequestHook;
+import software.amazon.smithy.java.client.core.interceptors.ResponseHook;
+import software.amazon.smithy.java.client.http.HttpContext;
+import software.amazon.smithy.java.context.Context;
+import software.amazon.smithy.java.core.schema.ApiOperation;
+import software.amazon.smithy.java.core.schema.ApiService;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.schema.ShapeBuilder;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.java.core.serde.TypeRegistry;
+import software.amazon.smithy.java.http.api.HttpRequest;
+import software.amazon.smithy.java.http.api.HttpResponse;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.StreamingTrait;
+
+public class ResponseDecompressionPluginTest {
+
+    private static final String RESPONSE_BODY = "{\"items\":[" + "\"item\",".repeat(1000) + "\"item\"]}";
+
+    @Test
+    public void addsAcceptEncoding() throws Exception {
+        var interceptor = new ResponseDecompressionPlugin.ResponseDecompressionInterceptor();
+
+        var result = interceptor.modifyBeforeRetryLoop(
+                new RequestHook<>(createOperation(null), Context.create(), new TestInput(), createRequest()));
+
+        assertThat(result.headers().allValues("Accept-Encoding"), contains("gzip, deflate"));
+    }
+
+    @Test
+    public void keepsExistingAcceptEncoding() throws Exception {
+        var interceptor = new ResponseDecompressionPlugin.ResponseDecompressionInterceptor();
+        var req = createRequest().toModifiable().addHeader("Accept-Encoding", "identity").toUnmodifiable();
+
+        var result = interceptor.modifyBeforeRetryLoop(
+                new RequestHook<>(createOperation(null), Context.create(), new TestInput(), req));
+
+        assertThat(result.headers().allValues("Accept-Encoding"), contains("identity"));
+    }
+
+    @Test
+    public void decompressesGzipResponses() throws Exception {
+        var interceptor = new ResponseDecompressionPlugin.ResponseDecompressionInterceptor();
+        var compressed = gzip(RESPONSE_BODY);
+        var res = HttpResponse.create()
+                .setStatusCode(200)
+                .addHeader("Content-Encoding", "GZIP")
+                .addHeader("Content-Length", String.valueOf(compressed.length))
+                .setBody(DataStream.ofBytes(compressed))
+                .toUnmodifiable();
+
+        var result = interceptor.modifyBeforeDeserialization(createHook(createOperation(null), Context.create(), res));
+
+        assertThat(result.headers().allValues("Content-Encoding"), empty());
+        assertThat(result.headers().allValues("Content-Length"), empty());
+        var body = new String(result.body().asInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(body, equalTo(RESPONSE_BODY));
+    }
+
+    @Test
+    public void passesThroughUnsupportedEncodings() throws Exception {
+        var interceptor = new ResponseDecompressionPlugin.ResponseDecompressionInterceptor();
+        var res = HttpResponse.create()
+                .setStatusCode(200)
+                .addHeader("Content-Encoding", "br")
+                .setBody(DataStream.ofString(RESPONSE_BODY))
+                .toUnmodifiable();
+
+        var result = interceptor.modifyBeforeDeserialization(createHook(createOperation(null), Context.create(), res));
+
+        assertThat(result, sameInstance(res));
+    }
+
+    @Test
+    public void doesNotDecompressWhenDisabled() throws Exception {
+        var interceptor = new ResponseDecompressionPlugin.ResponseDecompressionInterceptor();
+        var context = Context.create();
+        context.put(HttpContext.DISABLE_RESPONSE_DECOMPRESSION, true);
+        var res = HttpResponse.create()
+                .setStatusCode(200)
+                .addHeader("Content-Encoding", "gzip")
+                .setBody(DataStream.ofBytes(gzip(RESPONSE_BODY)))
+                .toUnmodifiable();
+
+        var request = interceptor.modifyBeforeRetryLoop(
+                new RequestHook<>(createOperation(null), context, new TestInput(), createRequest()));
+        var result = interceptor.modifyBeforeDeserialization(createHook(createOperation(null), context, res));
+
+        assertThat(request.headers().allValues("Accept-Encoding"), empty());
+        assertThat(result, sameInstance(res));
+    }
+
+    @Test
+    public void doesNotDecompressStreamingOutput() throws Exception {
+        var interceptor = new ResponseDecompressionPlugin.ResponseDecompressionInterceptor();
+        var blobSchema = Schema.createBlob(ShapeId.from("com.test#StreamBody"), new StreamingTrait());
+        var res = HttpResponse.create()
+                .setStatusCode(200)
+                .addHeader("Content-Encoding", "gzip")
+                .setBody(DataStream.ofBytes(gzip(RESPONSE_BODY)))
+                .toUnmodifiable();
+
+        var result = interceptor.modifyBeforeDeserialization(createHook(createOperation(blobSchema),
+                Context.create(),
+                res));
+
+        assertThat(result, sameInstance(res));
+    }
+
+    private static HttpRequest createRequest() throws Exception {
+        return HttpRequest.create().setUri(new URI("/")).setMethod("POST").toUnmodifiable();
+    }
+
+    private static ResponseHook<SerializableStruct, SerializableStruct, HttpRequest, HttpResponse> createHook(
+            ApiOperation<SerializableStruct, SerializableStruct> operation,
+            Context context,
+            HttpResponse response
+    ) throws Exception {
+        return new ResponseHook<>(operation, context, new TestInput(), createRequest(), response);
+    }
+
+    private static byte[] gzip(String data) throws Exception {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(data.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static ApiOperation<SerializableStruct, SerializableStruct> createOperation(Schema streamMember) {
+        var schema = Schema.createOperation(ShapeId.from("com.test#TestOp"));
+        return new ApiOperation<>() {
+            @Override
+            public ShapeBuilder<SerializableStruct> inputBuilder() {
+                return null;
+            }
+
+            @Override
+            public ShapeBuilder<SerializableStruct> outputBuilder() {
+                return null;
+            }
+
+            @Override
+            public Schema schema() {
+                return schema;
+            }
+
+            @Override
+            public Schema inputSchema() {
+                return null;
+            }
+
+            @Override
+            public Schema outputSchema() {
+                return null;
+            }
+
+            @Override
+            public ApiService service() {
+                return null;
+            }
+
+            @Override
+            public TypeRegistry errorRegistry() {
+                return null;
+            }
+
+            @Override
+            public List<ShapeId> effectiveAuthSchemes() {
+                return List.of();
+            }
+
+            @Override
+            public List<Schema> errorSchemas() {
+                return List.of();
+            }
+
+            @Override
+            public Schema outputStreamMember() {
+                return streamMember;
+            }
+        };
+    }
+
+    private static final class TestInput implements SerializableStruct {
+        @Override
+        public Schema schema() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T getMemberValue(Schema member) {
+            return null;
+        }
+    }
+}
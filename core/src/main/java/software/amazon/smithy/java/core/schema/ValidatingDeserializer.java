@@ -0,0 +1,563 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.schema;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import software.amazon.smithy.java.core.serde.ShapeDeserializer;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.core.serde.event.EventStream;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.model.shapes.ShapeType;
+
+/**
+ * A deserializer that validates values as they are read, rather than walking the shape again once it's built.
+ *
+ * <p>Length, range, pattern, enum, required, union, sparse, and uniqueItems constraints are checked against each
+ * value as it's read from the wrapped deserializer, producing the same {@link ValidationError}s as
+ * {@link Validator#validate}. A few constraints can only be checked against the built shape: custom constraints on
+ * aggregate shapes and documents, and uniqueItems on lists of aggregates. When those are encountered and no other
+ * errors were found, {@link #readShape} validates the built shape with {@link Validator#validate} instead.
+ *
+ * <p>Create instances with {@link Validator#deserializer}. An instance reads a single shape and is not thread safe.
+ */
+public final class ValidatingDeserializer implements ShapeDeserializer {
+
+    private final Validator owner;
+    private final Validator.ShapeValidator validator;
+    private final ShapeDeserializer delegate;
+    private final ValidatingDeserializer root;
+    private boolean requiresShapeValidation;
+    private List<ValidationError> errors;
+
+    /**
+     * The container waiting for the next value read from this deserializer, if any.
+     */
+    private MemberTracker expected;
+
+    ValidatingDeserializer(Validator owner, Validator.ShapeValidator validator, ShapeDeserializer delegate) {
+        this.owner = owner;
+        this.validator = validator;
+        this.delegate = delegate;
+        this.root = this;
+    }
+
+    private ValidatingDeserializer(ValidatingDeserializer root, ShapeDeserializer delegate) {
+        this.owner = root.owner;
+        this.validator = root.validator;
+        this.delegate = delegate;
+        this.root = root;
+    }
+
+    /**
+     * Deserialize a shape into the given builder, validating it along the way.
+     *
+     * <p>The builder is error corrected before it's built, so a shape is returned even when validation fails.
+     * Use {@link #errors()} to get the errors that were found.
+     *
+     * @param builder Builder to populate.
+     * @return the built shape.
+     * @param <T> Shape to build.
+     */
+    public <T extends SerializableShape> T readShape(ShapeBuilder<T> builder) {
+        try {
+            builder.deserialize(this);
+        } catch (Validator.ValidationShortCircuitException ignored) {
+            // Too many errors, or the value is too deeply nested. Report what was found so far.
+        }
+        var shape = builder.errorCorrection().build();
+        errors = validator.errors();
+        if (errors.isEmpty() && requiresShapeValidation) {
+            errors = owner.validate(shape);
+        }
+        return shape;
+    }
+
+    /**
+     * Get the validation errors found by {@link #readShape}.
+     *
+     * @return the validation errors.
+     */
+    public List<ValidationError> errors() {
+        return errors != null ? errors : validator.errors();
+    }
+
+    private ValidatingDeserializer wrap(ShapeDeserializer memberDeserializer) {
+        return memberDeserializer == delegate ? this : new ValidatingDeserializer(root, memberDeserializer);
+    }
+
+    private void deferTo(ShapeType type) {
+        if (Validator.ShapeValidator.hasCustomConstraints(type)) {
+            root.requiresShapeValidation = true;
+        }
+    }
+
+    private boolean present(Object value) {
+        var tracker = expected;
+        expected = null;
+        return tracker.onValue(value);
+    }
+
+    private boolean presentNested() {
+        var tracker = expected;
+        if (tracker == null) {
+            return true;
+        }
+        expected = null;
+        return tracker.onNested();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public boolean readBoolean(Schema schema) {
+        var value = delegate.readBoolean(schema);
+        if (expected == null || present(value)) {
+            validator.writeBoolean(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public ByteBuffer readBlob(Schema schema) {
+        var value = delegate.readBlob(schema);
+        if (expected == null || present(value)) {
+            validator.writeBlob(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public byte readByte(Schema schema) {
+        var value = delegate.readByte(schema);
+        if (expected == null || present(value)) {
+            validator.writeByte(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public short readShort(Schema schema) {
+        var value = delegate.readShort(schema);
+        if (expected == null || present(value)) {
+            validator.writeShort(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public int readInteger(Schema schema) {
+        var value = delegate.readInteger(schema);
+        if (expected == null || present(value)) {
+            validator.writeInteger(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public long readLong(Schema schema) {
+        var value = delegate.readLong(schema);
+        if (expected == null || present(value)) {
+            validator.writeLong(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public float readFloat(Schema schema) {
+        var value = delegate.readFloat(schema);
+        if (expected == null || present(value)) {
+            validator.writeFloat(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public double readDouble(Schema schema) {
+        var value = delegate.readDouble(schema);
+        if (expected == null || present(value)) {
+            validator.writeDouble(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public BigInteger readBigInteger(Schema schema) {
+        var value = delegate.readBigInteger(schema);
+        if (expected == null || present(value)) {
+            validator.writeBigInteger(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public BigDecimal readBigDecimal(Schema schema) {
+        var value = delegate.readBigDecimal(schema);
+        if (expected == null || present(value)) {
+            validator.writeBigDecimal(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public String readString(Schema schema) {
+        var value = delegate.readString(schema);
+        if (expected == null || present(value)) {
+            validator.writeString(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public Document readDocument() {
+        if (presentNested()) {
+            // Documents are read without a schema, so custom document constraints need the built shape.
+            deferTo(ShapeType.DOCUMENT);
+        }
+        return delegate.readDocument();
+    }
+
+    @Override
+    public Instant readTimestamp(Schema schema) {
+        var value = delegate.readTimestamp(schema);
+        if (expected == null || present(value)) {
+            validator.writeTimestamp(schema, value);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> void readStruct(Schema schema, T state, StructMemberConsumer<T> consumer) {
+        if (!presentNested()) {
+            delegate.readStruct(schema, state, consumer);
+            return;
+        }
+        deferTo(schema.type());
+        if (schema.type() == ShapeType.UNION) {
+            var members = new UnionMembers<>(this, schema, consumer);
+            delegate.readStruct(schema, state, members);
+            members.checkResult();
+        } else {
+            var members = new StructMembers<>(this, schema, consumer);
+            delegate.readStruct(schema, state, members);
+            members.checkResult();
+        }
+    }
+
+    @Override
+    public <T> void readList(Schema schema, T state, ListMemberConsumer<T> consumer) {
+        if (!presentNested()) {
+            delegate.readList(schema, state, consumer);
+            return;
+        }
+        deferTo(ShapeType.LIST);
+        var members = new ListMembers<>(this, schema, consumer);
+        if (members.conflicts == null) {
+            delegate.readList(schema, state, members);
+        } else {
+            // Validator reports uniqueItems conflicts before the errors of the elements, so they're inserted ahead
+            // of those once the list was read.
+            int firstError = validator.errorCount();
+            validator.deferErrorLimit();
+            try {
+                delegate.readList(schema, state, members);
+            } catch (Validator.ValidationShortCircuitException e) {
+                validator.insertErrors(firstError, members.conflicts);
+                throw e;
+            }
+            validator.insertErrors(firstError, members.conflicts);
+        }
+        if (members.count > 0) {
+            validator.popPath();
+        }
+        validator.checkListLength(schema, members.count);
+    }
+
+    @Override
+    public int containerSize() {
+        return delegate.containerSize();
+    }
+
+    @Override
+    public int containerPreAllocationLimit() {
+        return delegate.containerPreAllocationLimit();
+    }
+
+    @Override
+    public <T> void readStringMap(Schema schema, T state, MapMemberConsumer<String, T> consumer) {
+        if (!presentNested()) {
+            delegate.readStringMap(schema, state, consumer);
+            return;
+        }
+        deferTo(ShapeType.MAP);
+        var members = new MapMembers<>(this, schema, consumer);
+        delegate.readStringMap(schema, state, members);
+        if (members.count > 0) {
+            validator.popPath();
+            validator.popPath();
+        }
+        validator.checkMapLength(schema, members.count);
+    }
+
+    @Override
+    public boolean isNull() {
+        return delegate.isNull();
+    }
+
+    @Override
+    public <T> T readNull() {
+        var tracker = expected;
+        if (tracker != null) {
+            expected = null;
+            tracker.onNull();
+        }
+        return delegate.readNull();
+    }
+
+    @Override
+    public DataStream readDataStream(Schema schema) {
+        presentNested();
+        return delegate.readDataStream(schema);
+    }
+
+    @Override
+    public EventStream<? extends SerializableStruct> readEventStream(Schema schema) {
+        presentNested();
+        return delegate.readEventStream(schema);
+    }
+
+    /**
+     * Receives the value read for a member of a structure, union, list, or map.
+     *
+     * <p>{@link #onValue} and {@link #onNested} return false when the value must not be validated.
+     */
+    private abstract static class MemberTracker {
+        boolean onValue(Object value) {
+            return onNested();
+        }
+
+        boolean onNested() {
+            return true;
+        }
+
+        void onNull() {}
+
+        /**
+         * Wraps a member deserializer so that the next value read from it is reported to this tracker.
+         */
+        final ValidatingDeserializer expect(ValidatingDeserializer parent, ShapeDeserializer memberDeserializer) {
+            var member = parent.wrap(memberDeserializer);
+            member.expected = this;
+            return member;
+        }
+
+        static void done(ValidatingDeserializer member) {
+            member.expected = null;
+        }
+    }
+
+    private static final class StructMembers<T> extends MemberTracker implements StructMemberConsumer<T> {
+        private final ValidatingDeserializer parent;
+        private final Schema schema;
+        private final StructMemberConsumer<T> consumer;
+        private final PresenceTracker tracker;
+        private Schema member;
+
+        StructMembers(ValidatingDeserializer parent, Schema schema, StructMemberConsumer<T> consumer) {
+            this.parent = parent;
+            this.schema = schema;
+            this.consumer = consumer;
+            this.tracker = PresenceTracker.of(schema);
+        }
+
+        @Override
+        public void accept(T state, Schema memberSchema, ShapeDeserializer memberDeserializer) {
+            member = memberSchema;
+            parent.validator.pushPath(memberSchema.memberName());
+            var de = expect(parent, memberDeserializer);
+            consumer.accept(state, memberSchema, de);
+            done(de);
+            parent.validator.popPath();
+        }
+
+        @Override
+        public void unknownMember(T state, String memberName) {
+            consumer.unknownMember(state, memberName);
+        }
+
+        @Override
+        boolean onNested() {
+            // A null member does not count as present, so only values set the bitfield.
+            tracker.setMember(member);
+            return true;
+        }
+
+        void checkResult() {
+            if (!tracker.allSet()) {
+                var validator = parent.validator;
+                for (var missing : tracker.getMissingMembers()) {
+                    validator.addError(
+                            new ValidationError.RequiredValidationFailure(validator.createPath(), missing, schema));
+                }
+            }
+        }
+    }
+
+    private static final class UnionMembers<T> extends MemberTracker implements StructMemberConsumer<T> {
+        private final ValidatingDeserializer parent;
+        private final Schema schema;
+        private final StructMemberConsumer<T> consumer;
+        private Schema member;
+        private String setMember;
+
+        UnionMembers(ValidatingDeserializer parent, Schema schema, StructMemberConsumer<T> consumer) {
+            this.parent = parent;
+            this.schema = schema;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(T state, Schema memberSchema, ShapeDeserializer memberDeserializer) {
+            member = memberSchema;
+            parent.validator.pushPath(memberSchema.memberName());
+            var de = expect(parent, memberDeserializer);
+            consumer.accept(state, memberSchema, de);
+            done(de);
+            parent.validator.popPath();
+        }
+
+        @Override
+        public void unknownMember(T state, String memberName) {
+            consumer.unknownMember(state, memberName);
+        }
+
+        @Override
+        boolean onNested() {
+            if (setMember != null) {
+                // Like Validator, don't validate the value of a conflicting member.
+                var validator = parent.validator;
+                String message = "Union member conflicts with '" + setMember + "'";
+                validator.addError(new ValidationError.UnionValidationFailure(validator.createPath(), message, member));
+                return false;
+            }
+            setMember = member.memberName();
+            return true;
+        }
+
+        void checkResult() {
+            if (setMember == null) {
+                var validator = parent.validator;
+                validator.addError(new ValidationError.UnionValidationFailure(
+                        validator.createPath(),
+                        "No member is set in the union",
+                        schema));
+            }
+        }
+    }
+
+    private static final class ListMembers<T> extends MemberTracker implements ListMemberConsumer<T> {
+        private final ValidatingDeserializer parent;
+        private final Schema schema;
+        private final ListMemberConsumer<T> consumer;
+        private final Set<Object> uniqueValues;
+        private final List<ValidationError> conflicts;
+        private int count;
+
+        ListMembers(ValidatingDeserializer parent, Schema schema, ListMemberConsumer<T> consumer) {
+            this.parent = parent;
+            this.schema = schema;
+            this.consumer = consumer;
+            this.uniqueValues = schema.uniqueItemsConstraint ? new HashSet<>() : null;
+            this.conflicts = schema.uniqueItemsConstraint ? new ArrayList<>() : null;
+        }
+
+        @Override
+        public void accept(T state, ShapeDeserializer memberDeserializer) {
+            if (count == 0) {
+                // Push a preliminary value of null. Each list element swaps this path position with its index.
+                parent.validator.pushPath(null);
+            }
+            parent.validator.swapPath(count);
+            var de = expect(parent, memberDeserializer);
+            consumer.accept(state, de);
+            done(de);
+            count++;
+        }
+
+        @Override
+        boolean onValue(Object value) {
+            if (uniqueValues != null && !uniqueValues.add(value)) {
+                var validator = parent.validator;
+                conflicts.add(new ValidationError.UniqueItemConflict(validator.createPath(), count, schema));
+            }
+            return true;
+        }
+
+        @Override
+        boolean onNested() {
+            // Aggregate values aren't kept around, so their uniqueness is checked on the built shape.
+            if (uniqueValues != null) {
+                parent.root.requiresShapeValidation = true;
+            }
+            return true;
+        }
+
+        @Override
+        void onNull() {
+            if (!schema.hasTrait(TraitKey.SPARSE_TRAIT)) {
+                var validator = parent.validator;
+                validator.addError(new ValidationError.SparseValidationFailure(validator.createPath(), schema));
+            }
+        }
+    }
+
+    private static final class MapMembers<T> extends MemberTracker implements MapMemberConsumer<String, T> {
+        private final ValidatingDeserializer parent;
+        private final Schema schema;
+        private final MapMemberConsumer<String, T> consumer;
+        private int count;
+
+        MapMembers(ValidatingDeserializer parent, Schema schema, MapMemberConsumer<String, T> consumer) {
+            this.parent = parent;
+            this.schema = schema;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void accept(T state, String key, ShapeDeserializer memberDeserializer) {
+            var validator = parent.validator;
+            if (count == 0) {
+                // Push a preliminary map key and key/value holder of null, replaced as entries are read.
+                validator.pushPath(null);
+                validator.pushPath(null);
+            }
+            validator.swapEntryPath(key, "key"); // set /map/<key>/key
+            validator.writeString(schema.mapKeyMember(), key);
+            validator.swapPath("value"); // set /map/<key>/value
+            var de = expect(parent, memberDeserializer);
+            consumer.accept(state, key, de);
+            done(de);
+            count++;
+        }
+
+        @Override
+        void onNull() {
+            if (!schema.hasTrait(TraitKey.SPARSE_TRAIT)) {
+                var validator = parent.validator;
+                validator.addError(new ValidationError.SparseValidationFailure(validator.createPath(), schema));
+            }
+        }
+    }
+}
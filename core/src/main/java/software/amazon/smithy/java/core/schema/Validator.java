@@ -17,6 +17,7 @@ import java.util.function.Supplier;
 import software.amazon.smithy.java.core.serde.ListSerializer;
 import software.amazon.smithy.java.core.serde.MapSerializer;
 import software.amazon.smithy.java.core.serde.SerializationException;
+import software.amazon.smithy.java.core.serde.ShapeDeserializer;
 import software.amazon.smithy.java.core.serde.ShapeSerializer;
 import software.amazon.smithy.java.core.serde.document.Document;
 import software.amazon.smithy.model.shapes.ShapeType;
@@ -31,6 +32,14 @@ import software.amazon.smithy.model.shapes.ShapeType;
  * List<ValidationError> errors = validator.validate(someShape);
  * }</pre>
  *
+ * <p>A shape can also be validated while it is deserialized, saving a second walk over the shape:
+ *
+ * <pre>{@code
+ * ValidatingDeserializer decoder = validator.deserializer(codec.createDeserializer(bytes));
+ * SomeShape shape = decoder.readShape(SomeShape.builder());
+ * List<ValidationError> errors = decoder.errors();
+ * }</pre>
+ *
  * <p>Validator is thread safe.
  */
 public final class Validator {
@@ -68,6 +77,19 @@ public final class Validator {
         }
     }
 
+    /**
+     * Create a deserializer that validates values as they are read from the given deserializer.
+     *
+     * <p>The returned deserializer is meant to read a single shape using
+     * {@link ValidatingDeserializer#readShape}.
+     *
+     * @param delegate Deserializer to read values from.
+     * @return the validating deserializer.
+     */
+    public ValidatingDeserializer deserializer(ShapeDeserializer delegate) {
+        return new ValidatingDeserializer(this, new ShapeValidator(maxAllowedErrors, maxDepth), delegate);
+    }
+
     /**
      * Builds a {@link  Validator}.
      */
@@ -166,6 +188,12 @@ public final class Validator {
          */
         private Schema currentSchema = null;
 
+        /**
+         * Number of lists being deserialized whose uniqueItems conflicts are only reported once the whole list was
+         * read. Until then, errors are collected past the error limit.
+         */
+        private int deferredLimits;
+
         private ShapeValidator(int maxAllowedErrors, int maxDepth) {
             this.maxAllowedErrors = maxAllowedErrors;
             this.maxDepth = maxDepth;
@@ -214,10 +242,27 @@ public final class Validator {
             path[depth - 1] = pathSegment;
         }
 
+        void swapPath(String pathSegment) {
+            path[depth - 1] = pathSegment;
+        }
+
+        void swapEntryPath(String key, String pathSegment) {
+            path[depth - 2] = key;
+            path[depth - 1] = pathSegment;
+        }
+
         void popPath() {
             depth--;
         }
 
+        List<ValidationError> errors() {
+            return errors;
+        }
+
+        static boolean hasCustomConstraints(ShapeType type) {
+            return HAS_CUSTOM_CONSTRAINTS && CUSTOM_CONSTRAINTS_BY_TYPE[type.ordinal()] != null;
+        }
+
         String createPath() {
             if (depth == 0) {
                 return "/";
@@ -231,12 +276,41 @@ public final class Validator {
         }
 
         void addError(ValidationError error) {
-            if (errors.size() == maxAllowedErrors) {
+            if (errors.size() >= maxAllowedErrors && deferredLimits == 0) {
                 throw new Validator.ValidationShortCircuitException();
             }
             errors.add(error);
         }
 
+        int errorCount() {
+            return errors.size();
+        }
+
+        /**
+         * Stops enforcing the error limit until {@link #insertErrors} is called.
+         */
+        void deferErrorLimit() {
+            deferredLimits++;
+        }
+
+        /**
+         * Inserts errors ahead of the ones found since {@link #deferErrorLimit}, then enforces the error limit again.
+         *
+         * <p>This keeps the order {@link Validator#validate} reports errors in when it finds some of them in a first
+         * pass over a value, while the deserializer only knows them once it read the whole value.
+         *
+         * @param index Number of errors found before the limit was deferred.
+         * @param first Errors to insert.
+         */
+        void insertErrors(int index, List<ValidationError> first) {
+            deferredLimits--;
+            errors.addAll(index, first);
+            if (deferredLimits == 0 && errors.size() > maxAllowedErrors) {
+                errors.subList(maxAllowedErrors, errors.size()).clear();
+                throw new Validator.ValidationShortCircuitException();
+            }
+        }
+
         @Override
         public void writeStruct(Schema schema, SerializableStruct struct) {
             // Track the current schema and count.
@@ -289,7 +363,7 @@ public final class Validator {
             applyCustomConstraints(schema, state);
         }
 
-        private void checkListLength(Schema schema, int count) {
+        void checkListLength(Schema schema, int count) {
             // Ensure the list has an acceptable length.
             if (count < schema.minLengthConstraint) {
                 addError(new ValidationError.LengthValidationFailure(createPath(), count, schema));
@@ -327,7 +401,7 @@ public final class Validator {
             applyCustomConstraints(schema, state);
         }
 
-        private void checkMapLength(Schema schema, int count) {
+        void checkMapLength(Schema schema, int count) {
             // Ensure the map is properly sized.
             if (count < schema.minLengthConstraint) {
                 addError(new ValidationError.LengthValidationFailure(createPath(), count, schema));
@@ -346,10 +420,9 @@ public final class Validator {
                 BiConsumer<T, ShapeSerializer> valueSerializer
         ) {
             elementCount++;
-            path[depth - 2] = key; // set /map/<key>
-            path[depth - 1] = "key"; // set /map/<key>/key
+            swapEntryPath(key, "key"); // set /map/<key>/key
             writeString(keySchema, key);
-            path[depth - 1] = "value"; // set /map/<key>/value
+            swapPath("value"); // set /map/<key>/value
             valueSerializer.accept(state, this);
         }
 
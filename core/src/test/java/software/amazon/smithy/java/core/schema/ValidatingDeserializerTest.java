@@ -0,0 +1,367 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.core.schema;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.smithy.java.core.serde.ShapeDeserializer;
+import software.amazon.smithy.java.core.serde.ShapeSerializer;
+import software.amazon.smithy.java.core.serde.document.Document;
+import software.amazon.smithy.java.core.serde.document.DocumentDeserializer;
+import software.amazon.smithy.java.core.testmodels.ValidatedPojo;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.traits.LengthTrait;
+import software.amazon.smithy.model.traits.UniqueItemsTrait;
+
+public class ValidatingDeserializerTest {
+
+    private static final Schema UNIQUE_LIST = Schema.listBuilder(ShapeId.from("smithy.example#UniqueList"),
+            new UniqueItemsTrait(),
+            LengthTrait.builder().max(2L).build())
+            .putMember("member", PreludeSchemas.STRING, LengthTrait.builder().max(3L).build())
+            .build();
+    private static final Schema LIST = Schema.listBuilder(ShapeId.from("smithy.example#List"))
+            .putMember("member", PreludeSchemas.STRING, LengthTrait.builder().max(3L).build())
+            .build();
+    private static final Schema MAP = Schema.mapBuilder(ShapeId.from("smithy.example#Map"),
+            LengthTrait.builder().max(2L).build())
+            .putMember("key", PreludeSchemas.STRING, LengthTrait.builder().max(3L).build())
+            .putMember("value", PreludeSchemas.STRING, LengthTrait.builder().max(3L).build())
+            .build();
+    private static final Schema UNION = Schema.unionBuilder(ShapeId.from("smithy.example#Union"))
+            .putMember("a", PreludeSchemas.STRING, LengthTrait.builder().max(3L).build())
+            .putMember("b", PreludeSchemas.STRING, LengthTrait.builder().max(3L).build())
+            .build();
+
+    @Test
+    public void readsValidShapesWithoutErrors() {
+        var pojo = ValidatedPojo.builder().string("hi").integer(1).boxedInteger(2).build();
+        var decoder = Validator.builder().build().deserializer(new DocumentDeserializer(Document.of(pojo)));
+
+        var result = decoder.readShape(ValidatedPojo.builder());
+
+        assertThat(decoder.errors(), empty());
+        assertThat(result.string(), equalTo("hi"));
+        assertThat(result.integer(), equalTo(1));
+        assertThat(result.boxedInteger(), equalTo(2));
+    }
+
+    @Test
+    public void findsTheSameErrorsAsTheValidator() {
+        var pojo = ValidatedPojo.builder().string("").integer(-1).build();
+        var validator = Validator.builder().build();
+        var decoder = validator.deserializer(new DocumentDeserializer(Document.of(pojo)));
+
+        var result = decoder.readShape(ValidatedPojo.builder());
+
+        assertThat(decoder.errors(), hasSize(3));
+        assertThat(decoder.errors(), equalTo(validator.validate(result)));
+    }
+
+    @Test
+    public void validatesListElementsAsTheyAreRead() {
+        var validator = Validator.builder().build();
+        var document = Document.of(List.of(Document.of("a"), Document.of("toolong"), Document.of("a")));
+        var decoder = validator.deserializer(new DocumentDeserializer(document));
+
+        var result = decoder.readShape(new StringList.Builder());
+
+        assertThat(result.values(), equalTo(List.of("a", "toolong", "a")));
+        assertThat(decoder.errors(), hasSize(3));
+        // Like the validator, uniqueItems conflicts come before the errors of the elements.
+        assertThat(decoder.errors().get(0), instanceOf(ValidationError.UniqueItemConflict.class));
+        assertThat(decoder.errors().get(0).path(), equalTo("/2"));
+        assertThat(decoder.errors().get(1), instanceOf(ValidationError.LengthValidationFailure.class));
+        assertThat(decoder.errors().get(1).path(), equalTo("/1"));
+        assertThat(decoder.errors().get(2), instanceOf(ValidationError.LengthValidationFailure.class));
+        assertThat(decoder.errors().get(2).path(), equalTo("/"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 100})
+    public void reportsListErrorsInTheValidatorsOrder(int maxAllowedErrors) {
+        var validator = Validator.builder().maxAllowedErrors(maxAllowedErrors).build();
+        var values = List.of("toolong", "a", "toolong", "a");
+        var document = Document.of(values.stream().map(Document::of).toList());
+        var decoder = validator.deserializer(new DocumentDeserializer(document));
+
+        decoder.readShape(new StringList.Builder());
+
+        assertThat(decoder.errors(), equalTo(validator.validate(new StringList(UNIQUE_LIST, values))));
+    }
+
+    @Test
+    public void stopsWhenTooManyErrors() {
+        var validator = Validator.builder().maxAllowedErrors(1).build();
+        var document = Document.of(List.of(Document.of("toolong"), Document.of("toolong")));
+        var decoder = validator.deserializer(new DocumentDeserializer(document));
+
+        decoder.readShape(new StringList.Builder());
+
+        assertThat(decoder.errors(), hasSize(1));
+        assertThat(decoder.errors().get(0).path(), equalTo("/0"));
+    }
+
+    @Test
+    public void reportsMissingRequiredMembers() {
+        var pojo = ValidatedPojo.builder().integer(-1).build();
+        var validator = Validator.builder().build();
+        var decoder = validator.deserializer(new DocumentDeserializer(Document.of(pojo)));
+
+        var result = decoder.readShape(ValidatedPojo.builder());
+
+        assertThat(decoder.errors(), hasSize(3));
+        assertThat(decoder.errors().get(1), instanceOf(ValidationError.RequiredValidationFailure.class));
+        assertThat(decoder.errors().get(2), instanceOf(ValidationError.RequiredValidationFailure.class));
+        assertThat(decoder.errors(), equalTo(validator.validate(result)));
+    }
+
+    @Test
+    public void validatesMapKeysAndValues() {
+        var validator = Validator.builder().build();
+        var decoder = validator.deserializer(new DocumentDeserializer(createMapDocument()));
+
+        var result = decoder.readShape(new StringMap.Builder());
+
+        assertThat(decoder.errors(), hasSize(4));
+        assertThat(decoder.errors().get(0).path(), equalTo("/a/value"));
+        assertThat(decoder.errors().get(1).path(), equalTo("/toolong/key"));
+        assertThat(decoder.errors().get(2), instanceOf(ValidationError.SparseValidationFailure.class));
+        assertThat(decoder.errors().get(2).path(), equalTo("/c/value"));
+        assertThat(decoder.errors().get(3).path(), equalTo("/"));
+        assertThat(decoder.errors(), equalTo(validator.validate(result)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 100})
+    public void reportsMapErrorsInTheValidatorsOrder(int maxAllowedErrors) {
+        var validator = Validator.builder().maxAllowedErrors(maxAllowedErrors).build();
+        var decoder = validator.deserializer(new DocumentDeserializer(createMapDocument()));
+
+        var result = decoder.readShape(new StringMap.Builder());
+
+        assertThat(decoder.errors(), equalTo(validator.validate(result)));
+    }
+
+    @Test
+    public void rejectsNullsInListsThatAreNotSparse() {
+        var validator = Validator.builder().build();
+        var document = Document.of(Arrays.asList(Document.of("a"), null, Document.of("toolong")));
+        var decoder = validator.deserializer(new DocumentDeserializer(document));
+
+        var result = decoder.readShape(new StringList.Builder(LIST));
+
+        assertThat(decoder.errors(), hasSize(2));
+        assertThat(decoder.errors().get(0), instanceOf(ValidationError.SparseValidationFailure.class));
+        assertThat(decoder.errors().get(0).path(), equalTo("/1"));
+        assertThat(decoder.errors(), equalTo(validator.validate(result)));
+    }
+
+    @Test
+    public void reportsUnionsWithoutMembers() {
+        var validator = Validator.builder().build();
+        var decoder = validator.deserializer(new DocumentDeserializer(Document.of(Map.of())));
+
+        var result = decoder.readShape(new StringUnion.Builder());
+
+        assertThat(decoder.errors(), hasSize(1));
+        assertThat(decoder.errors().get(0).message(), equalTo("No member is set in the union"));
+        assertThat(decoder.errors(), equalTo(validator.validate(result)));
+    }
+
+    @Test
+    public void reportsConflictingUnionMembers() {
+        var validator = Validator.builder().build();
+        var document = Document.of(Map.of("a", Document.of("toolong"), "b", Document.of("toolong")));
+        var decoder = validator.deserializer(new DocumentDeserializer(document));
+
+        var result = decoder.readShape(new StringUnion.Builder());
+
+        // The value of the conflicting member isn't validated.
+        assertThat(decoder.errors(), hasSize(2));
+        assertThat(decoder.errors().get(0), instanceOf(ValidationError.LengthValidationFailure.class));
+        assertThat(decoder.errors().get(1), instanceOf(ValidationError.UnionValidationFailure.class));
+        assertThat(decoder.errors(), equalTo(validator.validate(result)));
+    }
+
+    @Test
+    public void stopsWhenTooDeeplyNested() {
+        var validator = Validator.builder().maxDepth(1).build();
+        var decoder = validator.deserializer(new DocumentDeserializer(Document.of(Map.of("a", Document.of("b")))));
+
+        decoder.readShape(new StringMap.Builder());
+
+        // The entry that is too deep isn't read, so compare with the map that was sent instead of the result.
+        assertThat(decoder.errors(), hasSize(1));
+        assertThat(decoder.errors().get(0), instanceOf(ValidationError.DepthValidationFailure.class));
+        assertThat(decoder.errors(), equalTo(validator.validate(new StringMap(Map.of("a", "b")))));
+    }
+
+    @Test
+    public void validatesTheShapeForCustomConstraintsOfAggregates() {
+        var schema = Schema.listBuilder(ShapeId.from("smithy.CustomTest#List"))
+                .putMember("member", PreludeSchemas.STRING)
+                .build();
+        var validator = Validator.builder().build();
+        var decoder = validator.deserializer(new DocumentDeserializer(Document.of(List.of())));
+
+        var result = decoder.readShape(new StringList.Builder(schema));
+
+        // Custom constraints of the list itself are only applied to the built list.
+        assertThat(decoder.errors(), hasSize(2));
+        assertThat(decoder.errors(), equalTo(validator.validate(result)));
+    }
+
+    private static Document createMapDocument() {
+        Map<String, Document> entries = new LinkedHashMap<>();
+        entries.put("a", Document.of("toolong"));
+        entries.put("toolong", Document.of("b"));
+        entries.put("c", null);
+        return Document.of(entries);
+    }
+
+    private record StringList(Schema schema, List<String> values) implements SerializableShape {
+        @Override
+        public void serialize(ShapeSerializer encoder) {
+            encoder.writeList(schema, values, values.size(), (list, ser) -> {
+                for (var value : list) {
+                    if (value == null) {
+                        ser.writeNull(schema.listMember());
+                    } else {
+                        ser.writeString(schema.listMember(), value);
+                    }
+                }
+            });
+        }
+
+        private static final class Builder implements ShapeBuilder<StringList> {
+            private final Schema schema;
+            private final List<String> values = new ArrayList<>();
+
+            Builder() {
+                this(UNIQUE_LIST);
+            }
+
+            Builder(Schema schema) {
+                this.schema = schema;
+            }
+
+            @Override
+            public Schema schema() {
+                return schema;
+            }
+
+            @Override
+            public StringList build() {
+                return new StringList(schema, values);
+            }
+
+            @Override
+            public Builder deserialize(ShapeDeserializer decoder) {
+                decoder.readList(schema, values, (list, de) -> {
+                    list.add(de.isNull() ? de.<String>readNull() : de.readString(schema.listMember()));
+                });
+                return this;
+            }
+        }
+    }
+
+    private record StringMap(Map<String, String> values) implements SerializableShape {
+        @Override
+        public void serialize(ShapeSerializer encoder) {
+            encoder.writeMap(MAP, values, values.size(), (map, ser) -> {
+                for (var entry : map.entrySet()) {
+                    ser.writeEntry(MAP.mapKeyMember(), entry.getKey(), entry.getValue(), (value, s) -> {
+                        if (value == null) {
+                            s.writeNull(MAP.mapValueMember());
+                        } else {
+                            s.writeString(MAP.mapValueMember(), value);
+                        }
+                    });
+                }
+            });
+        }
+
+        private static final class Builder implements ShapeBuilder<StringMap> {
+            private final Map<String, String> values = new LinkedHashMap<>();
+
+            @Override
+            public Schema schema() {
+                return MAP;
+            }
+
+            @Override
+            public StringMap build() {
+                return new StringMap(values);
+            }
+
+            @Override
+            public Builder deserialize(ShapeDeserializer decoder) {
+                decoder.readStringMap(MAP, values, (map, key, de) -> {
+                    map.put(key, de.isNull() ? de.<String>readNull() : de.readString(MAP.mapValueMember()));
+                });
+                return this;
+            }
+        }
+    }
+
+    /**
+     * A union that keeps every member it's given, so conflicting members are validated again.
+     */
+    private record StringUnion(Map<String, String> members) implements SerializableStruct {
+        @Override
+        public Schema schema() {
+            return UNION;
+        }
+
+        @Override
+        public void serializeMembers(ShapeSerializer serializer) {
+            for (var entry : members.entrySet()) {
+                serializer.writeString(UNION.member(entry.getKey()), entry.getValue());
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getMemberValue(Schema member) {
+            return (T) members.get(member.memberName());
+        }
+
+        private static final class Builder implements ShapeBuilder<StringUnion> {
+            private final Map<String, String> members = new LinkedHashMap<>();
+
+            @Override
+            public Schema schema() {
+                return UNION;
+            }
+
+            @Override
+            public StringUnion build() {
+                return new StringUnion(members);
+            }
+
+            @Override
+            public Builder deserialize(ShapeDeserializer decoder) {
+                decoder.readStruct(UNION, members, (map, member, de) -> {
+                    map.put(member.memberName(), de.readString(member));
+                });
+                return this;
+            }
+        }
+    }
+}
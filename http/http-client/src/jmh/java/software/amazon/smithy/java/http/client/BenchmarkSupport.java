@@ -8,15 +8,19 @@ package software.amazon.smithy.java.http.client;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -227,6 +231,92 @@ public final class BenchmarkSupport {
         void run(T context) throws Exception;
     }
 
+    /**
+     * Run a benchmark that issues asynchronous requests from the calling thread until totalRequests is reached.
+     *
+     * <p>Unlike {@link #runBenchmark}, no thread is dedicated to a request: at most {@code concurrency} requests
+     * are in flight at once, and completing one lets the calling thread issue the next.
+     *
+     * @param concurrency maximum number of requests in flight
+     * @param totalRequests total requests to complete before stopping
+     * @param task the task that starts one request
+     * @param context context passed to task (avoids lambda allocation)
+     * @param counter output counter for requests/errors
+     */
+    public static <T> void runAsyncBenchmark(
+            int concurrency,
+            int totalRequests,
+            AsyncBenchmarkTask<T> task,
+            T context,
+            RequestCounter counter
+    ) throws InterruptedException {
+        var inFlight = new Semaphore(concurrency);
+        var errors = new AtomicLong();
+        var firstError = new AtomicReference<Throwable>();
+
+        for (int i = 0; i < totalRequests; i++) {
+            inFlight.acquire();
+            CompletableFuture<?> future;
+            try {
+                future = task.start(context);
+            } catch (Throwable t) {
+                future = CompletableFuture.failedFuture(t);
+            }
+            future.whenComplete((ignored, error) -> {
+                if (error != null) {
+                    errors.incrementAndGet();
+                    firstError.compareAndSet(null, error);
+                }
+                inFlight.release();
+            });
+        }
+
+        // Safety net only, like runBenchmark.
+        if (!inFlight.tryAcquire(concurrency, 120, TimeUnit.SECONDS)) {
+            System.err.println("BENCHMARK TIMEOUT: " + (concurrency - inFlight.availablePermits())
+                    + " requests still in flight, errors=" + errors.get());
+        }
+
+        counter.requests = totalRequests;
+        counter.errors = errors.get();
+        counter.firstError = firstError.get();
+    }
+
+    @FunctionalInterface
+    public interface AsyncBenchmarkTask<T> {
+        CompletableFuture<?> start(T context) throws Exception;
+    }
+
+    /**
+     * Subscribe to a body and discard it.
+     *
+     * @param body the body to drain
+     * @return a future that completes when the whole body was received
+     */
+    public static CompletableFuture<Void> drain(Flow.Publisher<ByteBuffer> body) {
+        var done = new CompletableFuture<Void>();
+        body.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {}
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        return done;
+    }
+
     /**
      * Simple counter for benchmark results. Used with @AuxCounters.
      * JMH picks up public fields OR getter methods for aux counters.
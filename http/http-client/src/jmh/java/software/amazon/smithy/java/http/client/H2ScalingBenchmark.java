@@ -256,6 +256,26 @@ public class H2ScalingBenchmark {
         counter.logErrors("Smithy H2");
     }
 
+    /**
+     * Same workload as {@link #h2SmithyGet}, but with {@link HttpClient#sendAsync} from a single thread instead of a
+     * virtual thread per in-flight request.
+     */
+    @Benchmark
+    @OperationsPerInvocation(OPS)
+    @Threads(1)
+    public void h2SmithyGetAsync(Counter counter) throws InterruptedException {
+        var uri = SmithyUri.of(BenchmarkSupport.H2_URL + "/get");
+        var request = HttpRequest.create().setUri(uri).setMethod("GET");
+
+        BenchmarkSupport.runAsyncBenchmark(concurrency,
+                OPS,
+                (HttpRequest req) -> smithyClient.sendAsync(req).thenCompose(res -> BenchmarkSupport.drain(res.body())),
+                request,
+                counter);
+
+        counter.logErrors("Smithy H2 async");
+    }
+
     @Benchmark
     @OperationsPerInvocation(OPS)
     @Threads(1)
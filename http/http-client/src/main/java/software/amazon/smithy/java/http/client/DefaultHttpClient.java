@@ -14,15 +14,22 @@ import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.http.api.HttpRequest;
 import software.amazon.smithy.java.http.api.HttpResponse;
@@ -39,7 +46,7 @@ import software.amazon.smithy.java.logging.InternalLogger;
  *
  * <p>Handles connection pooling, interceptors, protocol selection (H1/H2),
  * and bidirectional streaming internally. The caller only sees
- * {@code send(request) → response}.
+ * {@code send(request) → response}, or {@code sendAsync(request) → future response}.
  */
 final class DefaultHttpClient implements HttpClient {
 
@@ -109,6 +116,144 @@ final class DefaultHttpClient implements HttpClient {
         throw last;
     }
 
+    @Override
+    public CompletableFuture<HttpResponse> sendAsync(HttpRequest request, RequestOptions options) {
+        Duration timeout = options.requestTimeout() != null ? options.requestTimeout() : requestTimeout;
+        // Same onRequestEnd ownership as send(): the response body fires it on success, and the failure
+        // handler registered below fires it when the request fails, times out, or is cancelled.
+        long exchangeId = nextExchangeId.incrementAndGet();
+        AtomicBoolean requestEnded = new AtomicBoolean();
+        notifyRequestStart(exchangeId, request);
+
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        PendingExchange pending = new PendingExchange();
+        result.whenComplete((response, error) -> {
+            if (error != null) {
+                notifyRequestEnd(exchangeId, requestEnded, unwrapCompletion(error));
+            }
+        });
+
+        // Acquiring a connection, opening the exchange and writing the request can block, so that runs on a
+        // virtual thread. Waiting for the response does not: for H2 the connection's reader thread completes the
+        // exchange's headers future, and only then is a virtual thread used again to build the response.
+        Future<?> task;
+        try {
+            task = executorService.submit(() -> {
+                try {
+                    var proxies = proxySelector.select(request.uri());
+                    sendInternalAsync(request, options, proxies, 0, exchangeId, requestEnded, pending)
+                            .whenComplete((response, error) -> {
+                                if (error != null) {
+                                    result.completeExceptionally(unwrapCompletion(error));
+                                } else if (!result.complete(response)) {
+                                    // Timed out or cancelled while the response was on its way.
+                                    response.body().close();
+                                }
+                            });
+                } catch (IOException | RuntimeException e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        if (timeout != null) {
+            CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+                if (result.completeExceptionally(timeoutException(request, timeout, null))) {
+                    task.cancel(true);
+                    // Interrupting the task doesn't reach an H2 exchange waiting for its response headers.
+                    pending.abort();
+                }
+            });
+        }
+
+        return result;
+    }
+
+    // Like sendInternal, but each route attempt completes asynchronously. A failed attempt through a proxy
+    // moves on to the next proxy.
+    private CompletableFuture<HttpResponse> sendInternalAsync(
+            HttpRequest request,
+            RequestOptions options,
+            List<ProxyConfiguration> proxies,
+            int index,
+            long exchangeId,
+            AtomicBoolean requestEnded,
+            PendingExchange pending
+    ) throws IOException {
+        var target = request.uri();
+        if (proxies.isEmpty()) {
+            return sendForRouteAsync(request, options, Route.from(target, null), exchangeId, requestEnded, pending);
+        }
+
+        ProxyConfiguration proxy = proxies.get(index);
+        CompletableFuture<HttpResponse> attempt;
+        try {
+            attempt = sendForRouteAsync(
+                    request,
+                    options,
+                    Route.from(target, proxy),
+                    exchangeId,
+                    requestEnded,
+                    pending);
+        } catch (IOException e) {
+            attempt = CompletableFuture.failedFuture(e);
+        }
+        return attempt.exceptionallyComposeAsync(error -> {
+            Throwable cause = unwrapCompletion(error);
+            if (!(cause instanceof IOException e)) {
+                return CompletableFuture.failedFuture(cause);
+            }
+            proxySelector.connectFailed(target, proxy, e);
+            if (index + 1 == proxies.size()) {
+                return CompletableFuture.failedFuture(e);
+            }
+            try {
+                return sendInternalAsync(request, options, proxies, index + 1, exchangeId, requestEnded, pending);
+            } catch (IOException next) {
+                return CompletableFuture.failedFuture(next);
+            }
+        }, executorService);
+    }
+
+    private CompletableFuture<HttpResponse> sendForRouteAsync(
+            HttpRequest request,
+            RequestOptions options,
+            Route route,
+            long exchangeId,
+            AtomicBoolean requestEnded,
+            PendingExchange pending
+    ) throws IOException {
+        HttpConnection conn = connectionPool.acquire(route, exchangeId, options);
+        HttpExchange exchange = newExchange(conn, request, options);
+        var attempt = new Attempt(exchange, conn);
+        pending.start(attempt);
+        CompletableFuture<Void> headersReady;
+        try {
+            writeRequest(request, exchange);
+            headersReady = exchange.responseHeadersFuture();
+            if (headersReady == null) {
+                // H1: the response is read on this thread.
+                var response = buildResponse(exchange, conn, exchangeId, requestEnded);
+                return CompletableFuture.completedFuture(pending.finish(attempt, response));
+            }
+        } catch (IOException e) {
+            pending.abort(attempt);
+            throw e;
+        }
+
+        return headersReady.thenApplyAsync(ignored -> {
+            try {
+                return pending.finish(attempt, buildResponse(exchange, conn, exchangeId, requestEnded));
+            } catch (IOException e) {
+                pending.abort(attempt);
+                throw new CompletionException(e);
+            }
+        }, executorService);
+    }
+
     private HttpResponse sendForRoute(
             HttpRequest request,
             RequestOptions options,
@@ -117,9 +262,22 @@ final class DefaultHttpClient implements HttpClient {
             AtomicBoolean requestEnded
     ) throws IOException {
         HttpConnection conn = connectionPool.acquire(route, exchangeId, options);
-        HttpExchange exchange;
+        HttpExchange exchange = newExchange(conn, request, options);
         try {
-            exchange = conn.newExchange(request, options);
+            writeRequest(request, exchange);
+            return buildResponse(exchange, conn, exchangeId, requestEnded);
+        } catch (IOException e) {
+            abort(exchange, conn);
+            // Do not fire onRequestEnd here: a per-route attempt failure may be retried on the next
+            // proxy, and send() owns the single terminal failure event.
+            throw e;
+        }
+    }
+
+    private HttpExchange newExchange(HttpConnection conn, HttpRequest request, RequestOptions options)
+            throws IOException {
+        try {
+            return conn.newExchange(request, options);
         } catch (Exception e) {
             connectionPool.evict(conn, true);
             if (e instanceof IOException ioe) {
@@ -127,69 +285,115 @@ final class DefaultHttpClient implements HttpClient {
             }
             throw new IOException("Failed to create exchange", e);
         }
+    }
+
+    private void writeRequest(HttpRequest request, HttpExchange exchange) throws IOException {
+        DataStream requestBody = request.body();
+        boolean hasBody = requestBody != null && requestBody.contentLength() != 0;
+
+        // Set request trailers before writing body so the exchange knows to defer END_STREAM
+        if (hasBody && requestBody instanceof TrailerSupport ts) {
+            exchange.setRequestTrailers(ts.trailerHeaders());
+        }
+
+        if (hasBody && exchange.supportsBidirectionalStreaming() && !shouldWriteH2BodyInline(requestBody)) {
+            // H2: write body on background VT for full duplex
+            final DataStream body = requestBody;
+            Thread.startVirtualThread(() -> {
+                try {
+                    exchange.writeRequestBody(body);
+                } catch (IOException e) {
+                    LOGGER.debug("Error writing request body: {}", e.getMessage());
+                }
+            });
+        } else if (hasBody) {
+            // H1, or replayable bounded H2 bodies: write inline
+            exchange.writeRequestBody(requestBody);
+        } else {
+            // No body, so close request stream to send END_STREAM
+            exchange.writeRequestBody(null);
+        }
+    }
 
+    private HttpResponse buildResponse(
+            HttpExchange exchange,
+            HttpConnection conn,
+            long exchangeId,
+            AtomicBoolean requestEnded
+    ) throws IOException {
+        int statusCode = exchange.responseStatusCode();
+        HttpHeaders headers = exchange.responseHeaders();
+        HttpVersion version = exchange.responseVersion();
+        boolean isH2 = version == HttpVersion.HTTP_2;
+        String contentType = headers.contentType();
+        Long contentLengthValue = headers.contentLength();
+        long contentLength = contentLengthValue == null ? -1 : contentLengthValue;
+
+        // Wrap body so close releases connection
+        DataStream managedBody = new ManagedResponseBody(
+                exchange,
+                conn,
+                isH2,
+                contentType,
+                contentLength,
+                exchangeId,
+                requestEnded);
+
+        return HttpResponse.create()
+                .setStatusCode(statusCode)
+                .setHeaders(headers)
+                .setHttpVersion(version)
+                .setBody(managedBody);
+    }
+
+    private void abort(HttpExchange exchange, HttpConnection conn) {
         try {
-            // Write request body
-            DataStream requestBody = request.body();
-            boolean hasBody = requestBody != null && requestBody.contentLength() != 0;
+            exchange.close();
+        } catch (IOException closeError) {
+            LOGGER.debug("Error closing exchange after request failure: {}", closeError.getMessage());
+        }
+        connectionPool.evict(conn, true);
+    }
 
-            // Set request trailers before writing body so the exchange knows to defer END_STREAM
-            if (hasBody && requestBody instanceof TrailerSupport ts) {
-                exchange.setRequestTrailers(ts.trailerHeaders());
+    private record Attempt(HttpExchange exchange, HttpConnection conn) {}
+
+    /**
+     * The exchange of an async request until it becomes a response, so that a timeout can abort it.
+     *
+     * <p>Whoever takes the attempt out first owns it: the timeout aborts it, a failure aborts it, and a response
+     * built from it takes over the connection. An attempt started after the timeout is aborted right away.
+     */
+    private final class PendingExchange {
+        private final AtomicReference<Attempt> current = new AtomicReference<>();
+        private volatile boolean aborted;
+
+        void start(Attempt attempt) {
+            current.set(attempt);
+            if (aborted) {
+                abort(attempt);
             }
+        }
 
-            if (hasBody && exchange.supportsBidirectionalStreaming() && !shouldWriteH2BodyInline(requestBody)) {
-                // H2: write body on background VT for full duplex
-                final DataStream body = requestBody;
-                Thread.startVirtualThread(() -> {
-                    try {
-                        exchange.writeRequestBody(body);
-                    } catch (IOException e) {
-                        LOGGER.debug("Error writing request body: {}", e.getMessage());
-                    }
-                });
-            } else if (hasBody) {
-                // H1, or replayable bounded H2 bodies: write inline
-                exchange.writeRequestBody(requestBody);
-            } else {
-                // No body, so close request stream to send END_STREAM
-                exchange.writeRequestBody(null);
-            }
-
-            // Build response
-            int statusCode = exchange.responseStatusCode();
-            HttpHeaders headers = exchange.responseHeaders();
-            HttpVersion version = exchange.responseVersion();
-            boolean isH2 = version == HttpVersion.HTTP_2;
-            String contentType = headers.contentType();
-            Long contentLengthValue = headers.contentLength();
-            long contentLength = contentLengthValue == null ? -1 : contentLengthValue;
-
-            // Wrap body so close releases connection
-            DataStream managedBody = new ManagedResponseBody(
-                    exchange,
-                    conn,
-                    isH2,
-                    contentType,
-                    contentLength,
-                    exchangeId,
-                    requestEnded);
+        HttpResponse finish(Attempt attempt, HttpResponse response) throws IOException {
+            if (!current.compareAndSet(attempt, null)) {
+                // Aborted by the timeout while the response headers were being read.
+                throw new IOException("Exchange was aborted");
+            }
+            return response;
+        }
 
-            return HttpResponse.create()
-                    .setStatusCode(statusCode)
-                    .setHeaders(headers)
-                    .setHttpVersion(version)
-                    .setBody(managedBody);
-        } catch (IOException e) {
-            try {
-                exchange.close();
-            } catch (IOException closeError) {
-                LOGGER.debug("Error closing exchange after request failure: {}", closeError.getMessage());
+        void abort(Attempt attempt) {
+            if (current.compareAndSet(attempt, null)) {
+                DefaultHttpClient.this.abort(attempt.exchange(), attempt.conn());
+            }
+        }
+
+        void abort() {
+            aborted = true;
+            var attempt = current.getAndSet(null);
+            if (attempt != null) {
+                DefaultHttpClient.this.abort(attempt.exchange(), attempt.conn());
             }
-            connectionPool.evict(conn, true);
-            // Do not fire onRequestEnd here: a per-route attempt failure may be retried on the next
-            // proxy, and send() owns the single terminal failure event.
-            throw e;
         }
     }
 
@@ -345,6 +549,25 @@ final class DefaultHttpClient implements HttpClient {
             }
         }
 
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            InputStream in;
+            try {
+                in = asInputStream();
+            } catch (RuntimeException e) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {}
+
+                    @Override
+                    public void cancel() {}
+                });
+                subscriber.onError(e);
+                return;
+            }
+            subscriber.onSubscribe(new ResponseBodySubscription(in, subscriber));
+        }
+
         @Override
         public void discard() throws IOException {
             if (!closed.compareAndSet(false, true)) {
@@ -465,6 +688,106 @@ final class DefaultHttpClient implements HttpClient {
         }
     }
 
+    /**
+     * Publishes a response body, reading it on a virtual thread only while the subscriber has outstanding demand.
+     *
+     * <p>All subscriber signals are issued from that thread, one at a time, so the subscriber's own thread never
+     * blocks on the connection. Cancelling closes the body, which releases the connection.
+     */
+    private final class ResponseBodySubscription implements Flow.Subscription, Runnable {
+        private static final int CHUNK_SIZE = 16384;
+
+        private final InputStream in;
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        // Only used by the pump, which never runs concurrently with itself.
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        private final AtomicLong demand = new AtomicLong();
+        // Number of times the pump was requested to run; only the caller that moves it from zero starts it.
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        ResponseBodySubscription(InputStream in, Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.in = in;
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Subscription request must be positive: " + n);
+                cancelled = true;
+            } else {
+                demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                try {
+                    executorService.execute(this);
+                } catch (RejectedExecutionException e) {
+                    cancelled = true;
+                    closeQuietly();
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            while (true) {
+                while (!cancelled && demand.get() > 0) {
+                    int n;
+                    try {
+                        n = in.read(buffer);
+                    } catch (IOException e) {
+                        // The managed stream already failed the exchange.
+                        cancelled = true;
+                        subscriber.onError(e);
+                        return;
+                    }
+                    if (n < 0) {
+                        // The managed stream already released the exchange at EOF.
+                        cancelled = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    demand.decrementAndGet();
+                    // The subscriber owns the chunks it receives, so the read buffer is copied rather than handed off.
+                    subscriber.onNext(ByteBuffer.wrap(Arrays.copyOf(buffer, n)));
+                }
+                if (cancelled) {
+                    closeQuietly();
+                    if (error != null) {
+                        subscriber.onError(error);
+                    }
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void closeQuietly() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                LOGGER.debug("Error closing response body: {}", e.getMessage());
+            }
+        }
+    }
+
     private HttpResponse sendWithTimeout(
             HttpRequest request,
             RequestOptions options,
@@ -479,10 +802,7 @@ final class DefaultHttpClient implements HttpClient {
             return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
         } catch (TimeoutException e) {
             future.cancel(true);
-            throw new IOException(String.format(
-                    "Request to `%s` exceeded request timeout of %s seconds",
-                    request.uri().getHost(),
-                    timeout.toSeconds()), e);
+            throw timeoutException(request, timeout, e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new IOException("Interrupted while waiting for HTTP request to complete to `"
@@ -492,6 +812,17 @@ final class DefaultHttpClient implements HttpClient {
         }
     }
 
+    private static IOException timeoutException(HttpRequest request, Duration timeout, TimeoutException cause) {
+        return new IOException(String.format(
+                "Request to `%s` exceeded request timeout of %s seconds",
+                request.uri().getHost(),
+                timeout.toSeconds()), cause);
+    }
+
+    private static Throwable unwrapCompletion(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
     private static IOException unwrap(ExecutionException e) throws IOException {
         var cause = e.getCause();
         return switch (cause) {
@@ -8,6 +8,7 @@ package software.amazon.smithy.java.http.client;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
@@ -23,6 +24,9 @@ import software.amazon.smithy.java.http.client.dns.DnsResolver;
 
 /**
  * Blocking, virtual-thread-friendly HTTP client.
+ *
+ * <p>{@link #sendAsync(HttpRequest)} is also available for callers that want to fan out many requests without a
+ * thread per request.
  */
 public interface HttpClient extends AutoCloseable {
     /**
@@ -52,6 +56,44 @@ public interface HttpClient extends AutoCloseable {
      */
     HttpResponse send(HttpRequest request, RequestOptions options) throws IOException;
 
+    /**
+     * Sends a request asynchronously.
+     *
+     * <p>The returned future completes with the response once its status line and headers are received. The
+     * response body streams like the body returned from {@link #send(HttpRequest)} and must be closed, or consumed
+     * through {@link java.util.concurrent.Flow.Publisher#subscribe}, to release the connection.
+     *
+     * <p>Only waiting for the response is asynchronous: a subscribed body is still read from the connection with
+     * blocking reads, on a virtual thread that runs while the subscriber has outstanding demand.
+     *
+     * @param request the HTTP request to send
+     * @return a future that completes with the HTTP response, or exceptionally with an {@link IOException}
+     */
+    default CompletableFuture<HttpResponse> sendAsync(HttpRequest request) {
+        return sendAsync(request, RequestOptions.defaults());
+    }
+
+    /**
+     * Send a request asynchronously with request options.
+     *
+     * <p>The default implementation calls {@link #send(HttpRequest, RequestOptions)} on a new virtual thread.
+     *
+     * @param request request to send.
+     * @param options options to apply.
+     * @return a future that completes with the HTTP response, or exceptionally with an {@link IOException}
+     */
+    default CompletableFuture<HttpResponse> sendAsync(HttpRequest request, RequestOptions options) {
+        CompletableFuture<HttpResponse> result = new CompletableFuture<>();
+        Thread.startVirtualThread(() -> {
+            try {
+                result.complete(send(request, options));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
     /**
      * Closes the client and its underlying connection pool.
      */
@@ -243,6 +285,23 @@ public interface HttpClient extends AutoCloseable {
             return this;
         }
 
+        /**
+         * Set how long to wait for a connection attempt before racing it with an attempt to the next resolved
+         * address. Default: 250 milliseconds.
+         *
+         * <p>When a host resolves to several addresses, connection attempts follow Happy Eyeballs (RFC 8305):
+         * addresses are tried alternating between IPv6 and IPv4, each attempt starts this long after the previous
+         * one (or as soon as it fails), and the first connection established is used. {@link Duration#ZERO} starts
+         * all attempts at once.
+         *
+         * @param delay delay between connection attempts (must be non-negative)
+         * @return this builder
+         */
+        public Builder connectionAttemptDelay(Duration delay) {
+            connectionConfig.connectionAttemptDelay(delay);
+            return this;
+        }
+
         /**
          * Set the timeout for completing the TLS handshake on a new secure connection. Default: 10 seconds.
          *
@@ -429,6 +488,41 @@ public interface HttpClient extends AutoCloseable {
             return this;
         }
 
+        /**
+         * Set the maximum number of TLS sessions cached for resumption, or 0 for no limit.
+         *
+         * <p>Sessions are cached per host and port, so a new connection to a route that was connected before can
+         * resume its session (a TLS 1.3 pre-shared key, or a TLS 1.2 session ID) instead of doing a full
+         * handshake. Whether a handshake was resumed is reported to {@link HttpClientListener} through
+         * {@code onTlsEnd}.
+         *
+         * <p>This bounds the client session cache of the {@link #sslContext}, which is shared by everything using
+         * that context. When not set, the context's limit is kept. Ignored when a custom {@link #tlsProvider} is
+         * set.
+         *
+         * @param size maximum number of cached sessions (must be non-negative)
+         * @return this builder
+         */
+        public Builder tlsSessionCacheSize(int size) {
+            connectionConfig.tlsSessionCacheSize(size);
+            return this;
+        }
+
+        /**
+         * Set how long a cached TLS session can be resumed after it was created, or {@link Duration#ZERO} for no
+         * limit.
+         *
+         * <p>Like {@link #tlsSessionCacheSize}, this applies to the client session cache of the
+         * {@link #sslContext} and is ignored when a custom {@link #tlsProvider} is set.
+         *
+         * @param timeout session lifetime (must be non-negative)
+         * @return this builder
+         */
+        public Builder tlsSessionTimeout(Duration timeout) {
+            connectionConfig.tlsSessionTimeout(timeout);
+            return this;
+        }
+
         /**
          * Set the HTTP/2 initial stream flow-control window advertised to the peer, in bytes. Default: 65535.
          *
@@ -119,6 +119,31 @@ public interface HttpClientListener {
      */
     default void onTlsEnd(long exchangeId, Route route, String protocol, String cipherSuite, Throwable error) {}
 
+    /**
+     * Called after TLS negotiation with the origin server succeeds or fails, reporting whether the handshake
+     * resumed an earlier session (a TLS 1.3 pre-shared key or a TLS 1.2 session ID) or was a full handshake.
+     *
+     * <p>The client calls this variant; the default implementation delegates to
+     * {@link #onTlsEnd(long, Route, String, String, Throwable)}.
+     *
+     * @param exchangeId opaque client-generated exchange id
+     * @param route route being negotiated
+     * @param protocol ALPN protocol, or null when none was negotiated
+     * @param cipherSuite TLS cipher suite, or null when unavailable
+     * @param resumed true if an earlier session was resumed, false for a full handshake or on failure
+     * @param error failure, or null on success
+     */
+    default void onTlsEnd(
+            long exchangeId,
+            Route route,
+            String protocol,
+            String cipherSuite,
+            boolean resumed,
+            Throwable error
+    ) {
+        onTlsEnd(exchangeId, route, protocol, cipherSuite, error);
+    }
+
     /**
      * Called before sending an HTTP CONNECT request to a proxy.
      *
@@ -10,6 +10,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.CompletableFuture;
 import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.http.api.HttpRequest;
 import software.amazon.smithy.java.http.api.HttpVersion;
@@ -134,6 +135,22 @@ public interface HttpExchange extends AutoCloseable {
      */
     HttpHeaders responseHeaders() throws IOException;
 
+    /**
+     * Get a future that completes once the response headers, or an error, can be read without blocking.
+     *
+     * <p>This lets callers wait for a response without parking a thread on it. After the future completes,
+     * {@link #responseStatusCode()} and {@link #responseHeaders()} return promptly (or throw the error). The future
+     * never completes exceptionally.
+     *
+     * <p>The default implementation returns null, meaning the exchange can't signal readiness (e.g., HTTP/1.1, where
+     * the response is read on the calling thread) and callers have to block on the response methods instead.
+     *
+     * @return a future that completes when response headers are ready, or null if not supported
+     */
+    default CompletableFuture<Void> responseHeadersFuture() {
+        return null;
+    }
+
     /**
      * Get trailer headers if any were received.
      *
@@ -28,6 +28,7 @@ public record ConnectionConfig(
         Duration maxIdleTime,
         Duration acquireTimeout,
         Duration connectTimeout,
+        Duration connectionAttemptDelay,
         Duration tlsNegotiationTimeout,
         Duration readTimeout,
         Duration writeTimeout,
@@ -41,6 +42,8 @@ public record ConnectionConfig(
         Integer socketSendBufferSize,
         int tlsReadBufferSize,
         int tlsWriteBufferSize,
+        Integer tlsSessionCacheSize,
+        Duration tlsSessionTimeout,
         List<HttpClientListener> listeners) {
     public ConnectionConfig {
         if (maxTotalConnections <= 0) {
@@ -72,6 +75,7 @@ public record ConnectionConfig(
         }
         requireNonNegative(acquireTimeout, "acquireTimeout");
         requireNonNegative(connectTimeout, "connectTimeout");
+        requireNonNegative(connectionAttemptDelay, "connectionAttemptDelay");
         requireNonNegative(tlsNegotiationTimeout, "tlsNegotiationTimeout");
         requireNonNegative(readTimeout, "readTimeout");
         requireNonNegative(writeTimeout, "writeTimeout");
@@ -90,6 +94,12 @@ public record ConnectionConfig(
         if (tlsWriteBufferSize <= 0) {
             throw new IllegalArgumentException("tlsWriteBufferSize must be positive: " + tlsWriteBufferSize);
         }
+        if (tlsSessionCacheSize != null && tlsSessionCacheSize < 0) {
+            throw new IllegalArgumentException("tlsSessionCacheSize must be non-negative: " + tlsSessionCacheSize);
+        }
+        if (tlsSessionTimeout != null) {
+            requireNonNegative(tlsSessionTimeout, "tlsSessionTimeout");
+        }
 
         listeners = List.copyOf(listeners);
         if (sslContext == null) {
@@ -122,6 +132,7 @@ public record ConnectionConfig(
         Duration maxIdleTime = Duration.ofMinutes(2);
         Duration acquireTimeout = Duration.ofSeconds(30);
         Duration connectTimeout = Duration.ofSeconds(10);
+        Duration connectionAttemptDelay = Duration.ofMillis(250);
         Duration tlsNegotiationTimeout = Duration.ofSeconds(10);
         Duration readTimeout = Duration.ofSeconds(30);
         Duration writeTimeout = Duration.ofSeconds(30);
@@ -135,6 +146,8 @@ public record ConnectionConfig(
         Integer socketSendBufferSize;
         int tlsReadBufferSize = 16 * 1024;
         int tlsWriteBufferSize = 16 * 1024;
+        Integer tlsSessionCacheSize; // null => leave the SSLContext's client session cache as-is
+        Duration tlsSessionTimeout;
         final List<HttpClientListener> listeners = new LinkedList<>();
 
         protected Builder() {}
@@ -164,6 +177,11 @@ public record ConnectionConfig(
             return this;
         }
 
+        public Builder connectionAttemptDelay(Duration delay) {
+            this.connectionAttemptDelay = delay;
+            return this;
+        }
+
         public Builder tlsNegotiationTimeout(Duration timeout) {
             this.tlsNegotiationTimeout = timeout;
             return this;
@@ -229,6 +247,16 @@ public record ConnectionConfig(
             return this;
         }
 
+        public Builder tlsSessionCacheSize(int size) {
+            this.tlsSessionCacheSize = size;
+            return this;
+        }
+
+        public Builder tlsSessionTimeout(Duration timeout) {
+            this.tlsSessionTimeout = timeout;
+            return this;
+        }
+
         public Builder h2InitialWindowSize(int windowSize) {
             this.h2InitialWindowSize = windowSize;
             return this;
@@ -270,6 +298,7 @@ public record ConnectionConfig(
                     maxIdleTime,
                     acquireTimeout,
                     connectTimeout,
+                    connectionAttemptDelay,
                     tlsNegotiationTimeout,
                     readTimeout,
                     writeTimeout,
@@ -283,6 +312,8 @@ public record ConnectionConfig(
                     socketSendBufferSize,
                     tlsReadBufferSize,
                     tlsWriteBufferSize,
+                    tlsSessionCacheSize,
+                    tlsSessionTimeout,
                     listeners);
         }
     }
@@ -7,15 +7,24 @@ package software.amazon.smithy.java.http.client.connection;
 
 import io.netty.util.Timer;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.net.Inet6Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.http.api.HttpRequest;
@@ -62,7 +71,8 @@ record HttpConnectionFactory(
         int h2MaxFrameSize,
         int h2BufferSize,
         int tlsReadBufferSize,
-        int tlsWriteBufferSize) {
+        int tlsWriteBufferSize,
+        Duration connectionAttemptDelay) {
 
     /**
      * Create a new connection to the given route.
@@ -85,22 +95,169 @@ record HttpConnectionFactory(
         }
 
         List<InetAddress> addresses = factory.resolve(route.host(), exchangeId);
-
-        IOException lastException = null;
-        for (InetAddress address : addresses) {
+        if (addresses.size() == 1) {
+            InetAddress address = addresses.getFirst();
             try {
                 return factory.connectToAddress(address, route, addresses, exchangeId);
             } catch (IOException e) {
-                lastException = e;
                 dnsResolver.reportFailure(address);
+                throw connectFailed(route, addresses, e);
             }
         }
+        return factory.connectRacing(route, addresses, exchangeId);
+    }
 
-        throw new IOException(
+    /**
+     * Connect to the first address that answers, using Happy Eyeballs (RFC 8305).
+     *
+     * <p>Attempts start in {@link #interleave interleaved} address order, each on its own virtual thread, one
+     * {@code connectionAttemptDelay} after the previous one or as soon as the previous one fails. The first
+     * connection established wins; the other attempts are interrupted, and any that still connect are closed.
+     */
+    private HttpConnection connectRacing(Route route, List<InetAddress> addresses, long exchangeId)
+            throws IOException {
+        List<InetAddress> ordered = interleave(addresses);
+        var race = new ConnectionRace(ordered.size());
+        long delayNanos = connectionAttemptDelay.toNanos();
+        int started = 0;
+        int failed = 0;
+        IOException lastException = null;
+        try {
+            race.start(() -> attempt(ordered.getFirst(), route, addresses, exchangeId));
+            started++;
+            while (true) {
+                boolean more = started < ordered.size();
+                var outcome = more ? race.poll(delayNanos) : race.take();
+                if (outcome == null) {
+                    // Nothing finished within the attempt delay: start the next attempt alongside.
+                    InetAddress next = ordered.get(started++);
+                    race.start(() -> attempt(next, route, addresses, exchangeId));
+                } else if (outcome.connection() != null) {
+                    return outcome.connection();
+                } else {
+                    lastException = outcome.error();
+                    dnsResolver.reportFailure(outcome.address());
+                    if (++failed == ordered.size()) {
+                        throw connectFailed(route, addresses, lastException);
+                    }
+                    if (more) {
+                        InetAddress next = ordered.get(started++);
+                        race.start(() -> attempt(next, route, addresses, exchangeId));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while connecting to " + route.host());
+        } finally {
+            race.finish();
+        }
+    }
+
+    private Attempt attempt(InetAddress address, Route route, List<InetAddress> addresses, long exchangeId) {
+        try {
+            return new Attempt(address, connectToAddress(address, route, addresses, exchangeId), null);
+        } catch (IOException e) {
+            return new Attempt(address, null, e);
+        } catch (RuntimeException e) {
+            return new Attempt(address, null, new IOException("Failed to connect to " + address, e));
+        }
+    }
+
+    private static IOException connectFailed(Route route, List<InetAddress> addresses, IOException lastException) {
+        return new IOException(
                 "Failed to connect to " + route.host() + " on any resolved IP (" + addresses.size() + " tried)",
                 lastException);
     }
 
+    /**
+     * Order addresses for connection attempts as RFC 8305 section 4 describes: alternate address families, starting
+     * with the family of the resolver's first address, and otherwise keep the resolver's order.
+     *
+     * @param addresses resolved addresses, in resolver order
+     * @return the addresses in attempt order
+     */
+    static List<InetAddress> interleave(List<InetAddress> addresses) {
+        if (addresses.size() < 2) {
+            return addresses;
+        }
+        boolean firstIsV6 = addresses.getFirst() instanceof Inet6Address;
+        List<InetAddress> preferred = new ArrayList<>(addresses.size());
+        List<InetAddress> other = new ArrayList<>(addresses.size());
+        for (InetAddress address : addresses) {
+            ((address instanceof Inet6Address) == firstIsV6 ? preferred : other).add(address);
+        }
+        if (other.isEmpty()) {
+            return addresses;
+        }
+        List<InetAddress> result = new ArrayList<>(addresses.size());
+        for (int i = 0; i < Math.max(preferred.size(), other.size()); i++) {
+            if (i < preferred.size()) {
+                result.add(preferred.get(i));
+            }
+            if (i < other.size()) {
+                result.add(other.get(i));
+            }
+        }
+        return result;
+    }
+
+    private record Attempt(InetAddress address, HttpConnection connection, IOException error) {}
+
+    /**
+     * The in-flight attempts of one {@link #connectRacing} call.
+     */
+    private static final class ConnectionRace {
+        private final BlockingQueue<Attempt> outcomes;
+        private final List<Thread> threads;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        ConnectionRace(int attempts) {
+            this.outcomes = new ArrayBlockingQueue<>(attempts);
+            this.threads = new ArrayList<>(attempts);
+        }
+
+        void start(Supplier<Attempt> attempt) {
+            threads.add(Thread.startVirtualThread(() -> {
+                outcomes.add(attempt.get());
+                // An attempt that completes after the race finished closes its own connection.
+                if (finished.get()) {
+                    closeLosers();
+                }
+            }));
+        }
+
+        Attempt poll(long timeoutNanos) throws InterruptedException {
+            return outcomes.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        Attempt take() throws InterruptedException {
+            return outcomes.take();
+        }
+
+        void finish() {
+            finished.set(true);
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            closeLosers();
+        }
+
+        // The winner was already taken off the queue, so any connection left on it lost the race.
+        private void closeLosers() {
+            Attempt outcome;
+            while ((outcome = outcomes.poll()) != null) {
+                if (outcome.connection() != null) {
+                    try {
+                        outcome.connection().close();
+                    } catch (IOException ignored) {
+                        // ignored
+                    }
+                }
+            }
+        }
+    }
+
     // Returns this factory, or a copy with connectTimeout/readTimeout replaced by the request's non-null
     // overrides. Only these two are per-request; all other fields (TLS, buffers, listeners, timers) are
     // shared client config and are carried over unchanged.
@@ -129,7 +286,8 @@ record HttpConnectionFactory(
                 h2MaxFrameSize,
                 h2BufferSize,
                 tlsReadBufferSize,
-                tlsWriteBufferSize);
+                tlsWriteBufferSize,
+                connectionAttemptDelay);
     }
 
     private HttpConnection connectToAddress(
@@ -209,6 +367,7 @@ record HttpConnectionFactory(
                 .readTimeoutMillis(toIntMillis(readTimeout))
                 .build();
 
+        long tlsStartMillis = System.currentTimeMillis();
         notifyTlsStart(exchangeId, route);
         ConnectionTransport transport;
         try {
@@ -218,7 +377,7 @@ record HttpConnectionFactory(
             notifyTlsEnd(exchangeId, route, null, e);
             throw e;
         }
-        notifyTlsEnd(exchangeId, route, transport, null);
+        notifyTlsEnd(exchangeId, route, transport, tlsStartMillis);
         return createProtocolConnection(transport, route);
     }
 
@@ -228,6 +387,7 @@ record HttpConnectionFactory(
                 .readTimer(readTimer)
                 .build();
 
+        long tlsStartMillis = System.currentTimeMillis();
         notifyTlsStart(exchangeId, route);
         ConnectionTransport transport;
         try {
@@ -237,7 +397,7 @@ record HttpConnectionFactory(
             notifyTlsEnd(exchangeId, route, null, e);
             throw e;
         }
-        notifyTlsEnd(exchangeId, route, transport, null);
+        notifyTlsEnd(exchangeId, route, transport, tlsStartMillis);
         return transport;
     }
 
@@ -574,11 +734,27 @@ record HttpConnectionFactory(
     }
 
     private void notifyTlsEnd(long exchangeId, Route route, ConnectionTransport transport, Throwable error) {
+        notifyTlsEnd(exchangeId, route, transport == null ? null : transport.negotiatedProtocol(), null, false, error);
+    }
+
+    private void notifyTlsEnd(long exchangeId, Route route, ConnectionTransport transport, long tlsStartMillis) {
+        if (!hasListeners) {
+            return;
+        }
         String cipherSuite = null;
-        if (transport != null && transport.sslSession() != null) {
-            cipherSuite = transport.sslSession().getCipherSuite();
+        boolean resumed = false;
+        SSLSession session = transport.sslSession();
+        if (session != null) {
+            cipherSuite = session.getCipherSuite();
+            resumed = isResumed(session, tlsStartMillis);
         }
-        notifyTlsEnd(exchangeId, route, transport == null ? null : transport.negotiatedProtocol(), cipherSuite, error);
+        notifyTlsEnd(exchangeId, route, transport.negotiatedProtocol(), cipherSuite, resumed, null);
+    }
+
+    // SSLSession has no resumption flag, but a resumed session (TLS 1.3 PSK or TLS 1.2 session ID) was created
+    // by an earlier handshake, so it predates this one. This holds for the JDK and OpenSSL-based engines alike.
+    private static boolean isResumed(SSLSession session, long tlsStartMillis) {
+        return session.getCreationTime() < tlsStartMillis;
     }
 
     private void notifyTlsEnd(
@@ -586,12 +762,13 @@ record HttpConnectionFactory(
             Route route,
             String protocol,
             String cipherSuite,
+            boolean resumed,
             Throwable error
     ) {
         if (hasListeners) {
             for (HttpClientListener listener : listeners) {
                 try {
-                    listener.onTlsEnd(exchangeId, route, protocol, cipherSuite, error);
+                    listener.onTlsEnd(exchangeId, route, protocol, cipherSuite, resumed, error);
                 } catch (Throwable e) {
                     ListenerSupport.listenerFailed("onTlsEnd", e);
                 }
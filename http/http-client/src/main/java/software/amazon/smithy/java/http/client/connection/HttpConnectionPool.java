@@ -210,7 +210,8 @@ public final class HttpConnectionPool implements ConnectionPool {
                 config.h2MaxFrameSize(),
                 config.h2BufferSize(),
                 config.tlsReadBufferSize(),
-                config.tlsWriteBufferSize());
+                config.tlsWriteBufferSize(),
+                config.connectionAttemptDelay());
 
         this.h1Manager = new H1ConnectionManager(this.maxIdleTimeNanos);
         this.connectionPermits = new Semaphore(config.maxTotalConnections(), false);
@@ -566,10 +567,16 @@ public final class HttpConnectionPool implements ConnectionPool {
         if (discovered != null) {
             return discovered;
         }
-        return JdkTlsProvider.builder()
+        var jdk = JdkTlsProvider.builder()
                 .sslContext(config.sslContext())
-                .sslParameters(config.sslParameters())
-                .build();
+                .sslParameters(config.sslParameters());
+        if (config.tlsSessionCacheSize() != null) {
+            jdk.sessionCacheSize(config.tlsSessionCacheSize());
+        }
+        if (config.tlsSessionTimeout() != null) {
+            jdk.sessionTimeout(config.tlsSessionTimeout());
+        }
+        return jdk.build();
     }
 
     private static HttpSocketFactory resolveSocketFactory(ConnectionConfig config) {
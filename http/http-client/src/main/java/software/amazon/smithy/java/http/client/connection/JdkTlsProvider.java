@@ -7,7 +7,9 @@ package software.amazon.smithy.java.http.client.connection;
 
 import java.io.IOException;
 import java.net.Socket;
+import java.security.GeneralSecurityException;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.List;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
@@ -30,6 +32,12 @@ import javax.net.ssl.SSLSocket;
  * {@code HttpClient.Builder.sslContext(...)} / {@code sslParameters(...)} setters: those build a
  * {@code JdkTlsProvider} implicitly, equivalent to selecting one explicitly via
  * {@code tlsProvider(JdkTlsProvider.builder().sslContext(...).sslParameters(...).build())}.
+ *
+ * <p>Engines and sockets are created with the peer's host and port, so the context's client session cache can
+ * resume an earlier session to the same host and port (a TLS 1.3 pre-shared key, or a TLS 1.2 session ID) instead
+ * of doing a full handshake on every new connection. The cache is bounded by {@link Builder#sessionCacheSize} and
+ * {@link Builder#sessionTimeout}. When either is set without an {@link Builder#sslContext}, the provider uses a
+ * context of its own rather than {@link SSLContext#getDefault()}, whose cache is shared by the whole JVM.
  */
 public final class JdkTlsProvider implements TlsProvider {
 
@@ -39,8 +47,27 @@ public final class JdkTlsProvider implements TlsProvider {
     private final SSLParameters sslParameters;
 
     private JdkTlsProvider(Builder builder) {
-        this.sslContext = builder.sslContext != null ? builder.sslContext : defaultContext();
+        boolean bounded = builder.sessionCacheSize != null || builder.sessionTimeout != null;
+        if (builder.sslContext != null) {
+            this.sslContext = builder.sslContext;
+        } else {
+            this.sslContext = bounded ? newContext() : defaultContext();
+        }
         this.sslParameters = builder.sslParameters;
+        // The client session cache belongs to the SSLContext, so these bounds also apply to anything else that
+        // shares a supplied context.
+        var sessions = sslContext.getClientSessionContext();
+        if (builder.sessionCacheSize != null) {
+            sessions.setSessionCacheSize(builder.sessionCacheSize);
+        }
+        if (builder.sessionTimeout != null) {
+            // The cache counts whole seconds. Round up, so a sub-second timeout doesn't become 0, meaning no limit.
+            long seconds = Math.min(Integer.MAX_VALUE, builder.sessionTimeout.getSeconds());
+            if (builder.sessionTimeout.getNano() > 0 && seconds < Integer.MAX_VALUE) {
+                seconds++;
+            }
+            sessions.setSessionTimeout((int) seconds);
+        }
     }
 
     /**
@@ -151,6 +178,17 @@ public final class JdkTlsProvider implements TlsProvider {
         }
     }
 
+    // Same defaults as SSLContext.getDefault(), but with a session cache of its own.
+    private static SSLContext newContext() {
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(null, null, null);
+            return context;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to create SSLContext", e);
+        }
+    }
+
     // Deep-copy SSLParameters so per-connection mutation (endpoint id, ALPN) does not alter the shared
     // user-supplied instance. Used by both the SSLSocket and SSLEngine strategies here, and by the
     // factory's proxy-leg TLS so all JDK TLS paths copy the same full set of fields.
@@ -174,11 +212,14 @@ public final class JdkTlsProvider implements TlsProvider {
     public static final class Builder {
         private SSLContext sslContext;
         private SSLParameters sslParameters;
+        private Integer sessionCacheSize;
+        private Duration sessionTimeout;
 
         private Builder() {}
 
         /**
-         * @param sslContext the SSL context, or null to use {@link SSLContext#getDefault()}
+         * @param sslContext the SSL context, or null to use {@link SSLContext#getDefault()} (or a new context with
+         *     the same defaults when session cache bounds are set)
          * @return this builder
          */
         public Builder sslContext(SSLContext sslContext) {
@@ -196,6 +237,33 @@ public final class JdkTlsProvider implements TlsProvider {
             return this;
         }
 
+        /**
+         * @param size the maximum number of TLS sessions kept for resumption, or 0 for no limit. When not set, the
+         *     context's current limit is kept (the JDK defaults to 20480).
+         * @return this builder
+         */
+        public Builder sessionCacheSize(int size) {
+            if (size < 0) {
+                throw new IllegalArgumentException("sessionCacheSize must be non-negative: " + size);
+            }
+            this.sessionCacheSize = size;
+            return this;
+        }
+
+        /**
+         * @param timeout how long a TLS session can be resumed after it was created, or {@link Duration#ZERO} for no
+         *     limit. Rounded up to whole seconds. When not set, the context's current timeout is kept (the JDK
+         *     defaults to 24 hours).
+         * @return this builder
+         */
+        public Builder sessionTimeout(Duration timeout) {
+            if (timeout == null || timeout.isNegative()) {
+                throw new IllegalArgumentException("sessionTimeout must be non-negative: " + timeout);
+            }
+            this.sessionTimeout = timeout;
+            return this;
+        }
+
         public JdkTlsProvider build() {
             return new JdkTlsProvider(this);
         }
@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.http.client.dns;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * DNS resolver decorator that caches results per hostname so warm hosts never block on DNS.
+ *
+ * <p>An entry is fresh for the first three quarters of its TTL. After that, the next resolve starts a refresh on a
+ * virtual thread and keeps returning the cached addresses. Once the TTL passes, cached addresses are still returned
+ * (and refreshed in the background) for up to another TTL, which also covers refreshes that fail. Only a host that
+ * was never resolved, or was idle for longer than that, is resolved on the calling thread. Failed lookups are cached
+ * for the negative TTL.
+ *
+ * <p>Addresses reported through {@link #reportFailure} are moved to the end of results for one TTL.
+ *
+ * <p>At most once per TTL, a resolve or failure report also drops the entries that can no longer be served (and
+ * failure reports that expired), so hosts and addresses that stop being used don't stay in memory.
+ */
+final class CachingDnsResolver implements DnsResolver {
+    private final DnsResolver delegate;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<InetAddress, Long> failedUntil = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt;
+
+    CachingDnsResolver(DnsResolver delegate, Duration ttl, Duration negativeTtl) {
+        this(delegate,
+                ttl,
+                negativeTtl,
+                refresh -> Thread.ofVirtual().name("smithy-dns-refresh").start(refresh),
+                System::nanoTime);
+    }
+
+    CachingDnsResolver(
+            DnsResolver delegate,
+            Duration ttl,
+            Duration negativeTtl,
+            Executor refreshExecutor,
+            LongSupplier nanoClock
+    ) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive: " + ttl);
+        }
+        if (negativeTtl == null || negativeTtl.isNegative()) {
+            throw new IllegalArgumentException("negativeTtl must be non-negative: " + negativeTtl);
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+        this.nextSweepAt = new AtomicLong(nanoClock.getAsLong() + ttlNanos);
+    }
+
+    @Override
+    public List<InetAddress> resolve(String hostname) throws IOException {
+        String key = normalize(hostname);
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.error != null) {
+                if (now - entry.resolvedAt < negativeTtlNanos) {
+                    throw new IOException("Failed to resolve hostname (cached): " + hostname, entry.error);
+                }
+            } else {
+                long age = now - entry.resolvedAt;
+                if (age < ttlNanos * 2) {
+                    if (age >= ttlNanos - ttlNanos / 4) {
+                        refreshAhead(hostname, key, entry, now);
+                    }
+                    return order(entry.addresses, now);
+                }
+            }
+        }
+        return order(lookup(hostname, key, now), now);
+    }
+
+    private List<InetAddress> lookup(String hostname, String key, long now) throws IOException {
+        try {
+            List<InetAddress> addresses = delegate.resolve(hostname);
+            entries.put(key, new Entry(addresses, null, now));
+            return addresses;
+        } catch (IOException e) {
+            entries.put(key, new Entry(null, e, now));
+            throw e;
+        }
+    }
+
+    private void refreshAhead(String hostname, String key, Entry entry, long now) {
+        if (now - entry.retryAt < 0 || !entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                List<InetAddress> addresses = delegate.resolve(hostname);
+                entries.replace(key, entry, new Entry(addresses, null, nanoClock.getAsLong()));
+            } catch (IOException | RuntimeException e) {
+                // Keep serving the cached addresses until they are too stale; retry after the negative TTL.
+                entry.retryAt = nanoClock.getAsLong() + negativeTtlNanos;
+            } finally {
+                entry.refreshing.set(false);
+            }
+        });
+    }
+
+    // Moves addresses that recently failed to connect to the end, keeping the order within each group.
+    private List<InetAddress> order(List<InetAddress> addresses, long now) {
+        if (failedUntil.isEmpty()) {
+            return addresses;
+        }
+        List<InetAddress> healthy = null;
+        List<InetAddress> failed = null;
+        for (int i = 0; i < addresses.size(); i++) {
+            InetAddress address = addresses.get(i);
+            Long until = failedUntil.get(address);
+            if (until != null && now - until >= 0) {
+                failedUntil.remove(address, until);
+                until = null;
+            }
+            if (until != null) {
+                if (failed == null) {
+                    healthy = new ArrayList<>(addresses.subList(0, i));
+                    failed = new ArrayList<>();
+                }
+                failed.add(address);
+            } else if (healthy != null) {
+                healthy.add(address);
+            }
+        }
+        if (failed == null) {
+            return addresses;
+        }
+        healthy.addAll(failed);
+        return List.copyOf(healthy);
+    }
+
+    @Override
+    public void reportFailure(InetAddress address) {
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        failedUntil.put(address, now + ttlNanos);
+        delegate.reportFailure(address);
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweepAt.get();
+        if (now - due < 0 || !nextSweepAt.compareAndSet(due, now + ttlNanos)) {
+            return;
+        }
+        // Conditional removals: an entry replaced since it was read is kept.
+        entries.values().removeIf(entry -> {
+            long maxAge = entry.error != null ? negativeTtlNanos : ttlNanos * 2;
+            return now - entry.resolvedAt >= maxAge;
+        });
+        failedUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    // Package-private, for tests only.
+    int cachedHosts() {
+        return entries.size();
+    }
+
+    // Package-private, for tests only.
+    int failedAddresses() {
+        return failedUntil.size();
+    }
+
+    @Override
+    public void purgeCache(String hostname) {
+        entries.remove(normalize(hostname));
+        delegate.purgeCache(hostname);
+    }
+
+    @Override
+    public void purgeCache() {
+        entries.clear();
+        failedUntil.clear();
+        delegate.purgeCache();
+    }
+
+    private static String normalize(String hostname) {
+        return hostname.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final List<InetAddress> addresses;
+        private final IOException error;
+        private final long resolvedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long retryAt;
+
+        private Entry(List<InetAddress> addresses, IOException error, long resolvedAt) {
+            this.addresses = addresses;
+            this.error = error;
+            this.resolvedAt = resolvedAt;
+            this.retryAt = resolvedAt;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CachingDnsResolver(" + delegate + ")";
+    }
+}
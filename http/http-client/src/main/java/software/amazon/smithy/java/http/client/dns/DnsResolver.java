@@ -7,6 +7,7 @@ package software.amazon.smithy.java.http.client.dns;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -117,6 +118,43 @@ public interface DnsResolver {
         return new RoundRobinDnsResolver(resolver);
     }
 
+    /**
+     * Creates a caching DNS resolver backed by the system resolver, caching results for 30 seconds and failures for
+     * 10 seconds (the JVM's default cache settings).
+     *
+     * @return a caching DNS resolver backed by the system resolver.
+     * @see #caching(DnsResolver, Duration, Duration)
+     */
+    static DnsResolver caching() {
+        return caching(system(), Duration.ofSeconds(30), Duration.ofSeconds(10));
+    }
+
+    /**
+     * Decorates a DNS resolver with a per-hostname cache that keeps warm hosts from ever blocking on DNS.
+     *
+     * <ul>
+     *   <li>Results are refreshed on a background virtual thread shortly before {@code ttl} expires, while the
+     *       cached addresses keep being returned.</li>
+     *   <li>When a refresh fails or is late, the previous addresses keep being returned for up to another
+     *       {@code ttl} (stale-while-revalidate).</li>
+     *   <li>Failed lookups are cached for {@code negativeTtl}.</li>
+     *   <li>Addresses passed to {@link #reportFailure} are moved to the end of results for one {@code ttl}.</li>
+     * </ul>
+     *
+     * <p>The JDK doesn't expose record TTLs, so {@code ttl} applies to every hostname. When decorating the system
+     * resolver, the JVM's own cache ({@code networkaddress.cache.ttl}) still applies underneath.
+     *
+     * @param resolver resolver to decorate.
+     * @param ttl how long resolved addresses are fresh (must be positive).
+     * @param negativeTtl how long a failed lookup is cached (must be non-negative).
+     * @return a caching DNS resolver.
+     * @throws NullPointerException if resolver is null.
+     * @throws IllegalArgumentException if a TTL is out of range.
+     */
+    static DnsResolver caching(DnsResolver resolver, Duration ttl, Duration negativeTtl) {
+        return new CachingDnsResolver(resolver, ttl, negativeTtl);
+    }
+
     /**
      * Creates a DNS resolver with static hostname mappings.
      *
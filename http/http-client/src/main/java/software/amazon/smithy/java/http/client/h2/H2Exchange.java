@@ -25,6 +25,7 @@ import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayDeque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
@@ -95,6 +96,8 @@ final class H2Exchange implements HttpExchange {
     private final Condition dataAvailable = dataLock.newCondition();
     private volatile boolean readWaiterRegistered;
     private volatile IOException readError;
+    // Completed by the reader thread when response headers or an error arrive (protected by dataLock)
+    private CompletableFuture<Void> headersReady;
 
     // Stream-level timeouts (tick-based: 1 tick = TIMEOUT_POLL_INTERVAL_MS)
     private final long readTimeoutMs;
@@ -422,6 +425,15 @@ final class H2Exchange implements HttpExchange {
         if (readWaiterRegistered) {
             dataAvailable.signal();
         }
+        completeHeadersReadyLocked();
+    }
+
+    private void completeHeadersReadyLocked() {
+        CompletableFuture<Void> ready = headersReady;
+        if (ready != null) {
+            headersReady = null;
+            ready.complete(null);
+        }
     }
 
     boolean awaitNextChunk(H2StreamBody.ChunkSlot chunk) throws IOException {
@@ -675,6 +687,33 @@ final class H2Exchange implements HttpExchange {
         return state.getStatusCode();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The returned future is completed by the connection's reader thread while it holds the stream's data
+     * lock, so dependents must be attached with an async stage.
+     */
+    @Override
+    public CompletableFuture<Void> responseHeadersFuture() {
+        onReadActivity(); // Start timeout when beginning to wait for the response
+        dataLock.lock();
+        try {
+            int rs = state.getReadState();
+            if (state.isResponseHeadersReceived()
+                    || !pendingHeadersQueue.isEmpty()
+                    || rs == RS_ERROR
+                    || rs == RS_DONE) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (headersReady == null) {
+                headersReady = new CompletableFuture<>();
+            }
+            return headersReady;
+        } finally {
+            dataLock.unlock();
+        }
+    }
+
     @Override
     public HttpVersion responseVersion() {
         return HttpVersion.HTTP_2;
@@ -710,6 +749,7 @@ final class H2Exchange implements HttpExchange {
             dataLock.lock();
             try {
                 dataAvailable.signal();
+                completeHeadersReadyLocked();
             } finally {
                 dataLock.unlock();
             }
@@ -17,10 +17,16 @@ import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -745,6 +751,188 @@ class DefaultHttpClientTest {
         }
     }
 
+    @Test
+    void sendAsyncReturnsResponse() throws Exception {
+        var pool = new TestConnectionPool();
+        try (var client = HttpClient.builder().connectionPoolFactory(config -> pool).build()) {
+            var request = HttpRequest.create()
+                    .setMethod("GET")
+                    .setUri(SmithyUri.of("http://example.com/test"));
+
+            var response = client.sendAsync(request).get(5, TimeUnit.SECONDS);
+
+            assertEquals(200, response.statusCode());
+            assertEquals("test-body", new String(response.body().asInputStream().readAllBytes()));
+        }
+    }
+
+    @Test
+    void sendAsyncCompletesWhenResponseHeadersAreReady() throws Exception {
+        var headersReady = new CompletableFuture<Void>();
+        var statusRead = new AtomicBoolean(false);
+        var pool = new TestConnectionPool() {
+            @Override
+            protected HttpExchange createExchange() {
+                return new TestHttpExchange() {
+                    @Override
+                    public CompletableFuture<Void> responseHeadersFuture() {
+                        return headersReady;
+                    }
+
+                    @Override
+                    public int responseStatusCode() {
+                        statusRead.set(true);
+                        return 200;
+                    }
+                };
+            }
+        };
+        try (var client = HttpClient.builder().connectionPoolFactory(config -> pool).build()) {
+            var request = HttpRequest.create()
+                    .setMethod("GET")
+                    .setUri(SmithyUri.of("http://example.com/test"));
+
+            var future = client.sendAsync(request);
+            Thread.sleep(50);
+
+            assertFalse(future.isDone(), "Should wait for response headers");
+            assertFalse(statusRead.get(), "Should not read the response before headers are ready");
+
+            headersReady.complete(null);
+
+            assertEquals(200, future.get(5, TimeUnit.SECONDS).statusCode());
+        }
+    }
+
+    @Test
+    void sendAsyncFailsOnTimeout() throws Exception {
+        var ended = new AtomicInteger();
+        var pool = new TestConnectionPool() {
+            @Override
+            protected HttpExchange createExchange() {
+                return new TestHttpExchange() {
+                    @Override
+                    public CompletableFuture<Void> responseHeadersFuture() {
+                        return new CompletableFuture<>();
+                    }
+                };
+            }
+        };
+        try (var client = HttpClient.builder()
+                .connectionPoolFactory(config -> pool)
+                .requestTimeout(Duration.ofMillis(50))
+                .addListener(new HttpClientListener() {
+                    @Override
+                    public void onRequestEnd(long exchangeId, Throwable error) {
+                        ended.incrementAndGet();
+                    }
+                })
+                .build()) {
+            var request = HttpRequest.create()
+                    .setMethod("GET")
+                    .setUri(SmithyUri.of("http://example.com/test"));
+
+            var ex = assertThrows(ExecutionException.class, () -> client.sendAsync(request).get(5, TimeUnit.SECONDS));
+
+            assertTrue(ex.getCause() instanceof IOException, "Should fail with an IOException: " + ex.getCause());
+            assertTrue(ex.getCause().getMessage().contains("exceeded request timeout"));
+            assertEquals(1, ended.get(), "onRequestEnd should fire once");
+        }
+    }
+
+    @Test
+    void sendAsyncTimeoutReleasesTheExchange() throws Exception {
+        var exchangeClosed = new CountDownLatch(1);
+        var evicted = new CountDownLatch(1);
+        var released = new AtomicBoolean(false);
+        var pool = new TestConnectionPool() {
+            @Override
+            protected HttpExchange createExchange() {
+                return new TestHttpExchange() {
+                    @Override
+                    public CompletableFuture<Void> responseHeadersFuture() {
+                        // The response headers never arrive.
+                        return new CompletableFuture<>();
+                    }
+
+                    @Override
+                    public void close() {
+                        exchangeClosed.countDown();
+                    }
+                };
+            }
+
+            @Override
+            public void release(HttpConnection connection) {
+                released.set(true);
+            }
+
+            @Override
+            public void evict(HttpConnection connection, boolean close) {
+                evicted.countDown();
+            }
+        };
+        try (var client = HttpClient.builder()
+                .connectionPoolFactory(config -> pool)
+                .requestTimeout(Duration.ofMillis(50))
+                .build()) {
+            var request = HttpRequest.create()
+                    .setMethod("GET")
+                    .setUri(SmithyUri.of("http://example.com/test"));
+
+            assertThrows(ExecutionException.class, () -> client.sendAsync(request).get(5, TimeUnit.SECONDS));
+
+            assertTrue(exchangeClosed.await(5, TimeUnit.SECONDS), "Timed out exchange should be closed");
+            assertTrue(evicted.await(5, TimeUnit.SECONDS), "Connection of the exchange should be evicted");
+            assertFalse(released.get(), "Connection should not be returned to the pool");
+        }
+    }
+
+    @Test
+    void responseBodyCanBeConsumedAsPublisher() throws Exception {
+        var released = new AtomicBoolean(false);
+        var pool = new TestConnectionPool() {
+            @Override
+            public void release(HttpConnection connection) {
+                released.set(true);
+            }
+        };
+        try (var client = HttpClient.builder().connectionPoolFactory(config -> pool).build()) {
+            var request = HttpRequest.create()
+                    .setMethod("GET")
+                    .setUri(SmithyUri.of("http://example.com/test"));
+            var response = client.send(request);
+            var received = new StringBuilder();
+            var done = new CompletableFuture<Void>();
+
+            response.body().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer item) {
+                    received.append(StandardCharsets.UTF_8.decode(item));
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    done.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    done.complete(null);
+                }
+            });
+            done.get(5, TimeUnit.SECONDS);
+
+            assertEquals("test-body", received.toString());
+            assertTrue(released.get(), "Connection should be released once the body is published");
+        }
+    }
+
     // Test fixtures
 
     private static class TestConnectionPool implements ConnectionPool {
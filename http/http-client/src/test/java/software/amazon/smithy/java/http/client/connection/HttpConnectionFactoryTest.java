@@ -6,10 +6,42 @@
 package software.amazon.smithy.java.http.client.connection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.TrustManagerFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.smithy.java.http.api.HttpRequest;
+import software.amazon.smithy.java.http.client.HttpClientListener;
+import software.amazon.smithy.java.http.client.RequestOptions;
+import software.amazon.smithy.java.http.client.dns.DnsResolver;
+import software.amazon.smithy.java.io.uri.SmithyUri;
 
 class HttpConnectionFactoryTest {
 
@@ -77,4 +109,323 @@ class HttpConnectionFactoryTest {
                 IOException.class,
                 () -> HttpConnectionFactory.selectProtocol(null, false, HttpVersionPolicy.ENFORCE_HTTP_2));
     }
+
+    @Test
+    void interleavesAddressFamiliesStartingWithTheFirstAddress() throws IOException {
+        var v6a = InetAddress.getByName("2001:db8::1");
+        var v6b = InetAddress.getByName("2001:db8::2");
+        var v4a = InetAddress.getByName("192.0.2.1");
+        var v4b = InetAddress.getByName("192.0.2.2");
+        var v4c = InetAddress.getByName("192.0.2.3");
+
+        assertEquals(List.of(v6a, v4a, v6b, v4b, v4c),
+                HttpConnectionFactory.interleave(List.of(v6a, v6b, v4a, v4b, v4c)));
+        assertEquals(List.of(v4a, v6a, v4b, v6b),
+                HttpConnectionFactory.interleave(List.of(v4a, v4b, v6a, v6b)));
+    }
+
+    @Test
+    void keepsResolverOrderForASingleAddressFamily() throws IOException {
+        var v4a = InetAddress.getByName("192.0.2.1");
+        var v4b = InetAddress.getByName("192.0.2.2");
+
+        assertEquals(List.of(v4a, v4b), HttpConnectionFactory.interleave(List.of(v4a, v4b)));
+    }
+
+    @Test
+    void startsTheNextAttemptAfterTheDelayAndClosesLateLosers() throws Exception {
+        var blackholed = InetAddress.getByName("192.0.2.1");
+        var winner = InetAddress.getByName("192.0.2.2");
+        var releaseBlackholed = new CountDownLatch(1);
+        try (var server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            var sockets = new ScriptedSockets(server.getLocalPort());
+            sockets.script(blackholed, () -> awaitUninterruptibly(releaseBlackholed));
+            sockets.script(winner, () -> Thread.sleep(50));
+            var dns = new RecordingDnsResolver(List.of(blackholed, winner));
+            var delay = Duration.ofMillis(200);
+
+            try (var connection = factory(dns, sockets, delay).create(route(), 1, RequestOptions.defaults())) {
+                assertEquals(List.of(blackholed, winner), sockets.started);
+                long stagger = sockets.startNanos.get(winner) - sockets.startNanos.get(blackholed);
+                assertTrue(stagger >= delay.toNanos() / 2, "Second attempt started after " + stagger + "ns");
+                assertTrue(sockets.sockets.get(winner).isConnected());
+                assertTrue(dns.failures.isEmpty());
+
+                releaseBlackholed.countDown();
+                assertTrue(sockets.closed(blackholed).await(5, TimeUnit.SECONDS), "Losing connection not closed");
+                assertFalse(sockets.sockets.get(winner).isClosed());
+            }
+        }
+    }
+
+    @Test
+    void startsTheNextAttemptAsSoonAsOneFails() throws Exception {
+        var first = InetAddress.getByName("192.0.2.1");
+        var second = InetAddress.getByName("192.0.2.2");
+        var third = InetAddress.getByName("192.0.2.3");
+        try (var server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            var sockets = new ScriptedSockets(server.getLocalPort());
+            sockets.script(first, ScriptedSockets::refuse);
+            sockets.script(second, ScriptedSockets::refuse);
+            var dns = new RecordingDnsResolver(List.of(first, second, third));
+            var delay = Duration.ofSeconds(30);
+
+            long start = System.nanoTime();
+            try (var connection = factory(dns, sockets, delay).create(route(), 1, RequestOptions.defaults())) {
+                assertTrue(System.nanoTime() - start < delay.toNanos());
+                assertEquals(List.of(first, second, third), sockets.started);
+                assertEquals(List.of(first, second), dns.failures);
+                assertTrue(sockets.sockets.get(third).isConnected());
+            }
+        }
+    }
+
+    @Test
+    void reportsEveryFailedAddressWhenAllAttemptsFail() throws Exception {
+        var first = InetAddress.getByName("192.0.2.1");
+        var second = InetAddress.getByName("2001:db8::1");
+        var sockets = new ScriptedSockets(1);
+        sockets.script(first, ScriptedSockets::refuse);
+        sockets.script(second, ScriptedSockets::refuse);
+        var dns = new RecordingDnsResolver(List.of(first, second));
+
+        var e = assertThrows(IOException.class,
+                () -> factory(dns, sockets, Duration.ofMillis(50)).create(route(), 1, RequestOptions.defaults()));
+
+        assertTrue(e.getCause() instanceof ConnectException);
+        assertEquals(List.of(first, second), dns.failures);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"TLSv1.2", "TLSv1.3"})
+    void reportsResumedTlsSessions(String protocol) throws Exception {
+        var ssc = new SelfSignedCertificate();
+        var keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setKeyEntry("key", ssc.key(), new char[0], new Certificate[] {ssc.cert()});
+        var kmf = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        kmf.init(keyStore, new char[0]);
+        var serverContext = SSLContext.getInstance("TLS");
+        serverContext.init(kmf.getKeyManagers(), null, null);
+
+        var trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        trustStore.setCertificateEntry("server", ssc.cert());
+        var tmf = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        tmf.init(trustStore);
+        var clientContext = SSLContext.getInstance("TLS");
+        clientContext.init(null, tmf.getTrustManagers(), null);
+        var params = new SSLParameters();
+        params.setProtocols(new String[] {protocol});
+        var provider = JdkTlsProvider.builder()
+                .sslContext(clientContext)
+                .sslParameters(params)
+                .sessionCacheSize(16)
+                .sessionTimeout(Duration.ofMinutes(5))
+                .build();
+
+        List<Boolean> resumed = new CopyOnWriteArrayList<>();
+        var listener = new HttpClientListener() {
+            @Override
+            public void onTlsEnd(
+                    long exchangeId,
+                    Route route,
+                    String negotiatedProtocol,
+                    String cipherSuite,
+                    boolean wasResumed,
+                    Throwable error
+            ) {
+                resumed.add(wasResumed);
+            }
+        };
+
+        try (var server = serverContext.getServerSocketFactory()
+                .createServerSocket(0, 2, InetAddress.getLoopbackAddress())) {
+            Thread.startVirtualThread(() -> serveEmptyResponses(server));
+            var factory = tlsFactory(provider, listener);
+            var route = Route.direct("https", "localhost", server.getLocalPort());
+            var request = HttpRequest.create()
+                    .setMethod("GET")
+                    .setUri(SmithyUri.of("https://localhost:" + server.getLocalPort() + "/"));
+
+            for (int i = 0; i < 2; i++) {
+                try (var connection = factory.create(route, i, RequestOptions.defaults())) {
+                    // A TLS 1.3 server sends the ticket to resume with after the handshake, so read a response.
+                    var exchange = connection.newExchange(request, RequestOptions.defaults());
+                    assertEquals(200, exchange.responseStatusCode());
+                    exchange.close();
+                }
+                // Session creation times, which tell resumed sessions apart, are in milliseconds.
+                Thread.sleep(10);
+            }
+        }
+
+        assertEquals(List.of(false, true), resumed);
+    }
+
+    // Answers every request with an empty 200 response, until the server is closed.
+    private static void serveEmptyResponses(ServerSocket server) {
+        while (!server.isClosed()) {
+            try (var socket = server.accept()) {
+                var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                String line;
+                do {
+                    line = in.readLine();
+                } while (line != null && !line.isEmpty());
+                var out = socket.getOutputStream();
+                out.write("HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                // Wait for the client to hang up.
+                in.read();
+            } catch (IOException ignored) {
+                // The client went away, or the server was closed.
+            }
+        }
+    }
+
+    private static Route route() {
+        return Route.direct("http", "example.com", 80);
+    }
+
+    private static HttpConnectionFactory tlsFactory(TlsProvider provider, HttpClientListener listener) {
+        return new HttpConnectionFactory(
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                null,
+                null,
+                provider,
+                HttpVersionPolicy.ENFORCE_HTTP_1_1,
+                new RecordingDnsResolver(List.of(InetAddress.getLoopbackAddress())),
+                List.of(listener),
+                true,
+                (route, endpoints) -> new Socket(),
+                null,
+                null,
+                65535,
+                16384,
+                65536,
+                16384,
+                16384,
+                Duration.ofMillis(250));
+    }
+
+    private static HttpConnectionFactory factory(DnsResolver dns, HttpSocketFactory sockets, Duration delay) {
+        return new HttpConnectionFactory(
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                Duration.ofSeconds(5),
+                null,
+                null,
+                null,
+                HttpVersionPolicy.AUTOMATIC,
+                dns,
+                List.of(),
+                false,
+                sockets,
+                null,
+                null,
+                65535,
+                16384,
+                65536,
+                16384,
+                16384,
+                delay);
+    }
+
+    // Swallows interrupts, like a connect that doesn't notice the race is over.
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+                // keep waiting
+            }
+        }
+    }
+
+    private static final class RecordingDnsResolver implements DnsResolver {
+        private final List<InetAddress> addresses;
+        private final List<InetAddress> failures = new CopyOnWriteArrayList<>();
+
+        RecordingDnsResolver(List<InetAddress> addresses) {
+            this.addresses = addresses;
+        }
+
+        @Override
+        public List<InetAddress> resolve(String hostname) {
+            return addresses;
+        }
+
+        @Override
+        public void reportFailure(InetAddress address) {
+            failures.add(address);
+        }
+    }
+
+    /**
+     * Hands out sockets that run a per-address script before connecting to a local server in place of the
+     * address they were asked to connect to.
+     */
+    private static final class ScriptedSockets implements HttpSocketFactory {
+        private final int port;
+        private final Map<InetAddress, ConnectScript> scripts = new ConcurrentHashMap<>();
+        private final Map<InetAddress, Socket> sockets = new ConcurrentHashMap<>();
+        private final Map<InetAddress, Long> startNanos = new ConcurrentHashMap<>();
+        private final Map<InetAddress, CountDownLatch> closed = new ConcurrentHashMap<>();
+        private final List<InetAddress> started = new CopyOnWriteArrayList<>();
+
+        ScriptedSockets(int port) {
+            this.port = port;
+        }
+
+        void script(InetAddress address, ConnectScript script) {
+            scripts.put(address, script);
+        }
+
+        CountDownLatch closed(InetAddress address) {
+            return closed.computeIfAbsent(address, a -> new CountDownLatch(1));
+        }
+
+        static void refuse() throws IOException {
+            throw new ConnectException("Connection refused");
+        }
+
+        @Override
+        public Socket newSocket(Route route, List<InetAddress> endpoints) {
+            return new Socket() {
+                private InetAddress address;
+
+                @Override
+                public void connect(SocketAddress endpoint, int timeout) throws IOException {
+                    address = ((InetSocketAddress) endpoint).getAddress();
+                    startNanos.put(address, System.nanoTime());
+                    started.add(address);
+                    sockets.put(address, this);
+                    try {
+                        scripts.getOrDefault(address, () -> {}).run();
+                    } catch (InterruptedException e) {
+                        throw new IOException("Interrupted while connecting to " + address, e);
+                    }
+                    super.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), timeout);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    if (address != null) {
+                        closed(address).countDown();
+                    }
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectScript {
+        void run() throws IOException, InterruptedException;
+    }
 }
@@ -15,9 +15,11 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLParameters;
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +39,59 @@ class JdkTlsProviderTest {
         assertThat(JdkTlsProvider.builder().build(), notNullValue());
     }
 
+    @Test
+    void appliesSessionCacheBounds() throws Exception {
+        var context = SSLContext.getInstance("TLS");
+        context.init(null, null, null);
+
+        JdkTlsProvider.builder()
+                .sslContext(context)
+                .sessionCacheSize(64)
+                .sessionTimeout(Duration.ofMinutes(5))
+                .build();
+
+        assertEquals(64, context.getClientSessionContext().getSessionCacheSize());
+        assertEquals(300, context.getClientSessionContext().getSessionTimeout());
+    }
+
+    @Test
+    void sessionCacheBoundsLeaveTheDefaultContextAlone() throws Exception {
+        var defaultSessions = SSLContext.getDefault().getClientSessionContext();
+        int size = defaultSessions.getSessionCacheSize();
+        int timeout = defaultSessions.getSessionTimeout();
+
+        JdkTlsProvider.builder()
+                .sessionCacheSize(size + 1)
+                .sessionTimeout(Duration.ofSeconds(timeout + 1))
+                .build();
+
+        assertEquals(size, defaultSessions.getSessionCacheSize());
+        assertEquals(timeout, defaultSessions.getSessionTimeout());
+    }
+
+    @Test
+    void roundsSessionTimeoutsUpToWholeSeconds() throws Exception {
+        var context = SSLContext.getInstance("TLS");
+        context.init(null, null, null);
+
+        // Truncating to 0 would mean sessions never expire.
+        JdkTlsProvider.builder().sslContext(context).sessionTimeout(Duration.ofMillis(1)).build();
+        assertEquals(1, context.getClientSessionContext().getSessionTimeout());
+
+        JdkTlsProvider.builder().sslContext(context).sessionTimeout(Duration.ofMillis(1500)).build();
+        assertEquals(2, context.getClientSessionContext().getSessionTimeout());
+
+        JdkTlsProvider.builder().sslContext(context).sessionTimeout(Duration.ZERO).build();
+        assertEquals(0, context.getClientSessionContext().getSessionTimeout());
+    }
+
+    @Test
+    void rejectsNegativeSessionCacheBounds() {
+        assertThrows(IllegalArgumentException.class, () -> JdkTlsProvider.builder().sessionCacheSize(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> JdkTlsProvider.builder().sessionTimeout(Duration.ofSeconds(-1)));
+    }
+
     @Test
     void connectionContextRoundTrips() {
         var ctx = TlsConnectionContext.builder()
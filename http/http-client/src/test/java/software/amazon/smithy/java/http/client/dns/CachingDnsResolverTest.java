@@ -0,0 +1,217 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.http.client.dns;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CachingDnsResolverTest {
+
+    private static final Duration TTL = Duration.ofSeconds(40);
+    private static final Duration NEGATIVE_TTL = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final ScriptedResolver delegate = new ScriptedResolver();
+    private final CachingDnsResolver resolver = new CachingDnsResolver(
+            delegate,
+            TTL,
+            NEGATIVE_TTL,
+            refreshes::add,
+            clock::get);
+
+    @Test
+    void cachesResultsUntilRefreshIsDue() throws Exception {
+        var addr1 = InetAddress.getByName("127.0.0.1");
+        delegate.results.add(List.of(addr1));
+
+        assertEquals(List.of(addr1), resolver.resolve("example.com"));
+        advance(Duration.ofSeconds(29));
+        assertEquals(List.of(addr1), resolver.resolve("EXAMPLE.com"));
+
+        assertEquals(1, delegate.calls);
+        assertEquals(0, refreshes.size());
+    }
+
+    @Test
+    void refreshesAheadOfExpiryWithoutBlocking() throws Exception {
+        var addr1 = InetAddress.getByName("127.0.0.1");
+        var addr2 = InetAddress.getByName("127.0.0.2");
+        delegate.results.add(List.of(addr1));
+        delegate.results.add(List.of(addr2));
+        resolver.resolve("example.com");
+
+        advance(Duration.ofSeconds(30));
+        assertEquals(List.of(addr1), resolver.resolve("example.com"));
+        assertEquals(List.of(addr1), resolver.resolve("example.com"));
+        assertEquals(1, refreshes.size());
+
+        runRefreshes();
+        assertEquals(List.of(addr2), resolver.resolve("example.com"));
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void servesStaleAddressesWhenRefreshFails() throws Exception {
+        var addr1 = InetAddress.getByName("127.0.0.1");
+        var addr2 = InetAddress.getByName("127.0.0.2");
+        delegate.results.add(List.of(addr1));
+        delegate.results.add(List.of(addr2));
+        resolver.resolve("example.com");
+        delegate.failures.add(new IOException("SERVFAIL"));
+
+        advance(Duration.ofSeconds(50));
+        assertEquals(List.of(addr1), resolver.resolve("example.com"));
+        runRefreshes();
+
+        // Still stale, but the failed refresh isn't retried until the negative TTL passes.
+        advance(Duration.ofSeconds(5));
+        assertEquals(List.of(addr1), resolver.resolve("example.com"));
+        assertEquals(0, refreshes.size());
+
+        advance(Duration.ofSeconds(5));
+        assertEquals(List.of(addr1), resolver.resolve("example.com"));
+        runRefreshes();
+        assertEquals(List.of(addr2), resolver.resolve("example.com"));
+    }
+
+    @Test
+    void resolvesInlineOnceTooStale() throws Exception {
+        var addr1 = InetAddress.getByName("127.0.0.1");
+        var addr2 = InetAddress.getByName("127.0.0.2");
+        delegate.results.add(List.of(addr1));
+        delegate.results.add(List.of(addr2));
+        resolver.resolve("example.com");
+
+        advance(Duration.ofSeconds(80));
+
+        assertEquals(List.of(addr2), resolver.resolve("example.com"));
+        assertEquals(0, refreshes.size());
+    }
+
+    @Test
+    void cachesFailedLookups() throws Exception {
+        var addr1 = InetAddress.getByName("127.0.0.1");
+        var failure = new IOException("NXDOMAIN");
+        delegate.failures.add(failure);
+        delegate.results.add(List.of(addr1));
+
+        assertSame(failure, assertThrows(IOException.class, () -> resolver.resolve("example.com")));
+        var cached = assertThrows(IOException.class, () -> resolver.resolve("example.com"));
+        assertSame(failure, cached.getCause());
+        assertEquals(1, delegate.calls);
+
+        advance(NEGATIVE_TTL);
+        assertEquals(List.of(addr1), resolver.resolve("example.com"));
+    }
+
+    @Test
+    void movesFailedAddressesToTheEnd() throws Exception {
+        var addr1 = InetAddress.getByName("127.0.0.1");
+        var addr2 = InetAddress.getByName("127.0.0.2");
+        var addr3 = InetAddress.getByName("127.0.0.3");
+        delegate.results.add(List.of(addr1, addr2, addr3));
+        resolver.resolve("example.com");
+
+        resolver.reportFailure(addr1);
+        assertEquals(List.of(addr2, addr3, addr1), resolver.resolve("example.com"));
+        assertEquals(List.of(addr1), delegate.reported);
+
+        advance(TTL);
+        assertEquals(List.of(addr1, addr2, addr3), resolver.resolve("example.com"));
+    }
+
+    @Test
+    void dropsEntriesThatCanNoLongerBeServed() throws Exception {
+        var addr1 = InetAddress.getByName("127.0.0.1");
+        var addr2 = InetAddress.getByName("127.0.0.2");
+        delegate.results.add(List.of(addr1));
+        delegate.failures.add(new IOException("NXDOMAIN"));
+        delegate.results.add(List.of(addr2));
+        resolver.resolve("a.example.com");
+        assertThrows(IOException.class, () -> resolver.resolve("b.example.com"));
+        resolver.reportFailure(addr1);
+        assertEquals(2, resolver.cachedHosts());
+        assertEquals(1, resolver.failedAddresses());
+
+        // The failed lookup and the failure report expired, the stale addresses can still be served.
+        advance(TTL);
+        resolver.resolve("c.example.com");
+        assertEquals(2, resolver.cachedHosts());
+        assertEquals(0, resolver.failedAddresses());
+
+        // Idle for twice the TTL, a.example.com would be resolved again anyway.
+        advance(TTL);
+        resolver.reportFailure(addr2);
+        assertEquals(1, resolver.cachedHosts());
+        assertEquals(1, resolver.failedAddresses());
+    }
+
+    @Test
+    void purgeCacheForcesLookup() throws Exception {
+        var addr1 = InetAddress.getByName("127.0.0.1");
+        var addr2 = InetAddress.getByName("127.0.0.2");
+        delegate.results.add(List.of(addr1));
+        delegate.results.add(List.of(addr2));
+        resolver.resolve("example.com");
+
+        resolver.purgeCache("example.com");
+
+        assertEquals(List.of(addr2), resolver.resolve("example.com"));
+    }
+
+    @Test
+    void validatesTtls() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DnsResolver.caching(delegate, Duration.ZERO, NEGATIVE_TTL));
+        assertThrows(IllegalArgumentException.class,
+                () -> DnsResolver.caching(delegate, TTL, Duration.ofSeconds(-1)));
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private void runRefreshes() {
+        var pending = new ArrayList<>(refreshes);
+        refreshes.clear();
+        pending.forEach(Runnable::run);
+    }
+
+    // Returns queued failures first, then queued results.
+    private static final class ScriptedResolver implements DnsResolver {
+        private final Queue<List<InetAddress>> results = new ArrayDeque<>();
+        private final Queue<IOException> failures = new ArrayDeque<>();
+        private final List<InetAddress> reported = new ArrayList<>();
+        private int calls;
+
+        @Override
+        public List<InetAddress> resolve(String hostname) throws IOException {
+            calls++;
+            var failure = failures.poll();
+            if (failure != null) {
+                throw failure;
+            }
+            return results.remove();
+        }
+
+        @Override
+        public void reportFailure(InetAddress address) {
+            reported.add(address);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server;
+
+import java.time.Duration;
+
+/**
+ * Decides whether the server takes on a request or rejects it right away.
+ *
+ * <p>Servers consult the controller once a request is routed to an operation and before its body is read or
+ * deserialized. Rejected requests get an immediate 503 response, which keeps latency bounded when the server is
+ * overloaded instead of letting work queue up without limit.
+ */
+public interface AdmissionController {
+
+    /**
+     * Try to admit a request.
+     *
+     * @param priority priority class of the requested operation.
+     * @return a permit that must be released once the request completes, or null if the request is rejected.
+     */
+    Permit tryAcquire(OperationPriority priority);
+
+    /**
+     * @return the number of requests currently admitted.
+     */
+    int inflight();
+
+    /**
+     * @return the current concurrency limit.
+     */
+    int limit();
+
+    /**
+     * Create a controller that grows its limit additively while requests complete within the latency threshold,
+     * and backs off multiplicatively once they don't.
+     *
+     * @param initialLimit starting concurrency limit.
+     * @param maxLimit upper bound of the concurrency limit.
+     * @param latencyThreshold latency above which a completed request counts as a sign of overload.
+     * @return the controller.
+     */
+    static AdmissionController aimd(int initialLimit, int maxLimit, Duration latencyThreshold) {
+        return new AimdAdmissionController(initialLimit, maxLimit, latencyThreshold.toNanos());
+    }
+
+    /**
+     * Create a controller that adjusts its limit by comparing recent request latency with the long-term
+     * baseline, shrinking it as latency rises above the baseline and growing it while latency stays flat.
+     *
+     * @param initialLimit starting concurrency limit.
+     * @param maxLimit upper bound of the concurrency limit.
+     * @return the controller.
+     */
+    static AdmissionController gradient(int initialLimit, int maxLimit) {
+        return new GradientAdmissionController(initialLimit, maxLimit);
+    }
+
+    /**
+     * Token for an admitted request.
+     */
+    interface Permit {
+        /**
+         * Mark the point where the server starts working on the request, such as once a buffered body has been
+         * received. The latency fed back to the controller is measured from here, so time spent waiting on the
+         * client doesn't count as server latency. Measured from admission if never called.
+         */
+        default void dispatched() {}
+
+        /**
+         * Release the permit once the request has completed, feeding its latency back to the controller.
+         */
+        void release();
+    }
+}
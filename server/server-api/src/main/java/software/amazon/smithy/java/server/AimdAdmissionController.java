@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server;
+
+final class AimdAdmissionController extends LimitAdmissionController {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final long latencyThresholdNanos;
+
+    AimdAdmissionController(int initialLimit, int maxLimit, long latencyThresholdNanos) {
+        super(initialLimit, maxLimit);
+        if (latencyThresholdNanos <= 0) {
+            throw new IllegalArgumentException("Latency threshold must be positive");
+        }
+        this.latencyThresholdNanos = latencyThresholdNanos;
+    }
+
+    @Override
+    synchronized void onSample(long latencyNanos, int inflight) {
+        if (latencyNanos > latencyThresholdNanos) {
+            limit = clamp(limit * BACKOFF_RATIO);
+        } else if (inflight * 2 >= limit) {
+            // Only grow while the limit is actually being used, otherwise it drifts up without bound.
+            limit = clamp(limit + 1);
+        }
+    }
+}
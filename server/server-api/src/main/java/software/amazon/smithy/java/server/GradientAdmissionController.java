@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server;
+
+final class GradientAdmissionController extends LimitAdmissionController {
+
+    // Smoothing factors of the short and long term latency averages.
+    private static final double SHORT_WINDOW = 0.1;
+    private static final double LONG_WINDOW = 0.002;
+    // How much recent latency may exceed the baseline before the limit shrinks.
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private double shortLatency;
+    private double longLatency;
+    private double estimatedLimit;
+
+    GradientAdmissionController(int initialLimit, int maxLimit) {
+        super(initialLimit, maxLimit);
+        this.estimatedLimit = initialLimit;
+    }
+
+    @Override
+    synchronized void onSample(long latencyNanos, int inflight) {
+        if (longLatency == 0) {
+            shortLatency = latencyNanos;
+            longLatency = latencyNanos;
+            return;
+        }
+        shortLatency += (latencyNanos - shortLatency) * SHORT_WINDOW;
+        longLatency += (latencyNanos - longLatency) * LONG_WINDOW;
+        if (longLatency > shortLatency * 2) {
+            // Load dropped off; let the baseline catch up quickly instead of over-admitting for a long time.
+            longLatency *= 0.95;
+        }
+        if (inflight * 2 < estimatedLimit) {
+            // Too little traffic to learn anything about the limit.
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / shortLatency));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(MIN_LIMIT, Math.min(maxLimit, estimatedLimit * (1 - SMOOTHING)
+                + newLimit * SMOOTHING));
+        limit = clamp(estimatedLimit);
+    }
+}
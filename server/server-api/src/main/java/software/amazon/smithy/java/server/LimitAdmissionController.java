@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base of the latency driven controllers: tracks in-flight requests against a limit that subclasses adjust from
+ * each completed request.
+ */
+abstract sealed class LimitAdmissionController implements AdmissionController
+        permits AimdAdmissionController, GradientAdmissionController {
+
+    static final int MIN_LIMIT = 1;
+
+    // Sheddable requests only get this share of the limit, critical ones may exceed it by the same share.
+    private static final double SHEDDABLE_SHARE = 0.5;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    final int maxLimit;
+    volatile int limit;
+
+    LimitAdmissionController(int initialLimit, int maxLimit) {
+        if (initialLimit < MIN_LIMIT || maxLimit < initialLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= initialLimit <= maxLimit");
+        }
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public final Permit tryAcquire(OperationPriority priority) {
+        int currentLimit = limit;
+        int allowed = switch (priority) {
+            case CRITICAL -> currentLimit + (int) Math.ceil(currentLimit * SHEDDABLE_SHARE);
+            case NORMAL -> currentLimit;
+            case SHEDDABLE -> Math.max(MIN_LIMIT, (int) (currentLimit * SHEDDABLE_SHARE));
+        };
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new LimitPermit();
+            }
+        }
+    }
+
+    @Override
+    public final int inflight() {
+        return inflight.get();
+    }
+
+    @Override
+    public final int limit() {
+        return limit;
+    }
+
+    /**
+     * Update the limit from a completed request.
+     *
+     * @param latencyNanos time between dispatch, or admission if the request wasn't dispatched, and release.
+     * @param inflight number of in-flight requests, including this one, when it completed.
+     */
+    abstract void onSample(long latencyNanos, int inflight);
+
+    final int clamp(double newLimit) {
+        return (int) Math.max(MIN_LIMIT, Math.min(maxLimit, newLimit));
+    }
+
+    private final class LimitPermit implements Permit {
+        private volatile long start = System.nanoTime();
+
+        @Override
+        public void dispatched() {
+            start = System.nanoTime();
+        }
+
+        @Override
+        public void release() {
+            int inflightAtRelease = inflight.getAndDecrement();
+            onSample(System.nanoTime() - start, inflightAtRelease);
+        }
+    }
+}
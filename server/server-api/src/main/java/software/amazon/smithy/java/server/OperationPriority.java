@@ -0,0 +1,26 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server;
+
+/**
+ * Priority class of an operation, deciding which requests an {@link AdmissionController} sheds first under load.
+ */
+public enum OperationPriority {
+    /**
+     * Admitted as long as the server has any capacity left, even above the concurrency limit.
+     */
+    CRITICAL,
+
+    /**
+     * Admitted while the number of in-flight requests is below the concurrency limit. The default.
+     */
+    NORMAL,
+
+    /**
+     * Only admitted while the server is lightly loaded, and the first to be rejected as load rises.
+     */
+    SHEDDABLE
+}
@@ -17,6 +17,8 @@ public abstract class ServerBuilder<T extends ServerBuilder<T>> {
     private static final URI DEFAULT_ENDPOINT = URI.create("http://localhost:8080");
     private final Map<String, List<Service>> servicePathMappings = new HashMap<>();
     private final List<Route> routes = new ArrayList<>();
+    private final Map<String, OperationPriority> operationPriorities = new HashMap<>();
+    private AdmissionController admissionController;
 
     public final Server build() {
         if (routes.isEmpty()) {
@@ -66,6 +68,40 @@ public abstract class ServerBuilder<T extends ServerBuilder<T>> {
         return self();
     }
 
+    /**
+     * Reject requests early, before their body is read, when the given controller does not admit them.
+     *
+     * @param admissionController controller deciding which requests to take on, or null to admit all requests.
+     * @return the builder.
+     */
+    public final T admissionController(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+        return self();
+    }
+
+    /**
+     * Set the priority class used for admission control of an operation. Operations default to
+     * {@link OperationPriority#NORMAL}.
+     *
+     * @param operationName name of the operation.
+     * @param priority priority class of the operation.
+     * @return the builder.
+     */
+    public final T operationPriority(String operationName, OperationPriority priority) {
+        operationPriorities.put(
+                Objects.requireNonNull(operationName, "operationName must not be null"),
+                Objects.requireNonNull(priority, "priority must not be null"));
+        return self();
+    }
+
+    protected final AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    protected final Map<String, OperationPriority> getOperationPriorities() {
+        return Map.copyOf(operationPriorities);
+    }
+
     public abstract T endpoints(URI... endpoints);
 
     public abstract T numberOfWorkers(int numberOfWorkers);
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControllerTest {
+
+    @Test
+    public void shedsByPriority() {
+        var controller = AdmissionController.aimd(4, 4, Duration.ofHours(1));
+        List<AdmissionController.Permit> permits = new ArrayList<>();
+
+        // Sheddable requests only get half of the limit.
+        permits.add(controller.tryAcquire(OperationPriority.SHEDDABLE));
+        permits.add(controller.tryAcquire(OperationPriority.SHEDDABLE));
+        assertThat(controller.tryAcquire(OperationPriority.SHEDDABLE)).isNull();
+
+        permits.add(controller.tryAcquire(OperationPriority.NORMAL));
+        permits.add(controller.tryAcquire(OperationPriority.NORMAL));
+        assertThat(controller.tryAcquire(OperationPriority.NORMAL)).isNull();
+
+        // Critical requests may go over the limit.
+        permits.add(controller.tryAcquire(OperationPriority.CRITICAL));
+        assertThat(permits).doesNotContainNull();
+        assertThat(controller.inflight()).isEqualTo(5);
+
+        permits.forEach(AdmissionController.Permit::release);
+        assertThat(controller.inflight()).isZero();
+        assertThat(controller.tryAcquire(OperationPriority.NORMAL)).isNotNull();
+    }
+
+    @Test
+    public void aimdBacksOffOnSlowRequests() {
+        var controller = AdmissionController.aimd(10, 20, Duration.ofNanos(1));
+        var permit = controller.tryAcquire(OperationPriority.NORMAL);
+        sleep();
+        permit.release();
+
+        assertThat(controller.limit()).isEqualTo(9);
+    }
+
+    @Test
+    public void aimdGrowsWhileLimitIsUsed() {
+        var controller = AdmissionController.aimd(2, 20, Duration.ofHours(1));
+        var permit = controller.tryAcquire(OperationPriority.NORMAL);
+        permit.release();
+
+        assertThat(controller.limit()).isEqualTo(3);
+    }
+
+    @Test
+    public void measuresLatencyFromDispatch() {
+        var controller = AdmissionController.aimd(2, 20, Duration.ofMillis(50));
+        var permit = controller.tryAcquire(OperationPriority.NORMAL);
+        // Waiting on a slow client upload before dispatch isn't server latency.
+        sleep(100);
+        permit.dispatched();
+        permit.release();
+
+        assertThat(controller.limit()).isEqualTo(3);
+    }
+
+    @Test
+    public void gradientStaysWithinBounds() {
+        var controller = AdmissionController.gradient(4, 8);
+        for (int i = 0; i < 100; i++) {
+            List<AdmissionController.Permit> permits = new ArrayList<>();
+            AdmissionController.Permit permit;
+            while ((permit = controller.tryAcquire(OperationPriority.NORMAL)) != null) {
+                permits.add(permit);
+            }
+            permits.forEach(AdmissionController.Permit::release);
+        }
+
+        assertThat(controller.limit()).isBetween(1, 8);
+        assertThat(controller.inflight()).isZero();
+    }
+
+    private static void sleep() {
+        sleep(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 plugins {
     id("smithy-java.module-conventions")
+    `java-test-fixtures`
 }
 
 description = "This module provides the core server functionality"
@@ -13,7 +14,8 @@ dependencies {
     api(project(":http:http-api"))
     api(project(":core"))
     api(project(":context"))
+    api(project(":io"))
     implementation(libs.smithy.model)
-    implementation(project(":io"))
     implementation(project(":logging"))
+    testFixturesImplementation(libs.smithy.model)
 }
@@ -13,7 +13,9 @@ public abstract sealed class DefaultJob implements Job permits HttpJob {
 
     private final Operation<? extends SerializableStruct, ? extends SerializableStruct> operation;
     private final ServerProtocol protocol;
+    private final long createdAtNanos = System.nanoTime();
     private volatile Throwable failure;
+    private volatile long queueWaitNanos;
 
     protected DefaultJob(
             Operation<? extends SerializableStruct, ? extends SerializableStruct> operation,
@@ -52,4 +54,20 @@ public abstract sealed class DefaultJob implements Job permits HttpJob {
     public final ServerProtocol chosenProtocol() {
         return protocol;
     }
+
+    @Override
+    public final long createdAtNanos() {
+        return createdAtNanos;
+    }
+
+    @Override
+    public final long queueWaitNanos() {
+        return queueWaitNanos;
+    }
+
+    @Override
+    public final void addQueueWaitNanos(long nanos) {
+        // Only the thread running the job records waits, so there are no concurrent updates.
+        queueWaitNanos += nanos;
+    }
 }
@@ -22,6 +22,21 @@ public abstract sealed class DelegatingObservableOrchestrator implements Observa
         return delegate.inflightJobs();
     }
 
+    @Override
+    public int queueDepth() {
+        return delegate.queueDepth();
+    }
+
+    @Override
+    public long dequeuedWork() {
+        return delegate.dequeuedWork();
+    }
+
+    @Override
+    public long totalQueueWaitNanos() {
+        return delegate.totalQueueWaitNanos();
+    }
+
     @Override
     public CompletableFuture<Void> enqueue(Job job) {
         return delegate.enqueue(job);
@@ -0,0 +1,22 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+/**
+ * Identifies the built-in handlers of a handler chain assembled by {@link HandlerAssembler}.
+ */
+public final class Handlers {
+
+    private Handlers() {}
+
+    /**
+     * @param handler handler to check.
+     * @return true if the handler validates the deserialized input.
+     */
+    public static boolean isValidation(Handler handler) {
+        return handler instanceof ValidationHandler;
+    }
+}
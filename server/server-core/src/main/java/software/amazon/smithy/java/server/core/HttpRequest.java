@@ -5,17 +5,17 @@
 
 package software.amazon.smithy.java.server.core;
 
-import java.net.URI;
 import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.uri.SmithyUri;
 
 // TODO see if we can reuse SmithyHttpRequest in here.
 public final class HttpRequest extends RequestImpl {
 
     private final HttpHeaders headers;
-    private final URI uri;
+    private final SmithyUri uri;
     private final String method;
 
-    public HttpRequest(HttpHeaders headers, URI uri, String method) {
+    public HttpRequest(HttpHeaders headers, SmithyUri uri, String method) {
         this.headers = headers;
         this.uri = uri;
         this.method = method;
@@ -25,7 +25,7 @@ public final class HttpRequest extends RequestImpl {
         return headers;
     }
 
-    public URI uri() {
+    public SmithyUri uri() {
         return uri;
     }
 
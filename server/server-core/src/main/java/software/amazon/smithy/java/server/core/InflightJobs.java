@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the jobs an orchestrator has accepted but not finished yet, and tells when they are all finished once
+ * the orchestrator is shutting down.
+ */
+final class InflightJobs {
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final CompletableFuture<Void> drained = new CompletableFuture<>();
+    private volatile boolean draining;
+
+    void started() {
+        count.incrementAndGet();
+    }
+
+    void finished() {
+        if (count.decrementAndGet() == 0 && draining) {
+            drained.complete(null);
+        }
+    }
+
+    int get() {
+        return count.get();
+    }
+
+    /**
+     * @return a future completed once no job is in flight anymore.
+     */
+    CompletableFuture<Void> drain() {
+        draining = true;
+        if (count.get() == 0) {
+            drained.complete(null);
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An orchestrator that runs the handler chain on the thread that enqueues the job.
+ *
+ * <p>Meant for callers that hand over one request at a time and wait for its result anyway, such as AWS Lambda,
+ * where handing the job to a worker thread and back only adds latency. A handler that completes asynchronously, such
+ * as an operation created with {@code Operation.ofAsync}, suspends the job, and the rest of the chain then runs on
+ * the thread completing the handler's future.
+ */
+public final class InlineOrchestrator implements ObservableOrchestrator {
+
+    private final List<Handler> handlers;
+    private final InflightJobs inflightJobs = new InflightJobs();
+
+    /**
+     * @param handlers handlers to run every job through.
+     */
+    public InlineOrchestrator(List<Handler> handlers) {
+        this.handlers = handlers;
+    }
+
+    @Override
+    public CompletableFuture<Void> enqueue(Job job) {
+        CompletableFuture<Void> signal = new CompletableFuture<>();
+        inflightJobs.started();
+        new JobRun(job, signal).run();
+        return signal.whenComplete((r, e) -> inflightJobs.finished());
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        return inflightJobs.drain();
+    }
+
+    @Override
+    public int inflightJobs() {
+        return inflightJobs.get();
+    }
+
+    private final class JobRun implements Runnable {
+
+        private final Job job;
+        private final CompletableFuture<Void> signal;
+        private final Deque<Handler> soFar = new ArrayDeque<>();
+        private int next;
+        private boolean after;
+
+        private JobRun(Job job, CompletableFuture<Void> signal) {
+            this.job = job;
+            this.signal = signal;
+        }
+
+        @Override
+        public void run() {
+            // Same ordering as SingleThreadOrchestrator: run "before" until a failure or completion, then "after" in
+            // reverse for every handler whose "before" ran.
+            try {
+                while (!after) {
+                    if (next == handlers.size() || job.isFailure() || job.isCompleted()) {
+                        after = true;
+                        break;
+                    }
+                    Handler handler = handlers.get(next++);
+                    soFar.push(handler);
+                    if (suspended(handler.before(job))) {
+                        return;
+                    }
+                }
+                while (!soFar.isEmpty()) {
+                    if (suspended(soFar.pop().after(job))) {
+                        return;
+                    }
+                }
+                if (job.isFailure()) {
+                    signal.completeExceptionally(job.getFailure());
+                } else {
+                    signal.complete(null);
+                }
+            } catch (Exception e) {
+                signal.completeExceptionally(e);
+            }
+        }
+
+        // Returns true if the handler hasn't finished yet, in which case the job resumes once it does.
+        private boolean suspended(CompletableFuture<Void> cf) {
+            if (!cf.isDone()) {
+                cf.whenComplete((r, t) -> {
+                    if (t != null) {
+                        job.setFailure(t);
+                    }
+                    run();
+                });
+                return true;
+            }
+            if (cf.isCompletedExceptionally()) {
+                cf.exceptionally(t -> {
+                    job.setFailure(t);
+                    return null;
+                });
+            }
+            return false;
+        }
+    }
+}
@@ -30,6 +30,23 @@ public sealed interface Job permits DefaultJob {
 
     ServerProtocol chosenProtocol();
 
+    /**
+     * @return {@link System#nanoTime()} when the job was created, i.e. once its request was matched to an operation.
+     */
+    long createdAtNanos();
+
+    /**
+     * @return time the job spent queued in its orchestrator waiting for a thread, in nanoseconds.
+     */
+    long queueWaitNanos();
+
+    /**
+     * Records time the job spent queued in its orchestrator. Called by orchestrators each time the job is picked up.
+     *
+     * @param nanos time spent queued, in nanoseconds.
+     */
+    void addQueueWaitNanos(long nanos);
+
     default boolean isHttpJob() {
         return false;
     }
@@ -6,7 +6,30 @@
 package software.amazon.smithy.java.server.core;
 
 public sealed interface ObservableOrchestrator extends Orchestrator permits SingleThreadOrchestrator,
-        OrchestratorGroup, DelegatingObservableOrchestrator {
+        VirtualThreadOrchestrator, InlineOrchestrator, OrchestratorGroup, DelegatingObservableOrchestrator {
 
     int inflightJobs();
+
+    /**
+     * @return number of work items waiting to be picked up, or 0 if this orchestrator does not queue work.
+     */
+    default int queueDepth() {
+        return 0;
+    }
+
+    /**
+     * @return number of work items taken off the queue so far.
+     */
+    default long dequeuedWork() {
+        return 0;
+    }
+
+    /**
+     * Total time work items spent queued before being picked up. Divide by {@link #dequeuedWork()} for the mean.
+     *
+     * @return cumulative queue wait in nanoseconds.
+     */
+    default long totalQueueWaitNanos() {
+        return 0;
+    }
 }
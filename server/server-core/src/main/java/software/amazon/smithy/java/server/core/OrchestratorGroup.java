@@ -28,9 +28,31 @@ public final class OrchestratorGroup implements ObservableOrchestrator {
             orchestrators.add(orchestratorSupplier.get());
         }
         this.orchestrators = Collections.unmodifiableList(orchestrators);
+        if (strategy instanceof WorkStealingStrategy) {
+            linkPeers(orchestrators);
+        }
+    }
+
+    private static void linkPeers(List<ObservableOrchestrator> orchestrators) {
+        List<SingleThreadOrchestrator> peers = new ArrayList<>(orchestrators.size());
+        for (ObservableOrchestrator orchestrator : orchestrators) {
+            while (orchestrator instanceof DelegatingObservableOrchestrator delegating) {
+                orchestrator = delegating.delegate;
+            }
+            if (orchestrator instanceof SingleThreadOrchestrator singleThread) {
+                peers.add(singleThread);
+            }
+        }
+        for (SingleThreadOrchestrator peer : peers) {
+            peer.stealFrom(peers);
+        }
     }
 
     public Orchestrator next() {
+        // Work stealing balances per job, so pinning a connection to a single orchestrator would defeat it.
+        if (strategy instanceof WorkStealingStrategy) {
+            return this;
+        }
         return strategy.select(orchestrators);
     }
 
@@ -50,6 +72,21 @@ public final class OrchestratorGroup implements ObservableOrchestrator {
         return orchestrators.stream().map(ObservableOrchestrator::inflightJobs).reduce(0, Integer::sum);
     }
 
+    @Override
+    public int queueDepth() {
+        return orchestrators.stream().mapToInt(ObservableOrchestrator::queueDepth).sum();
+    }
+
+    @Override
+    public long dequeuedWork() {
+        return orchestrators.stream().mapToLong(ObservableOrchestrator::dequeuedWork).sum();
+    }
+
+    @Override
+    public long totalQueueWaitNanos() {
+        return orchestrators.stream().mapToLong(ObservableOrchestrator::totalQueueWaitNanos).sum();
+    }
+
     public sealed interface Strategy {
 
         static Strategy roundRobin() {
@@ -60,6 +97,14 @@ public final class OrchestratorGroup implements ObservableOrchestrator {
             return new LeastLoadedStrategy();
         }
 
+        /**
+         * Sends each job to the orchestrator with the shortest queue, and lets idle {@link SingleThreadOrchestrator}s
+         * take queued jobs from busier ones, so a slow job no longer holds up everything queued behind it.
+         */
+        static Strategy workStealing() {
+            return new WorkStealingStrategy();
+        }
+
         ObservableOrchestrator select(List<ObservableOrchestrator> orchestrators);
     }
 
@@ -88,4 +133,28 @@ public final class OrchestratorGroup implements ObservableOrchestrator {
             return selected;
         }
     }
+
+    private static final class WorkStealingStrategy implements Strategy {
+
+        @Override
+        public ObservableOrchestrator select(List<ObservableOrchestrator> orchestrators) {
+            // Shortest queue first; an empty queue can still hide a long-running job, so break ties on load.
+            int minDepth = Integer.MAX_VALUE;
+            int minLoad = Integer.MAX_VALUE;
+            ObservableOrchestrator selected = null;
+            for (ObservableOrchestrator orchestrator : orchestrators) {
+                int depth = orchestrator.queueDepth();
+                if (depth > minDepth) {
+                    continue;
+                }
+                int load = orchestrator.inflightJobs();
+                if (depth < minDepth || load < minLoad) {
+                    selected = orchestrator;
+                    minDepth = depth;
+                    minLoad = load;
+                }
+            }
+            return selected;
+        }
+    }
 }
@@ -9,10 +9,16 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import software.amazon.smithy.java.framework.model.UnknownOperationException;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.logging.InternalLogger;
+import software.amazon.smithy.java.server.Operation;
+import software.amazon.smithy.java.server.Service;
 import software.amazon.smithy.model.shapes.ShapeId;
 
 public final class ProtocolResolver {
 
+    private static final InternalLogger LOGGER = InternalLogger.getLogger(ProtocolResolver.class);
+
     private static final Map<ShapeId, ServerProtocolProvider> SERVER_PROTOCOL_HANDLERS = ServiceLoader.load(
             ServerProtocolProvider.class,
             ProtocolResolver.class.getClassLoader())
@@ -45,4 +51,45 @@ public final class ProtocolResolver {
         }
         throw UnknownOperationException.builder().message("No matching operations found for request").build();
     }
+
+    /**
+     * Send a synthetic request for every operation through each protocol's resolution, input deserialization,
+     * and output and error serialization, without invoking the operations.
+     *
+     * <p>This loads the classes and warms the codec buffer pools and schema caches that the first real requests
+     * would otherwise pay for. Operations a protocol can't build a request for, or whose synthetic request fails,
+     * are skipped.
+     */
+    public void prime() {
+        for (ServerProtocol protocol : serverProtocolHandlers) {
+            for (Service service : serviceMatcher.getAllServices()) {
+                for (var operation : service.getAllOperations()) {
+                    try {
+                        prime(protocol, operation);
+                    } catch (RuntimeException e) {
+                        LOGGER.debug("Skipped priming " + operation.name() + " with " + protocol.getProtocolId(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private void prime(ServerProtocol protocol, Operation<?, ?> operation) {
+        var apiOperation = operation.getApiOperation();
+        var request = protocol.createPrimingRequest(operation, apiOperation.inputBuilder().errorCorrection().build());
+        if (request == null) {
+            return;
+        }
+        var result = resolve(new ServiceProtocolResolutionRequest(
+                request.uri(),
+                request.headers(),
+                request.context(),
+                request.method()));
+        var response = new HttpResponse(HttpHeaders.ofModifiable());
+        var job = new HttpJob(result.operation(), result.protocol(), request, response);
+        result.protocol().deserializeInput(job).join();
+        result.protocol().serializeOutput(job, apiOperation.outputBuilder().errorCorrection().build()).join();
+        result.protocol().serializeError(job, new IllegalStateException("Priming")).join();
+        job.response().setSerializedValue(null);
+    }
 }
@@ -5,6 +5,7 @@
 
 package software.amazon.smithy.java.server.core;
 
+import java.util.function.Supplier;
 import software.amazon.smithy.java.context.Context;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.io.datastream.DataStream;
@@ -20,4 +21,18 @@ public sealed interface Response permits ResponseImpl {
     void setSerializedValue(DataStream serializedValue);
 
     DataStream getSerializedValue();
+
+    /**
+     * Allocate a buffer to serialize the response body into.
+     *
+     * @return a new buffer from the allocator set by the transport, or a heap buffer if none was set.
+     */
+    ResponseBuffer allocateBuffer();
+
+    /**
+     * Set the allocator used by {@link #allocateBuffer()}.
+     *
+     * @param allocator allocator of transport-owned response buffers.
+     */
+    void setBufferAllocator(Supplier<ResponseBuffer> allocator);
 }
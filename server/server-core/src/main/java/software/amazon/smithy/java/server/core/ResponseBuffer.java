@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import java.io.OutputStream;
+import software.amazon.smithy.java.io.ByteBufferOutputStream;
+import software.amazon.smithy.java.io.datastream.DataStream;
+
+/**
+ * A buffer that a serialized response body is written into.
+ *
+ * <p>Transports can provide their own buffers through {@link Response#setBufferAllocator} so that protocols
+ * serialize straight into transport-owned memory (for example pooled, off-heap buffers) instead of an
+ * intermediate heap array that has to be copied again when written to the wire.
+ *
+ * <p>Once written, the buffer is handed off with {@link #toDataStream(String)}. Closing a buffer that was not
+ * handed off releases the memory it holds; closing it afterward is a no-op.
+ */
+public abstract class ResponseBuffer extends OutputStream {
+
+    /**
+     * Create a buffer backed by a growable heap array.
+     *
+     * @return the created buffer.
+     */
+    public static ResponseBuffer ofHeap() {
+        return new HeapResponseBuffer();
+    }
+
+    /**
+     * Hand off the written bytes as a {@link DataStream}.
+     *
+     * <p>The buffer must not be written to after this method is called.
+     *
+     * @param contentType Content-Type of the data, if known.
+     * @return the written bytes.
+     */
+    public abstract DataStream toDataStream(String contentType);
+
+    @Override
+    public void close() {
+        // Heap buffers have nothing to release.
+    }
+
+    private static final class HeapResponseBuffer extends ResponseBuffer {
+        private final ByteBufferOutputStream delegate = new ByteBufferOutputStream();
+
+        @Override
+        public void write(int b) {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public DataStream toDataStream(String contentType) {
+            return DataStream.ofByteBuffer(delegate.toByteBuffer(), contentType);
+        }
+    }
+}
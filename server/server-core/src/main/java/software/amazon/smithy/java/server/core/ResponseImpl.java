@@ -5,6 +5,7 @@
 
 package software.amazon.smithy.java.server.core;
 
+import java.util.function.Supplier;
 import software.amazon.smithy.java.context.Context;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.io.datastream.DataStream;
@@ -14,6 +15,7 @@ public abstract sealed class ResponseImpl implements Response permits HttpRespon
     private final Context context = Context.create();
     private SerializableStruct value;
     private DataStream dataStream;
+    private Supplier<ResponseBuffer> bufferAllocator = ResponseBuffer::ofHeap;
 
     @Override
     public final Context context() {
@@ -32,6 +34,10 @@ public abstract sealed class ResponseImpl implements Response permits HttpRespon
 
     @Override
     public void setSerializedValue(DataStream serializedValue) {
+        // A replaced body (e.g. output overwritten by an error) may hold transport buffers that need releasing.
+        if (dataStream != null && dataStream != serializedValue) {
+            dataStream.close();
+        }
         this.dataStream = serializedValue;
     }
 
@@ -39,4 +45,14 @@ public abstract sealed class ResponseImpl implements Response permits HttpRespon
     public DataStream getSerializedValue() {
         return dataStream;
     }
+
+    @Override
+    public ResponseBuffer allocateBuffer() {
+        return bufferAllocator.get();
+    }
+
+    @Override
+    public void setBufferAllocator(Supplier<ResponseBuffer> allocator) {
+        this.bufferAllocator = allocator;
+    }
 }
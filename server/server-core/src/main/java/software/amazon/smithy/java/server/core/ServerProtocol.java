@@ -9,14 +9,20 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.smithy.java.core.error.ModeledException;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.schema.ShapeBuilder;
+import software.amazon.smithy.java.core.schema.Validator;
 import software.amazon.smithy.java.core.serde.SerializationException;
+import software.amazon.smithy.java.core.serde.ShapeDeserializer;
 import software.amazon.smithy.java.framework.model.InternalFailureException;
 import software.amazon.smithy.java.framework.model.MalformedRequestException;
+import software.amazon.smithy.java.server.Operation;
 import software.amazon.smithy.java.server.Service;
 import software.amazon.smithy.model.shapes.ShapeId;
 
 public abstract class ServerProtocol {
 
+    private static final Validator VALIDATOR = Validator.builder().build();
+
     private final List<Service> services;
 
     protected ServerProtocol(List<Service> services) {
@@ -32,6 +38,43 @@ public abstract class ServerProtocol {
 
     public abstract CompletableFuture<Void> deserializeInput(Job job);
 
+    /**
+     * Deserialize the input of a job, validating it in the same pass.
+     *
+     * <p>The errors found are passed on to {@link ValidationHandler}, so it doesn't need to walk the input again.
+     *
+     * @param job     job the input belongs to.
+     * @param builder builder to populate.
+     * @param decoder deserializer to read the input from.
+     * @return the deserialized input.
+     * @param <T> input shape.
+     */
+    protected final <T extends SerializableStruct> T deserializeAndValidate(
+            Job job,
+            ShapeBuilder<T> builder,
+            ShapeDeserializer decoder
+    ) {
+        var validating = VALIDATOR.deserializer(decoder);
+        var input = validating.readShape(builder);
+        job.request().context().put(ValidationHandler.VALIDATION_ERRORS, validating.errors());
+        return input;
+    }
+
+    /**
+     * Create a request that this protocol resolves to the given operation, carrying the given input.
+     *
+     * <p>Used to exercise the protocol's request and response paths before serving traffic. Protocols that can't
+     * build such a request return null.
+     *
+     * @param operation operation the request targets.
+     * @param input     input to send.
+     * @return the request, or null.
+     * @see ProtocolResolver#prime()
+     */
+    public HttpRequest createPrimingRequest(Operation<?, ?> operation, SerializableStruct input) {
+        return null;
+    }
+
     public final CompletableFuture<Void> serializeOutput(Job job, SerializableStruct output) {
         return serializeOutput(job, output, false);
     }
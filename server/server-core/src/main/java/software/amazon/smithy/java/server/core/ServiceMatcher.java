@@ -5,10 +5,10 @@
 
 package software.amazon.smithy.java.server.core;
 
-import java.net.URI;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import software.amazon.smithy.java.io.uri.SmithyUri;
 import software.amazon.smithy.java.server.Route;
 import software.amazon.smithy.java.server.Service;
 import software.amazon.smithy.utils.SmithyInternalApi;
@@ -46,7 +46,7 @@ public class ServiceMatcher {
         if (defaultServices != null) {
             return defaultServices;
         }
-        URI uri = request.uri();
+        SmithyUri uri = request.uri();
         String path = uri.getPath();
         int port = uri.getPort();
         String scheme = uri.getScheme();
@@ -5,8 +5,12 @@
 
 package software.amazon.smithy.java.server.core;
 
-import java.net.URI;
 import software.amazon.smithy.java.context.Context;
 import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.uri.SmithyUri;
 
-public record ServiceProtocolResolutionRequest(URI uri, HttpHeaders headers, Context requestContext, String method) {}
+public record ServiceProtocolResolutionRequest(
+        SmithyUri uri,
+        HttpHeaders headers,
+        Context requestContext,
+        String method) {}
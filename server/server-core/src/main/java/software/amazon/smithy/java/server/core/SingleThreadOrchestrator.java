@@ -12,7 +12,10 @@ import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 import software.amazon.smithy.java.logging.InternalLogger;
 
 public final class SingleThreadOrchestrator implements ObservableOrchestrator {
@@ -21,15 +24,22 @@ public final class SingleThreadOrchestrator implements ObservableOrchestrator {
     private static final InternalLogger LOG = InternalLogger.getLogger(SingleThreadOrchestrator.class);
 
     private final List<Handler> handlers;
-    private final LinkedBlockingDeque<Runnable> queue;
+    private final LinkedBlockingDeque<JobWork> queue;
     private final Thread workerThread;
-    private final AtomicInteger inflightJobs = new AtomicInteger();
+    private final InflightJobs inflightJobs = new InflightJobs();
+    private final AtomicLong dequeuedWork = new AtomicLong();
+    private final AtomicLong queueWaitNanos = new AtomicLong();
+    // Set while the worker thread is blocked waiting for work, so peers know it can take some of theirs.
+    private final AtomicBoolean idle = new AtomicBoolean();
+    // Set by a peer that unparked this worker so it steals from them; keeps peers from waking it repeatedly.
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private volatile List<SingleThreadOrchestrator> peers = List.of();
 
     public SingleThreadOrchestrator(List<Handler> handlers) {
         this.handlers = handlers;
         this.queue = new LinkedBlockingDeque<>();
         this.workerThread = new Thread(
-                new ConsumerTask(queue),
+                this::consume,
                 "SingleThreadOrchestrator-" + ORCHESTRATOR_ID_GENERATOR.getAndIncrement());
         this.workerThread.setDaemon(true);
         this.workerThread.start();
@@ -38,14 +48,122 @@ public final class SingleThreadOrchestrator implements ObservableOrchestrator {
     @Override
     public CompletableFuture<Void> enqueue(Job job) {
         CompletableFuture<Void> future = new CompletableFuture<>();
-        inflightJobs.incrementAndGet();
-        queue.add(new JobWork(job, handlers, queue, future));
-        return future.whenComplete((r, e) -> inflightJobs.decrementAndGet());
+        inflightJobs.started();
+        submit(new JobWork(job, handlers, queue, future));
+        if (!idle.get() && !peers.isEmpty()) {
+            wakeIdlePeer();
+        }
+        return future.whenComplete((r, e) -> inflightJobs.finished());
+    }
+
+    /**
+     * Let this orchestrator's worker take queued work from the given peers whenever it runs out of its own.
+     *
+     * @param peers orchestrators to steal from; may include this orchestrator.
+     */
+    void stealFrom(List<SingleThreadOrchestrator> peers) {
+        this.peers = List.copyOf(peers);
+    }
+
+    @Override
+    public int queueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public long dequeuedWork() {
+        return dequeuedWork.get();
+    }
+
+    @Override
+    public long totalQueueWaitNanos() {
+        return queueWaitNanos.get();
+    }
+
+    private void submit(JobWork work) {
+        work.enqueuedAt = System.nanoTime();
+        queue.add(work);
+        if (idle.get()) {
+            LockSupport.unpark(workerThread);
+        }
+    }
+
+    private void wakeIdlePeer() {
+        for (SingleThreadOrchestrator peer : peers) {
+            if (peer != this && peer.idle.get() && peer.wakeRequested.compareAndSet(false, true)) {
+                LockSupport.unpark(peer.workerThread);
+                return;
+            }
+        }
+    }
+
+    // Takes the oldest work item of the most backed-up peer, accounted to that peer.
+    private Runnable steal() {
+        SingleThreadOrchestrator victim = null;
+        int maxDepth = 0;
+        for (SingleThreadOrchestrator peer : peers) {
+            int depth = peer.queue.size();
+            if (peer != this && depth > maxDepth) {
+                victim = peer;
+                maxDepth = depth;
+            }
+        }
+        if (victim == null) {
+            return null;
+        }
+        JobWork work = victim.queue.pollFirst();
+        if (work == null) {
+            return null;
+        }
+        SingleThreadOrchestrator owner = victim;
+        return () -> owner.run(work);
+    }
+
+    private void consume() {
+        while (true) {
+            try {
+                JobWork work = queue.poll();
+                if (work != null) {
+                    run(work);
+                    continue;
+                }
+                // Advertise before looking for work: a submit or peer enqueue racing with this either sees the
+                // flag and unparks us, or its work is visible to the checks below.
+                idle.set(true);
+                Runnable stolen = null;
+                while (stolen == null && (work = queue.poll()) == null) {
+                    wakeRequested.set(false);
+                    if (!peers.isEmpty()) {
+                        stolen = steal();
+                    }
+                    if (stolen == null && queue.isEmpty()) {
+                        LockSupport.park(this);
+                    }
+                }
+                idle.set(false);
+                if (work != null) {
+                    run(work);
+                } else {
+                    stolen.run();
+                }
+            } catch (Throwable throwable) {
+                LOG.error("Got an unexpected exception during orchestration", throwable);
+            }
+        }
+    }
+
+    private void run(JobWork work) {
+        long waited = System.nanoTime() - work.enqueuedAt;
+        dequeuedWork.incrementAndGet();
+        queueWaitNanos.addAndGet(waited);
+        work.job.addQueueWaitNanos(waited);
+        work.run();
     }
 
     @Override
     public CompletableFuture<Void> shutdown() {
-        return CompletableFuture.completedFuture(null);
+        // The worker keeps running so that jobs still in flight can finish.
+        return inflightJobs.drain();
     }
 
     @Override
@@ -57,15 +175,16 @@ public final class SingleThreadOrchestrator implements ObservableOrchestrator {
 
         private final Job job;
         private final Queue<Handler> queue;
-        private final BlockingQueue<Runnable> workQueue;
+        private final BlockingQueue<JobWork> workQueue;
         private final CompletableFuture<Void> signal;
         private final Deque<Handler> soFar;
         private State state = State.BEFORE;
+        private long enqueuedAt;
 
         private JobWork(
                 Job job,
                 List<Handler> handlers,
-                BlockingQueue<Runnable> workQueue,
+                BlockingQueue<JobWork> workQueue,
                 CompletableFuture<Void> signal
         ) {
             this.job = job;
@@ -97,13 +216,8 @@ public final class SingleThreadOrchestrator implements ObservableOrchestrator {
                     soFar.push(handler);
                     CompletableFuture<Void> cf = handler.before(job);
                     if (!cf.isDone()) {
-                        cf.whenComplete((e, t) -> {
-                            if (t != null) {
-                                job.setFailure(t);
-                            }
-                            SingleThreadOrchestrator.this.queue.add(this);
-                        });
-                        break;
+                        resumeWhenDone(cf);
+                        return;
                     }
                     if (cf.isCompletedExceptionally()) {
                         cf.exceptionally(t -> {
@@ -119,13 +233,8 @@ public final class SingleThreadOrchestrator implements ObservableOrchestrator {
                         Handler handler = soFar.pop();
                         CompletableFuture<Void> cf = handler.after(job);
                         if (!cf.isDone()) {
-                            cf.whenComplete((e, t) -> {
-                                if (t != null) {
-                                    job.setFailure(t);
-                                }
-                                SingleThreadOrchestrator.this.queue.add(this);
-                            });
-                            break;
+                            resumeWhenDone(cf);
+                            return;
                         }
                         if (cf.isCompletedExceptionally()) {
                             cf.exceptionally(t -> {
@@ -145,21 +254,16 @@ public final class SingleThreadOrchestrator implements ObservableOrchestrator {
                 signal.completeExceptionally(e);
             }
         }
-    }
-
-    private record ConsumerTask(BlockingQueue<Runnable> queue) implements Runnable {
 
-        @Override
-        public void run() {
-            while (true) {
-                try {
-                    queue.take().run();
-                } catch (InterruptedException ignore) {
-                    Thread.currentThread().interrupt();
-                } catch (Throwable throwable) {
-                    LOG.error("Got an unexpected exception during orchestration", throwable);
+        // Once suspended, this work item may be resumed by another worker (if stolen), so the current run must
+        // return right away without touching any more state.
+        private void resumeWhenDone(CompletableFuture<Void> cf) {
+            cf.whenComplete((e, t) -> {
+                if (t != null) {
+                    job.setFailure(t);
                 }
-            }
+                submit(this);
+            });
         }
     }
 }
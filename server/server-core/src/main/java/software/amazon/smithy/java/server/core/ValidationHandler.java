@@ -7,18 +7,28 @@ package software.amazon.smithy.java.server.core;
 
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import software.amazon.smithy.java.context.Context;
 import software.amazon.smithy.java.core.schema.ValidationError;
 import software.amazon.smithy.java.core.schema.Validator;
 import software.amazon.smithy.java.framework.model.ValidationException;
 
 final class ValidationHandler implements Handler {
 
+    /**
+     * Errors found by a protocol that validated the input while deserializing it.
+     *
+     * @see ServerProtocol#deserializeAndValidate
+     */
+    static final Context.Key<List<ValidationError>> VALIDATION_ERRORS = Context.key("Input validation errors");
+
     private final Validator validator = Validator.builder().build();
 
     @Override
     public CompletableFuture<Void> before(Job job) {
-        var input = job.request().getDeserializedValue();
-        var errors = validator.validate(input);
+        var errors = job.request().context().get(VALIDATION_ERRORS);
+        if (errors == null) {
+            errors = validator.validate(job.request().getDeserializedValue());
+        }
         if (errors.isEmpty()) {
             return CompletableFuture.completedFuture(null);
         }
@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * An orchestrator that runs each job through the handler chain on its own virtual thread.
+ *
+ * <p>Handlers are free to block: a slow or blocking operation only parks its own virtual thread, so it never
+ * delays other jobs the way it would on a {@link SingleThreadOrchestrator}. An optional concurrency limit bounds
+ * how many jobs run the handler chain at once; jobs beyond the limit wait on their virtual thread for a permit.
+ */
+public final class VirtualThreadOrchestrator implements ObservableOrchestrator {
+
+    private static final AtomicInteger ORCHESTRATOR_ID_GENERATOR = new AtomicInteger(1);
+
+    private final List<Handler> handlers;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final InflightJobs inflightJobs = new InflightJobs();
+    private final AtomicLong dequeuedWork = new AtomicLong();
+    private final AtomicLong queueWaitNanos = new AtomicLong();
+
+    /**
+     * Create an orchestrator without a concurrency limit.
+     *
+     * @param handlers handlers to run every job through.
+     */
+    public VirtualThreadOrchestrator(List<Handler> handlers) {
+        this(handlers, 0);
+    }
+
+    /**
+     * Create an orchestrator.
+     *
+     * @param handlers handlers to run every job through.
+     * @param maxConcurrentJobs maximum number of jobs running the handler chain at once, or 0 for no limit.
+     */
+    public VirtualThreadOrchestrator(List<Handler> handlers, int maxConcurrentJobs) {
+        if (maxConcurrentJobs < 0) {
+            throw new IllegalArgumentException("maxConcurrentJobs must not be negative");
+        }
+        this.handlers = handlers;
+        this.permits = maxConcurrentJobs > 0 ? new Semaphore(maxConcurrentJobs) : null;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("VirtualThreadOrchestrator-" + ORCHESTRATOR_ID_GENERATOR.getAndIncrement() + "-", 0)
+                .factory());
+    }
+
+    @Override
+    public CompletableFuture<Void> enqueue(Job job) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        inflightJobs.started();
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(job, future, enqueuedAt));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future.whenComplete((r, e) -> inflightJobs.finished());
+    }
+
+    @Override
+    public CompletableFuture<Void> shutdown() {
+        // Connections that are still draining may send more requests, so only stop taking jobs once idle.
+        return inflightJobs.drain().thenRun(executor::shutdown);
+    }
+
+    @Override
+    public int inflightJobs() {
+        return inflightJobs.get();
+    }
+
+    @Override
+    public int queueDepth() {
+        return permits != null ? permits.getQueueLength() : 0;
+    }
+
+    @Override
+    public long dequeuedWork() {
+        return dequeuedWork.get();
+    }
+
+    @Override
+    public long totalQueueWaitNanos() {
+        return queueWaitNanos.get();
+    }
+
+    private void run(Job job, CompletableFuture<Void> signal, long enqueuedAt) {
+        try {
+            if (permits != null) {
+                permits.acquire();
+            }
+            long waited = System.nanoTime() - enqueuedAt;
+            dequeuedWork.incrementAndGet();
+            queueWaitNanos.addAndGet(waited);
+            job.addQueueWaitNanos(waited);
+            try {
+                runHandlers(job);
+            } finally {
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+            if (job.isFailure()) {
+                signal.completeExceptionally(job.getFailure());
+            } else {
+                signal.complete(null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            signal.completeExceptionally(e);
+        } catch (Exception e) {
+            signal.completeExceptionally(e);
+        }
+    }
+
+    private void runHandlers(Job job) throws InterruptedException {
+        // Same ordering as SingleThreadOrchestrator: run "before" until a failure or completion, then "after" in
+        // reverse for every handler whose "before" ran.
+        Deque<Handler> soFar = new ArrayDeque<>(handlers.size());
+        for (Handler handler : handlers) {
+            if (job.isFailure() || job.isCompleted()) {
+                break;
+            }
+            soFar.push(handler);
+            await(job, handler::before);
+        }
+        while (!soFar.isEmpty()) {
+            await(job, soFar.pop()::after);
+        }
+    }
+
+    // Records any failure of the step on the job, so the remaining "after" handlers still run.
+    private static void await(Job job, Function<Job, CompletableFuture<Void>> step) throws InterruptedException {
+        try {
+            step.apply(job).get();
+        } catch (ExecutionException | CompletionException e) {
+            job.setFailure(e.getCause() != null ? e.getCause() : e);
+        } catch (RuntimeException e) {
+            // Thrown by the handler itself, or a CancellationException from a cancelled future.
+            job.setFailure(e);
+        }
+    }
+}
@@ -8,8 +8,6 @@ package software.amazon.smithy.java.server.core;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -19,6 +17,7 @@ import software.amazon.smithy.java.core.schema.ApiService;
 import software.amazon.smithy.java.core.schema.Schema;
 import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.http.api.ModifiableHttpHeaders;
+import software.amazon.smithy.java.io.uri.SmithyUri;
 import software.amazon.smithy.java.server.Operation;
 import software.amazon.smithy.model.traits.CorsTrait;
 
@@ -67,7 +66,7 @@ public class CorsHeadersTest {
 
     @ParameterizedTest(name = "{0}")
     @MethodSource("corsTestCases")
-    void testCorsHeaders(TestCase testCase) throws URISyntaxException {
+    void testCorsHeaders(TestCase testCase) {
         // Create operation with configured CORS origin
         Operation testOperation = Operation.of(
                 "TestOperation",
@@ -90,7 +89,7 @@ public class CorsHeadersTest {
         // Create request
         HttpRequest request = new HttpRequest(
                 requestHeaders,
-                new URI("http://test.com"),
+                SmithyUri.of("http://test.com"),
                 "GET");
 
         // Create response and job
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+
+public class InlineOrchestratorTest {
+
+    @Test
+    public void runsHandlersOnCallingThread() {
+        List<Thread> threads = new ArrayList<>();
+        var orchestrator = new InlineOrchestrator(List.of(new SyncHandler() {
+            @Override
+            public void doBefore(Job job) {
+                threads.add(Thread.currentThread());
+            }
+
+            @Override
+            public void doAfter(Job job) {
+                threads.add(Thread.currentThread());
+            }
+        }));
+
+        var future = orchestrator.enqueue(createJob());
+
+        assertThat(future.isDone(), equalTo(true));
+        assertThat(threads, contains(sameInstance(Thread.currentThread()), sameInstance(Thread.currentThread())));
+        assertThat(orchestrator.inflightJobs(), equalTo(0));
+    }
+
+    @Test
+    public void resumesAfterAsyncHandler() throws Exception {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        var pending = new CompletableFuture<Void>();
+        var orchestrator = new InlineOrchestrator(List.of(
+                new RecordingHandler("a", calls),
+                new Handler() {
+                    @Override
+                    public CompletableFuture<Void> before(Job job) {
+                        calls.add("before-async");
+                        return pending;
+                    }
+
+                    @Override
+                    public CompletableFuture<Void> after(Job job) {
+                        calls.add("after-async");
+                        return CompletableFuture.completedFuture(null);
+                    }
+                },
+                new RecordingHandler("c", calls)));
+
+        var future = orchestrator.enqueue(createJob());
+        assertThat(future.isDone(), equalTo(false));
+        assertThat(orchestrator.inflightJobs(), equalTo(1));
+
+        CompletableFuture.runAsync(() -> pending.complete(null));
+        future.get(5, TimeUnit.SECONDS);
+
+        assertThat(calls,
+                contains("before-a", "before-async", "before-c", "after-c", "after-async", "after-a"));
+    }
+
+    @Test
+    public void shutdownWaitsForInflightJobs() throws Exception {
+        var pending = new CompletableFuture<Void>();
+        var orchestrator = new InlineOrchestrator(List.of(new Handler() {
+            @Override
+            public CompletableFuture<Void> before(Job job) {
+                return pending;
+            }
+
+            @Override
+            public CompletableFuture<Void> after(Job job) {
+                return CompletableFuture.completedFuture(null);
+            }
+        }));
+
+        orchestrator.enqueue(createJob());
+        var shutdown = orchestrator.shutdown();
+        assertThat(shutdown.isDone(), equalTo(false));
+
+        pending.complete(null);
+        shutdown.get(5, TimeUnit.SECONDS);
+        assertThat(orchestrator.inflightJobs(), equalTo(0));
+    }
+
+    @Test
+    public void stopsBeforeChainOnFailure() {
+        List<String> calls = new ArrayList<>();
+        var orchestrator = new InlineOrchestrator(List.of(
+                new RecordingHandler("a", calls),
+                new Handler() {
+                    @Override
+                    public CompletableFuture<Void> before(Job job) {
+                        return CompletableFuture.failedFuture(new IllegalStateException("boom"));
+                    }
+
+                    @Override
+                    public CompletableFuture<Void> after(Job job) {
+                        calls.add("after-failing");
+                        return CompletableFuture.completedFuture(null);
+                    }
+                },
+                new RecordingHandler("c", calls)));
+
+        var e = assertThrows(ExecutionException.class, () -> orchestrator.enqueue(createJob()).get());
+
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(calls, contains("before-a", "after-failing", "after-a"));
+    }
+
+    private static HttpJob createJob() {
+        return new HttpJob(
+                TestStructs.createMockOperation("Test"),
+                new TestStructs.TestServerProtocol(List.of()),
+                new HttpRequest(HttpHeaders.of(Map.of()), SmithyUri.of("http://localhost/"), "POST"),
+                new HttpResponse(new TestStructs.TestModifiableHttpHeaders()));
+    }
+
+    private record RecordingHandler(String name, List<String> calls) implements Handler {
+        @Override
+        public CompletableFuture<Void> before(Job job) {
+            calls.add("before-" + name);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> after(Job job) {
+            calls.add("after-" + name);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
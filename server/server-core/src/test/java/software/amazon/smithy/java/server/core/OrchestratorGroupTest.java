@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+
+public class OrchestratorGroupTest {
+
+    @Test
+    public void idleOrchestratorStealsQueuedWork() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var seen = new AtomicInteger();
+        var handler = new SyncHandler() {
+            @Override
+            public void doBefore(Job job) {
+                if (seen.getAndIncrement() > 0) {
+                    return;
+                }
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void doAfter(Job job) {}
+        };
+        List<SingleThreadOrchestrator> members = new ArrayList<>();
+        var group = new OrchestratorGroup(2, () -> {
+            var orchestrator = new SingleThreadOrchestrator(List.of(handler));
+            members.add(orchestrator);
+            return orchestrator;
+        }, OrchestratorGroup.Strategy.workStealing());
+
+        // Queue both jobs on the same orchestrator; the second must not wait for the first to be released.
+        var busy = members.get(0);
+        var first = busy.enqueue(createJob());
+        started.await(5, TimeUnit.SECONDS);
+        var second = busy.enqueue(createJob());
+        second.get(5, TimeUnit.SECONDS);
+
+        assertThat(first.isDone(), equalTo(false));
+        assertThat(group.dequeuedWork(), equalTo(2L));
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        assertThat(group.queueDepth(), equalTo(0));
+    }
+
+    @Test
+    public void queueMetricsOnlyCountJobs() throws Exception {
+        var started = new CountDownLatch(2);
+        var release = new CountDownLatch(1);
+        var handler = new SyncHandler() {
+            @Override
+            public void doBefore(Job job) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void doAfter(Job job) {}
+        };
+        List<SingleThreadOrchestrator> members = new ArrayList<>();
+        var group = new OrchestratorGroup(2, () -> {
+            var orchestrator = new SingleThreadOrchestrator(List.of(handler));
+            members.add(orchestrator);
+            return orchestrator;
+        }, OrchestratorGroup.Strategy.workStealing());
+
+        // The second job wakes the idle peer, which steals it; both workers are then busy.
+        var busy = members.get(0);
+        var futures = new ArrayList<CompletableFuture<Void>>();
+        futures.add(busy.enqueue(createJob()));
+        futures.add(busy.enqueue(createJob()));
+        started.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 3; i++) {
+            futures.add(busy.enqueue(createJob()));
+        }
+
+        assertThat(group.queueDepth(), equalTo(3));
+        release.countDown();
+        for (var future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(group.queueDepth(), equalTo(0));
+        assertThat(group.dequeuedWork(), equalTo(5L));
+    }
+
+    @Test
+    public void workStealingBalancesPerJob() {
+        var group = new OrchestratorGroup(
+                2,
+                () -> new SingleThreadOrchestrator(List.of()),
+                OrchestratorGroup.Strategy.workStealing());
+
+        assertThat(group.next(), sameInstance(group));
+    }
+
+    private static HttpJob createJob() {
+        return new HttpJob(
+                TestStructs.createMockOperation("Test"),
+                new TestStructs.TestServerProtocol(List.of()),
+                new HttpRequest(HttpHeaders.of(Map.of()), SmithyUri.of("http://localhost/"), "POST"),
+                new HttpResponse(new TestStructs.TestModifiableHttpHeaders()));
+    }
+}
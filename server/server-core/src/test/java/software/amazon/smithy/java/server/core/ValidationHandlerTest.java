@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.schema.ValidationError;
+import software.amazon.smithy.java.framework.model.ValidationException;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+
+public class ValidationHandlerTest {
+
+    // The validator rejects this input, as its schema isn't a structure.
+    private static final TestStructs.MockStruct INPUT = new TestStructs.MockStruct();
+
+    @Test
+    public void reportsTheErrorsFoundWhileDeserializing() {
+        var job = createJob();
+        var error = new ValidationError.RequiredValidationFailure("/", "name", INPUT.schema());
+        job.request().context().put(ValidationHandler.VALIDATION_ERRORS, List.of(error));
+
+        var e = assertThrows(ExecutionException.class, () -> new ValidationHandler().before(job).get());
+
+        assertThat(e.getCause(), instanceOf(ValidationException.class));
+        assertThat(e.getCause().getMessage(),
+                equalTo("1 validation error(s) detected. Value missing required member: name at /;"));
+    }
+
+    @Test
+    public void doesNotValidateTheInputAgain() throws Exception {
+        var job = createJob();
+        job.request().context().put(ValidationHandler.VALIDATION_ERRORS, List.of());
+
+        new ValidationHandler().before(job).get();
+    }
+
+    @Test
+    public void validatesInputsThatWereNotValidatedWhileDeserializing() {
+        var job = createJob();
+
+        var e = assertThrows(ExecutionException.class, () -> new ValidationHandler().before(job).get());
+
+        assertThat(e.getCause(), instanceOf(ValidationException.class));
+        assertThat(e.getCause().getMessage(), startsWith("1 validation error(s) detected. Value must be"));
+    }
+
+    private static HttpJob createJob() {
+        var job = new HttpJob(
+                TestStructs.createMockOperation("Test"),
+                new TestStructs.TestServerProtocol(List.of()),
+                new HttpRequest(HttpHeaders.of(Map.of()), SmithyUri.of("http://localhost/"), "POST"),
+                new HttpResponse(new TestStructs.TestModifiableHttpHeaders()));
+        job.request().setDeserializedValue(INPUT);
+        return job;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+
+public class VirtualThreadOrchestratorTest {
+
+    @Test
+    public void runsHandlersInOrder() throws Exception {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        var orchestrator = new VirtualThreadOrchestrator(List.of(
+                new RecordingHandler("a", calls),
+                new RecordingHandler("b", calls)));
+
+        orchestrator.enqueue(createJob()).get(5, TimeUnit.SECONDS);
+
+        assertThat(calls, contains("before-a", "before-b", "after-b", "after-a"));
+        assertThat(orchestrator.inflightJobs(), equalTo(0));
+    }
+
+    @Test
+    public void stopsBeforeChainOnFailure() {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        var failure = new IllegalStateException("boom");
+        var orchestrator = new VirtualThreadOrchestrator(List.of(
+                new RecordingHandler("a", calls),
+                new Handler() {
+                    @Override
+                    public CompletableFuture<Void> before(Job job) {
+                        return CompletableFuture.failedFuture(failure);
+                    }
+
+                    @Override
+                    public CompletableFuture<Void> after(Job job) {
+                        calls.add("after-failing");
+                        return CompletableFuture.completedFuture(null);
+                    }
+                },
+                new RecordingHandler("c", calls)));
+
+        var e = assertThrows(ExecutionException.class,
+                () -> orchestrator.enqueue(createJob()).get(5, TimeUnit.SECONDS));
+
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(calls, contains("before-a", "after-failing", "after-a"));
+    }
+
+    @Test
+    public void runsAfterHandlersWhenHandlersThrowOrAreCancelled() {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        var orchestrator = new VirtualThreadOrchestrator(List.of(
+                new RecordingHandler("a", calls),
+                new Handler() {
+                    @Override
+                    public CompletableFuture<Void> before(Job job) {
+                        calls.add("before-cancelled");
+                        var future = new CompletableFuture<Void>();
+                        future.cancel(true);
+                        return future;
+                    }
+
+                    @Override
+                    public CompletableFuture<Void> after(Job job) {
+                        calls.add("after-cancelled");
+                        throw new IllegalStateException("boom");
+                    }
+                },
+                new RecordingHandler("c", calls)));
+
+        var e = assertThrows(ExecutionException.class,
+                () -> orchestrator.enqueue(createJob()).get(5, TimeUnit.SECONDS));
+
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+        assertThat(calls, contains("before-a", "before-cancelled", "after-cancelled", "after-a"));
+        assertThat(orchestrator.inflightJobs(), equalTo(0));
+    }
+
+    @Test
+    public void blockingJobsDoNotBlockEachOther() throws Exception {
+        var release = new CountDownLatch(1);
+        var orchestrator = new VirtualThreadOrchestrator(List.of(new BlockingHandler(release)));
+
+        var first = orchestrator.enqueue(createJob());
+        var second = orchestrator.enqueue(createJob());
+
+        // One of the jobs is stuck in the handler, the other one must still finish.
+        CompletableFuture.anyOf(first, second).get(5, TimeUnit.SECONDS);
+        assertThat(orchestrator.inflightJobs(), equalTo(1));
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void limitsConcurrency() throws Exception {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var orchestrator = new VirtualThreadOrchestrator(List.of(new SyncHandler() {
+            @Override
+            public void doBefore(Job job) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }
+
+            @Override
+            public void doAfter(Job job) {}
+        }), 2);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(orchestrator.enqueue(createJob()));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        assertThat(maxRunning.get() <= 2, equalTo(true));
+    }
+
+    private static HttpJob createJob() {
+        return new HttpJob(
+                TestStructs.createMockOperation("Test"),
+                new TestStructs.TestServerProtocol(List.of()),
+                new HttpRequest(HttpHeaders.of(Map.of()), SmithyUri.of("http://localhost/"), "POST"),
+                new HttpResponse(new TestStructs.TestModifiableHttpHeaders()));
+    }
+
+    private record RecordingHandler(String name, List<String> calls) implements Handler {
+        @Override
+        public CompletableFuture<Void> before(Job job) {
+            calls.add("before-" + name);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> after(Job job) {
+            calls.add("after-" + name);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    // Blocks only the first job it sees.
+    private record BlockingHandler(CountDownLatch release, AtomicInteger seen) implements SyncHandler {
+        BlockingHandler(CountDownLatch release) {
+            this(release, new AtomicInteger());
+        }
+
+        @Override
+        public void doBefore(Job job) {
+            if (seen.getAndIncrement() > 0) {
+                return;
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void doAfter(Job job) {}
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core.testing;
+
+import java.util.List;
+import java.util.function.Supplier;
+import software.amazon.smithy.java.core.schema.ApiOperation;
+import software.amazon.smithy.java.core.schema.ApiService;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.schema.ShapeBuilder;
+import software.amazon.smithy.java.core.serde.TypeRegistry;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * An {@link ApiOperation} built by hand, for tests that need an operation but not a generated model.
+ *
+ * @param <I> input type.
+ * @param <O> output type.
+ */
+public final class TestApiOperation<I extends SerializableStruct, O extends SerializableStruct>
+        implements ApiOperation<I, O> {
+
+    private final Schema schema;
+    private final Schema inputSchema;
+    private final Schema outputSchema;
+    private final Supplier<ShapeBuilder<I>> inputBuilder;
+    private final Supplier<ShapeBuilder<O>> outputBuilder;
+
+    private TestApiOperation(
+            Schema schema,
+            Schema inputSchema,
+            Schema outputSchema,
+            Supplier<ShapeBuilder<I>> inputBuilder,
+            Supplier<ShapeBuilder<O>> outputBuilder
+    ) {
+        this.schema = schema;
+        this.inputSchema = inputSchema;
+        this.outputSchema = outputSchema;
+        this.inputBuilder = inputBuilder;
+        this.outputBuilder = outputBuilder;
+    }
+
+    /**
+     * Create an operation without input or output shapes.
+     *
+     * @param id shape ID of the operation.
+     * @return the operation.
+     */
+    public static TestApiOperation<SerializableStruct, SerializableStruct> of(String id) {
+        return new TestApiOperation<>(Schema.createOperation(ShapeId.from(id)), null, null, null, null);
+    }
+
+    /**
+     * Create an operation whose input and output are the same structure.
+     *
+     * @param schema schema of the operation.
+     * @param structure schema of the input and output.
+     * @param builder creates builders of the input and output.
+     * @return the operation.
+     * @param <T> input and output type.
+     */
+    public static <T extends SerializableStruct> TestApiOperation<T, T> of(
+            Schema schema,
+            Schema structure,
+            Supplier<ShapeBuilder<T>> builder
+    ) {
+        return new TestApiOperation<>(schema, structure, structure, builder, builder);
+    }
+
+    @Override
+    public ShapeBuilder<I> inputBuilder() {
+        if (inputBuilder == null) {
+            throw new UnsupportedOperationException(schema.id() + " has no input shape");
+        }
+        return inputBuilder.get();
+    }
+
+    @Override
+    public ShapeBuilder<O> outputBuilder() {
+        if (outputBuilder == null) {
+            throw new UnsupportedOperationException(schema.id() + " has no output shape");
+        }
+        return outputBuilder.get();
+    }
+
+    @Override
+    public Schema schema() {
+        return schema;
+    }
+
+    @Override
+    public Schema inputSchema() {
+        return inputSchema;
+    }
+
+    @Override
+    public Schema outputSchema() {
+        return outputSchema;
+    }
+
+    @Override
+    public TypeRegistry errorRegistry() {
+        return TypeRegistry.empty();
+    }
+
+    @Override
+    public List<ShapeId> effectiveAuthSchemes() {
+        return List.of();
+    }
+
+    @Override
+    public List<Schema> errorSchemas() {
+        return List.of();
+    }
+
+    @Override
+    public ApiService service() {
+        return null;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.core.testing;
+
+import java.util.Arrays;
+import java.util.List;
+import software.amazon.smithy.java.core.schema.ApiOperation;
+import software.amazon.smithy.java.core.schema.Schema;
+import software.amazon.smithy.java.core.schema.SchemaIndex;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.core.serde.TypeRegistry;
+import software.amazon.smithy.java.server.Operation;
+import software.amazon.smithy.java.server.Service;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+/**
+ * A {@link Service} built by hand, for tests that need a service but not a generated model.
+ *
+ * <p>Every operation returns its input as its output.
+ */
+public final class TestService implements Service {
+
+    private final Schema schema;
+    private final List<Operation<? extends SerializableStruct, ? extends SerializableStruct>> operations;
+
+    /**
+     * Create a service with operations that have no input or output shapes.
+     *
+     * @param id shape ID of the service.
+     * @param operationNames names of the operations, which share the namespace of the service.
+     */
+    public TestService(String id, String... operationNames) {
+        this(id, namespacedOperations(ShapeId.from(id).getNamespace(), operationNames));
+    }
+
+    /**
+     * Create a service.
+     *
+     * @param id shape ID of the service.
+     * @param operations operations of the service, named after their shape ID.
+     */
+    public TestService(String id, List<? extends ApiOperation<?, ?>> operations) {
+        this.schema = Schema.createService(ShapeId.from(id));
+        this.operations = operations.stream()
+                .<Operation<? extends SerializableStruct, ? extends SerializableStruct>>map(this::echo)
+                .toList();
+    }
+
+    private static List<ApiOperation<?, ?>> namespacedOperations(String namespace, String... names) {
+        return Arrays.stream(names)
+                .<ApiOperation<?, ?>>map(name -> TestApiOperation.of(namespace + "#" + name))
+                .toList();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Operation<? extends SerializableStruct, ? extends SerializableStruct> echo(ApiOperation<?, ?> operation) {
+        var name = operation.schema().id().getName();
+        return Operation.of(name, (input, context) -> input, (ApiOperation) operation, this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <I extends SerializableStruct, O extends SerializableStruct> Operation<I, O> getOperation(
+            String operationName
+    ) {
+        for (var operation : operations) {
+            if (operation.name().equals(operationName)) {
+                return (Operation<I, O>) operation;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<Operation<? extends SerializableStruct, ? extends SerializableStruct>> getAllOperations() {
+        return operations;
+    }
+
+    @Override
+    public Schema schema() {
+        return schema;
+    }
+
+    @Override
+    public TypeRegistry typeRegistry() {
+        return TypeRegistry.empty();
+    }
+
+    @Override
+    public SchemaIndex schemaIndex() {
+        return null;
+    }
+}
@@ -0,0 +1,16 @@
+plugins {
+    id("smithy-java.module-conventions")
+}
+
+description = "This module provides server metrics for OpenTelemetry"
+
+extra["displayName"] = "Smithy :: Java :: Server :: Metrics :: OTel"
+extra["moduleName"] = "software.amazon.smithy.java.server.metrics.otel"
+
+dependencies {
+    api(project(":server:server-core"))
+    implementation(libs.opentelemetry.api)
+
+    testImplementation(libs.opentelemetry.test.api)
+    testImplementation(testFixtures(project(":server:server-core")))
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.metrics.otel;
+
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Container for common server operation metrics.
+ */
+final class OperationMetrics {
+    static final String DURATION = "smithy.server.request.duration";
+    static final String QUEUE_WAIT_DURATION = "smithy.server.request.queue_wait_duration";
+    static final String DESERIALIZATION_DURATION = "smithy.server.request.deserialization_duration";
+    static final String VALIDATION_DURATION = "smithy.server.request.validation_duration";
+    static final String HANDLER_DURATION = "smithy.server.request.handler_duration";
+    static final String SERIALIZATION_DURATION = "smithy.server.request.serialization_duration";
+    static final String REQUEST_PAYLOAD_SIZE = "smithy.server.request.request_payload_size";
+    static final String RESPONSE_PAYLOAD_SIZE = "smithy.server.request.response_payload_size";
+    static final String ERRORS = "smithy.server.request.errors";
+
+    private final DoubleHistogram duration;
+    private final DoubleHistogram queueWaitDuration;
+    private final DoubleHistogram deserializationDuration;
+    private final DoubleHistogram validationDuration;
+    private final DoubleHistogram handlerDuration;
+    private final DoubleHistogram serializationDuration;
+    private final DoubleHistogram requestPayloadSize;
+    private final DoubleHistogram responsePayloadSize;
+    private final LongCounter errors;
+
+    /**
+     * Creates a new operation metrics instance.
+     *
+     * @param meter the instruments provider used to record metrics
+     */
+    OperationMetrics(Meter meter) {
+        this.duration = meter.histogramBuilder(DURATION)
+                .setUnit("s")
+                .setDescription("The time from matching a request to an operation until its response is serialized")
+                .build();
+        this.queueWaitDuration = meter.histogramBuilder(QUEUE_WAIT_DURATION)
+                .setUnit("s")
+                .setDescription("The time a request waits in the orchestrator for a thread to run it")
+                .build();
+        this.deserializationDuration = meter.histogramBuilder(DESERIALIZATION_DURATION)
+                .setUnit("s")
+                .setDescription("The time it takes to deserialize a request")
+                .build();
+        this.validationDuration = meter.histogramBuilder(VALIDATION_DURATION)
+                .setUnit("s")
+                .setDescription("The time it takes to validate a request")
+                .build();
+        this.handlerDuration = meter.histogramBuilder(HANDLER_DURATION)
+                .setUnit("s")
+                .setDescription("The time it takes the operation implementation to handle a request")
+                .build();
+        this.serializationDuration = meter.histogramBuilder(SERIALIZATION_DURATION)
+                .setUnit("s")
+                .setDescription("The time it takes to serialize a response")
+                .build();
+        this.requestPayloadSize = meter.histogramBuilder(REQUEST_PAYLOAD_SIZE)
+                .setUnit("bytes")
+                .setDescription("The payload size of a request")
+                .build();
+        this.responsePayloadSize = meter.histogramBuilder(RESPONSE_PAYLOAD_SIZE)
+                .setUnit("bytes")
+                .setDescription("The payload size of a response")
+                .build();
+        this.errors = meter.counterBuilder(ERRORS)
+                .setUnit("{error}")
+                .setDescription("The number of requests that failed, by error")
+                .build();
+    }
+
+    DoubleHistogram duration() {
+        return duration;
+    }
+
+    DoubleHistogram queueWaitDuration() {
+        return queueWaitDuration;
+    }
+
+    DoubleHistogram deserializationDuration() {
+        return deserializationDuration;
+    }
+
+    DoubleHistogram validationDuration() {
+        return validationDuration;
+    }
+
+    DoubleHistogram handlerDuration() {
+        return handlerDuration;
+    }
+
+    DoubleHistogram serializationDuration() {
+        return serializationDuration;
+    }
+
+    DoubleHistogram requestPayloadSize() {
+        return requestPayloadSize;
+    }
+
+    DoubleHistogram responsePayloadSize() {
+        return responsePayloadSize;
+    }
+
+    LongCounter errors() {
+        return errors;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.metrics.otel;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.java.server.Operation;
+import software.amazon.smithy.java.server.core.Handler;
+import software.amazon.smithy.java.server.core.Handlers;
+import software.amazon.smithy.java.server.core.Job;
+import software.amazon.smithy.java.server.core.OperationHandler;
+import software.amazon.smithy.java.server.core.ProtocolHandler;
+
+/**
+ * A handler that records per-operation server metrics using <a href="https://opentelemetry.io/">OpenTelemetry</a>.
+ *
+ * <p>Install it with {@link #instrument(List)}, which puts this handler in front of the server's handler chain and
+ * times the protocol, validation and operation handlers in it:
+ * {@snippet lang = "java":
+ *     var metrics = new OperationMetricsHandler(openTelemetry);
+ *     var server = ((NettyServerBuilder) Server.builder())
+ *         .handlerChain(metrics::instrument)
+ *         .endpoints(URI.create("http://localhost:8080"))
+ *         .addService(service)
+ *         .build();
+ *}
+ *
+ * <p>Attributes are built once per operation and error type and then reused, so recording a request does not
+ * allocate beyond what the OpenTelemetry SDK itself does.
+ *
+ * <h2>Metrics published</h2>
+ *
+ * <dl>
+ *   <dt>smithy.server.request.duration (unit: s)</dt>
+ *   <dd>The time from matching a request to an operation until its response is serialized.</dd>
+ *
+ *   <dt>smithy.server.request.queue_wait_duration (unit: s)</dt>
+ *   <dd>The time a request waits in the orchestrator for a thread to run it.</dd>
+ *
+ *   <dt>smithy.server.request.deserialization_duration (unit: s)</dt>
+ *   <dd>The time it takes to deserialize a request.</dd>
+ *
+ *   <dt>smithy.server.request.validation_duration (unit: s)</dt>
+ *   <dd>The time it takes to validate a request.</dd>
+ *
+ *   <dt>smithy.server.request.handler_duration (unit: s)</dt>
+ *   <dd>The time it takes the operation implementation to handle a request.</dd>
+ *
+ *   <dt>smithy.server.request.serialization_duration (unit: s)</dt>
+ *   <dd>The time it takes to serialize a response, or an error.</dd>
+ *
+ *   <dt>smithy.server.request.request_payload_size (unit: bytes)</dt>
+ *   <dd>The payload size of a request, when known up front.</dd>
+ *
+ *   <dt>smithy.server.request.response_payload_size (unit: bytes)</dt>
+ *   <dd>The payload size of a response, when known up front.</dd>
+ *
+ *   <dt>smithy.server.request.errors</dt>
+ *   <dd>The number of requests that failed.</dd>
+ * </dl>
+ *
+ * <p>The following attributes are attached to each metric</p>
+ *
+ * <dl>
+ *     <dt>rpc.service</dt>
+ *     <dd>The name of the service</dd>
+ *     <dt>rpc.method</dt>
+ *     <dd>The name of the operation</dd>
+ * </dl>
+ *
+ * Additionally the following attribute is attached to the smithy.server.request.errors metric
+ *
+ * <dl>
+ *     <dt>error</dt>
+ *     <dd>The name of the exception class</dd>
+ * </dl>
+ */
+public final class OperationMetricsHandler implements Handler {
+    static final AttributeKey<String> RPC_SERVICE = AttributeKey.stringKey("rpc.service");
+    static final AttributeKey<String> RPC_METHOD = AttributeKey.stringKey("rpc.method");
+    static final AttributeKey<String> EXCEPTION_TYPE = AttributeKey.stringKey("error");
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final OperationMetrics metrics;
+    private final Map<Operation<?, ?>, OperationAttributes> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new operation metrics handler.
+     *
+     * @param openTelemetry The OpenTelemetry instance used to create metrics
+     * @param scope         The scope used to publish metrics.
+     */
+    public OperationMetricsHandler(OpenTelemetry openTelemetry, String scope) {
+        this.metrics = new OperationMetrics(openTelemetry.getMeter(scope));
+    }
+
+    /**
+     * Creates a new operation metrics handler using the default scope
+     * <pre>"software.amazon.smithy.java.server"</pre>.
+     *
+     * @param openTelemetry The OpenTelemetry instance used to create metrics
+     */
+    public OperationMetricsHandler(OpenTelemetry openTelemetry) {
+        this(openTelemetry, "software.amazon.smithy.java.server");
+    }
+
+    /**
+     * Instruments a handler chain: this handler is added in front of it, and the protocol, validation and operation
+     * handlers in it are timed. Other handlers are kept as-is.
+     *
+     * @param handlers the chain to instrument.
+     * @return the instrumented chain.
+     */
+    public List<Handler> instrument(List<Handler> handlers) {
+        List<Handler> instrumented = new ArrayList<>(handlers.size() + 1);
+        instrumented.add(this);
+        for (Handler handler : handlers) {
+            if (handler instanceof ProtocolHandler) {
+                instrumented.add(new TimedHandler(
+                        handler,
+                        metrics.deserializationDuration(),
+                        metrics.serializationDuration()));
+            } else if (Handlers.isValidation(handler)) {
+                instrumented.add(new TimedHandler(handler, metrics.validationDuration(), null));
+            } else if (handler instanceof OperationHandler) {
+                instrumented.add(new TimedHandler(handler, metrics.handlerDuration(), null));
+            } else {
+                instrumented.add(handler);
+            }
+        }
+        return instrumented;
+    }
+
+    @Override
+    public CompletableFuture<Void> before(Job job) {
+        var body = job.request().getDataStream();
+        if (body != null && body.contentLength() >= 0) {
+            metrics.requestPayloadSize().record(body.contentLength(), attributes(job).attributes);
+        }
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> after(Job job) {
+        var bound = attributes(job);
+        metrics.duration().record(elapsedSecondsSinceNs(job.createdAtNanos()), bound.attributes);
+        metrics.queueWaitDuration().record(job.queueWaitNanos() / 1_000_000_000.0, bound.attributes);
+        var body = job.response().getSerializedValue();
+        if (body != null && body.contentLength() >= 0) {
+            metrics.responsePayloadSize().record(body.contentLength(), bound.attributes);
+        }
+        var failure = job.getFailure();
+        if (failure != null) {
+            metrics.errors().add(1L, bound.withError(failure.getClass()));
+        }
+        return DONE;
+    }
+
+    private OperationAttributes attributes(Job job) {
+        var operation = job.operation();
+        var bound = attributes.get(operation);
+        if (bound == null) {
+            bound = attributes.computeIfAbsent(operation, OperationAttributes::new);
+        }
+        return bound;
+    }
+
+    static double elapsedSecondsSinceNs(long startNs) {
+        var elapsedNs = System.nanoTime() - startNs;
+        return elapsedNs / 1_000_000_000.0;
+    }
+
+    private static final class OperationAttributes {
+        private final Attributes attributes;
+        private final Map<Class<?>, Attributes> errorAttributes = new ConcurrentHashMap<>();
+
+        private OperationAttributes(Operation<?, ?> operation) {
+            var builder = Attributes.builder().put(RPC_METHOD, operation.name());
+            var service = operation.getOwningService();
+            if (service != null) {
+                builder.put(RPC_SERVICE, service.schema().id().getName());
+            }
+            this.attributes = builder.build();
+        }
+
+        private Attributes withError(Class<?> type) {
+            var result = errorAttributes.get(type);
+            if (result == null) {
+                result = errorAttributes.computeIfAbsent(
+                        type,
+                        t -> attributes.toBuilder().put(EXCEPTION_TYPE, t.getName()).build());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Records how long the "before" and "after" steps of a handler take, including any asynchronous completion.
+     */
+    private final class TimedHandler implements Handler {
+        private final Handler delegate;
+        private final DoubleHistogram beforeDuration;
+        private final DoubleHistogram afterDuration;
+
+        private TimedHandler(Handler delegate, DoubleHistogram beforeDuration, DoubleHistogram afterDuration) {
+            this.delegate = delegate;
+            this.beforeDuration = beforeDuration;
+            this.afterDuration = afterDuration;
+        }
+
+        @Override
+        public CompletableFuture<Void> before(Job job) {
+            long startNs = System.nanoTime();
+            return record(delegate.before(job), beforeDuration, job, startNs);
+        }
+
+        @Override
+        public CompletableFuture<Void> after(Job job) {
+            long startNs = System.nanoTime();
+            return record(delegate.after(job), afterDuration, job, startNs);
+        }
+
+        private CompletableFuture<Void> record(
+                CompletableFuture<Void> result,
+                DoubleHistogram histogram,
+                Job job,
+                long startNs
+        ) {
+            if (histogram == null) {
+                return result;
+            }
+            if (result.isDone()) {
+                histogram.record(elapsedSecondsSinceNs(startNs), attributes(job).attributes);
+                return result;
+            }
+            return result.whenComplete(
+                    (r, e) -> histogram.record(elapsedSecondsSinceNs(startNs), attributes(job).attributes));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * OpenTelemetry metrics for Smithy servers.
+ */
+package software.amazon.smithy.java.server.metrics.otel;
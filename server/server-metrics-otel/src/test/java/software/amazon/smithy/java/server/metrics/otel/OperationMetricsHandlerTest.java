@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.metrics.otel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static software.amazon.smithy.java.server.metrics.otel.OperationMetricsHandler.EXCEPTION_TYPE;
+import static software.amazon.smithy.java.server.metrics.otel.OperationMetricsHandler.RPC_METHOD;
+
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.core.schema.SerializableStruct;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+import software.amazon.smithy.java.server.Operation;
+import software.amazon.smithy.java.server.Service;
+import software.amazon.smithy.java.server.core.Handler;
+import software.amazon.smithy.java.server.core.HttpJob;
+import software.amazon.smithy.java.server.core.HttpRequest;
+import software.amazon.smithy.java.server.core.HttpResponse;
+import software.amazon.smithy.java.server.core.InlineOrchestrator;
+import software.amazon.smithy.java.server.core.Job;
+import software.amazon.smithy.java.server.core.ProtocolHandler;
+import software.amazon.smithy.java.server.core.ServerProtocol;
+import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
+import software.amazon.smithy.java.server.core.ServiceProtocolResolutionResult;
+import software.amazon.smithy.java.server.core.testing.TestApiOperation;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+class OperationMetricsHandlerTest {
+
+    private InMemoryMetricReader metricReader;
+    private OperationMetricsHandler metricsHandler;
+
+    @BeforeEach
+    void setUp() {
+        metricReader = InMemoryMetricReader.create();
+        var meterProvider = SdkMeterProvider.builder()
+                .registerMetricReader(metricReader)
+                .build();
+        var openTelemetry = OpenTelemetrySdk.builder()
+                .setMeterProvider(meterProvider)
+                .build();
+        metricsHandler = new OperationMetricsHandler(openTelemetry);
+    }
+
+    @Test
+    public void instrumentsTheHandlerChain() {
+        var protocolHandler = new ProtocolHandler();
+        var other = new NoopHandler();
+
+        var chain = metricsHandler.instrument(List.of(protocolHandler, other));
+
+        assertEquals(3, chain.size());
+        assertSame(metricsHandler, chain.get(0));
+        assertFalse(chain.get(1) instanceof ProtocolHandler);
+        assertSame(other, chain.get(2));
+    }
+
+    @Test
+    public void recordsTheExpectedMetrics() throws Exception {
+        var orchestrator = new InlineOrchestrator(
+                metricsHandler.instrument(List.of(new ProtocolHandler(), new NoopHandler())));
+
+        orchestrator.enqueue(createJob("GetSprocket")).get();
+
+        var metrics = collectMetrics();
+        for (var name : List.of(
+                OperationMetrics.DURATION,
+                OperationMetrics.QUEUE_WAIT_DURATION,
+                OperationMetrics.DESERIALIZATION_DURATION,
+                OperationMetrics.SERIALIZATION_DURATION,
+                OperationMetrics.REQUEST_PAYLOAD_SIZE,
+                OperationMetrics.RESPONSE_PAYLOAD_SIZE)) {
+            var metric = metrics.get(name);
+            assertTrue(metric != null, "Expected metric " + name);
+            var point = metric.getHistogramData().getPoints().iterator().next();
+            assertEquals("GetSprocket", point.getAttributes().get(RPC_METHOD));
+            assertEquals(1, point.getCount());
+        }
+        assertEquals(2.0, metrics.get(OperationMetrics.REQUEST_PAYLOAD_SIZE)
+                .getHistogramData()
+                .getPoints()
+                .iterator()
+                .next()
+                .getSum());
+        assertEquals(5.0, metrics.get(OperationMetrics.RESPONSE_PAYLOAD_SIZE)
+                .getHistogramData()
+                .getPoints()
+                .iterator()
+                .next()
+                .getSum());
+        assertFalse(metrics.containsKey(OperationMetrics.ERRORS));
+    }
+
+    @Test
+    public void countsErrorsByType() throws Exception {
+        var orchestrator = new InlineOrchestrator(metricsHandler.instrument(List.of(new NoopHandler() {
+            @Override
+            public CompletableFuture<Void> before(Job job) {
+                job.setFailure(new IllegalStateException("boom"));
+                return CompletableFuture.completedFuture(null);
+            }
+        })));
+
+        orchestrator.enqueue(createJob("GetSprocket")).get();
+        orchestrator.enqueue(createJob("GetSprocket")).get();
+
+        var errors = collectMetrics().get(OperationMetrics.ERRORS);
+        var point = errors.getLongSumData().getPoints().iterator().next();
+        assertEquals(2, point.getValue());
+        assertEquals("GetSprocket", point.getAttributes().get(RPC_METHOD));
+        assertEquals(IllegalStateException.class.getName(), point.getAttributes().get(EXCEPTION_TYPE));
+    }
+
+    private Map<String, MetricData> collectMetrics() {
+        return metricReader.collectAllMetrics()
+                .stream()
+                .collect(Collectors.toMap(MetricData::getName, Function.identity()));
+    }
+
+    private static HttpJob createJob(String operationName) {
+        var operation = Operation.of(
+                operationName,
+                (input, ctx) -> input,
+                TestApiOperation.of("com.test#" + operationName),
+                null);
+        var request = new HttpRequest(HttpHeaders.of(Map.of()), SmithyUri.of("http://localhost/"), "POST");
+        request.setDataStream(DataStream.ofString("{}"));
+        return new HttpJob(operation, new TestProtocol(), request, new HttpResponse(HttpHeaders.ofModifiable()));
+    }
+
+    private static class NoopHandler implements Handler {
+        @Override
+        public CompletableFuture<Void> before(Job job) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletableFuture<Void> after(Job job) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private static final class TestProtocol extends ServerProtocol {
+        private TestProtocol() {
+            super(List.of());
+        }
+
+        @Override
+        public ShapeId getProtocolId() {
+            return ShapeId.from("test#protocol");
+        }
+
+        @Override
+        public ServiceProtocolResolutionResult resolveOperation(
+                ServiceProtocolResolutionRequest request,
+                List<Service> candidates
+        ) {
+            return null;
+        }
+
+        @Override
+        public CompletableFuture<Void> deserializeInput(Job job) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        protected CompletableFuture<Void> serializeOutput(Job job, SerializableStruct output, boolean isError) {
+            job.response().setSerializedValue(DataStream.ofString("{\"a\"}"));
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.kqueue.KQueue;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class AcceptorsTest {
+
+    @Test
+    public void bindsEveryAcceptorToTheSamePort() throws Exception {
+        assumeTrue(Epoll.isAvailable() || KQueue.isAvailable(), "SO_REUSEPORT needs a native transport");
+        int port = freePort();
+        var server = (NettyServer) new NettyServerBuilder()
+                .endpoints(URI.create("http://localhost:" + port))
+                .acceptors(4)
+                .backlog(1024)
+                .receiveBufferSize(256 * 1024)
+                .bufferAllocator(NettyServerBuilder.BufferAllocator.ADAPTIVE)
+                .build();
+        server.start();
+        try {
+            assertThat(server.listeners(), hasSize(4));
+            for (var listener : server.listeners()) {
+                assertThat(listener.isActive(), equalTo(true));
+                assertThat(((InetSocketAddress) listener.localAddress()).getPort(), equalTo(port));
+            }
+            // Connections are served whichever socket the kernel hands them to.
+            for (int i = 0; i < 16; i++) {
+                assertThat(get(port), startsWith("HTTP/1.1 404"));
+            }
+        } finally {
+            server.shutdown().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void sharesEphemeralPortAcrossAcceptors() throws Exception {
+        assumeTrue(Epoll.isAvailable() || KQueue.isAvailable(), "SO_REUSEPORT needs a native transport");
+        var server = (NettyServer) new NettyServerBuilder()
+                .endpoints(URI.create("http://localhost:0"))
+                .acceptors(3)
+                .build();
+        server.start();
+        try {
+            assertThat(server.listeners(), hasSize(3));
+            int port = ((InetSocketAddress) server.listeners().get(0).localAddress()).getPort();
+            assertThat(port > 0, equalTo(true));
+            for (var listener : server.listeners()) {
+                assertThat(((InetSocketAddress) listener.localAddress()).getPort(), equalTo(port));
+            }
+        } finally {
+            server.shutdown().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void bindsSingleAcceptorByDefault() throws Exception {
+        int port = freePort();
+        var server = (NettyServer) new NettyServerBuilder()
+                .endpoints(URI.create("http://localhost:" + port))
+                .build();
+        server.start();
+        try {
+            assertThat(server.listeners(), hasSize(1));
+            assertThat(get(port), startsWith("HTTP/1.1 404"));
+        } finally {
+            server.shutdown().get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static String get(int port) throws Exception {
+        try (var socket = new Socket("localhost", port)) {
+            socket.getOutputStream()
+                    .write("GET / HTTP/1.1\r\nhost: localhost\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+            var reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            return reader.readLine();
+        }
+    }
+
+    private static int freePort() throws Exception {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import software.amazon.smithy.java.io.datastream.DataStream;
+
+/**
+ * A {@link DataStream} over a reference-counted {@link ByteBuf}.
+ *
+ * <p>The transport takes ownership of the buffer with {@link #takeBuffer()} when writing the response. If that
+ * never happens, {@link #close()} releases it.
+ */
+final class ByteBufDataStream implements DataStream {
+
+    private final String contentType;
+    private final long contentLength;
+    private ByteBuf buf;
+
+    ByteBufDataStream(ByteBuf buf, String contentType) {
+        this.buf = buf;
+        this.contentType = contentType;
+        this.contentLength = buf.readableBytes();
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public String contentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isReplayable() {
+        return true;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return buf != null;
+    }
+
+    @Override
+    public InputStream asInputStream() {
+        return new ByteBufInputStream(buffer().duplicate());
+    }
+
+    @Override
+    public ByteBuffer asByteBuffer() {
+        return buffer().nioBuffer();
+    }
+
+    @Override
+    public boolean hasByteBuffer() {
+        return buf != null;
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        var b = buffer();
+        b.getBytes(b.readerIndex(), out, b.readableBytes());
+    }
+
+    /**
+     * Transfer ownership of the underlying buffer to the caller.
+     *
+     * @return the buffer, which the caller must release.
+     */
+    ByteBuf takeBuffer() {
+        var b = buffer();
+        buf = null;
+        return b;
+    }
+
+    @Override
+    public void close() {
+        if (buf != null) {
+            buf.release();
+            buf = null;
+        }
+    }
+
+    private ByteBuf buffer() {
+        if (buf == null) {
+            throw new IllegalStateException("Response buffer was already released");
+        }
+        return buf;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.server.core.ResponseBuffer;
+
+/**
+ * A response buffer backed by a {@link ByteBuf} from the channel's allocator, so serialized responses land
+ * directly in pooled (typically direct) memory that is written to the socket without another copy.
+ */
+final class ByteBufResponseBuffer extends ResponseBuffer {
+
+    private ByteBuf buf;
+
+    ByteBufResponseBuffer(ByteBufAllocator allocator) {
+        this.buf = allocator.ioBuffer();
+    }
+
+    @Override
+    public void write(int b) {
+        buf.writeByte(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        buf.writeBytes(b, off, len);
+    }
+
+    @Override
+    public DataStream toDataStream(String contentType) {
+        var result = new ByteBufDataStream(buf, contentType);
+        buf = null;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (buf != null) {
+            buf.release();
+            buf = null;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import java.util.Set;
+
+/**
+ * Response compression options.
+ *
+ * @param minResponseSize         buffered responses smaller than this many bytes are sent uncompressed
+ * @param uncompressedOperations  names of operations whose responses are never compressed
+ */
+record CompressionSettings(int minResponseSize, Set<String> uncompressedOperations) {}
@@ -0,0 +1,14 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+/**
+ * Fired on every open connection when the server shuts down. Connections answer the requests they already
+ * received, stop taking new ones, and close.
+ */
+enum DrainEvent {
+    INSTANCE
+}
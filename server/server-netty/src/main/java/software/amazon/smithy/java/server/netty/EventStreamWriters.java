@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the writers of event stream responses, each on its own virtual thread.
+ *
+ * <p>A writer blocks while the handler produces events and whenever the channel can't take more, and it outlives
+ * the job that produced the response. It is owned by the server rather than the job so that shutdown can wait
+ * for it, and so that it counts against the server's concurrency limit.
+ */
+final class EventStreamWriters {
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("event-stream-writer-", 0).factory());
+    private final Semaphore permits;
+    private final AtomicInteger active = new AtomicInteger();
+    private final CompletableFuture<Void> drained = new CompletableFuture<>();
+    private volatile boolean draining;
+
+    /**
+     * @param maxConcurrentWriters maximum number of writers running at once, or 0 for no limit.
+     */
+    EventStreamWriters(int maxConcurrentWriters) {
+        this.permits = maxConcurrentWriters > 0 ? new Semaphore(maxConcurrentWriters) : null;
+    }
+
+    /**
+     * Starts a writer.
+     *
+     * @param writer writes the response; runs once a permit is available.
+     * @throws java.util.concurrent.RejectedExecutionException if the server has shut down.
+     */
+    void start(Runnable writer) {
+        active.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                boolean acquired = false;
+                try {
+                    if (permits != null) {
+                        permits.acquire();
+                        acquired = true;
+                    }
+                } catch (InterruptedException e) {
+                    // Shut down while waiting; the writer fails on its first blocking call and closes the connection.
+                    Thread.currentThread().interrupt();
+                }
+                try {
+                    writer.run();
+                } finally {
+                    if (acquired) {
+                        permits.release();
+                    }
+                    finished();
+                }
+            });
+        } catch (RuntimeException e) {
+            finished();
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of writers started and not finished yet.
+     */
+    int active() {
+        return active.get();
+    }
+
+    /**
+     * @return a future completed once no writer is running anymore.
+     */
+    CompletableFuture<Void> drain() {
+        draining = true;
+        if (active.get() == 0) {
+            drained.complete(null);
+        }
+        return drained;
+    }
+
+    /**
+     * Stops taking writers and interrupts the ones still running.
+     */
+    void shutdownNow() {
+        executor.shutdownNow();
+    }
+
+    private void finished() {
+        if (active.decrementAndGet() == 0 && draining) {
+            drained.complete(null);
+        }
+    }
+}
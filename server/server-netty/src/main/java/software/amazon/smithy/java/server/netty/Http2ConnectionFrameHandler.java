@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http2.DefaultHttp2WindowUpdateFrame;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Sits after the HTTP/2 multiplexer to size the connection-level flow-control window and to release
+ * connection-level frames (SETTINGS, PING, GOAWAY, ...) that the frame codec has already acted on. Also closes
+ * the connection, with a GOAWAY, once it has been idle without any open stream, or when the server drains.
+ */
+final class Http2ConnectionFrameHandler extends ChannelInboundHandlerAdapter {
+
+    private final int connectionWindowSize;
+
+    Http2ConnectionFrameHandler(int connectionWindowSize) {
+        this.connectionWindowSize = connectionWindowSize;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        // The codec only knows about the per-stream initial window; grow the connection window with an update.
+        int increment = connectionWindowSize - Http2CodecUtil.DEFAULT_WINDOW_SIZE;
+        if (increment > 0) {
+            ctx.writeAndFlush(new DefaultHttp2WindowUpdateFrame(increment));
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        ReferenceCountUtil.release(msg);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt == DrainEvent.INSTANCE) {
+            // The codec closes gracefully: it sends a GOAWAY right away and waits for the open streams to finish.
+            ctx.close();
+            return;
+        }
+        if (evt instanceof IdleStateEvent idle && idle.state() == IdleState.ALL_IDLE) {
+            var codec = ctx.pipeline().get(Http2FrameCodec.class);
+            if (codec == null || codec.connection().numActiveStreams() == 0) {
+                ctx.close();
+            }
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import java.util.List;
+
+/**
+ * Detects cleartext HTTP/2 clients with prior knowledge (h2c) by looking for the HTTP/2 connection preface, and
+ * configures the channel for HTTP/2 or HTTP/1.1 accordingly.
+ *
+ * <p>The handler removes itself once it has decided, and the bytes read so far are passed on to the new pipeline.
+ */
+final class Http2PriorKnowledgeDetector extends ByteToMessageDecoder {
+
+    private static final ByteBuf CONNECTION_PREFACE = Http2CodecUtil.connectionPrefaceBuf();
+
+    private final ServerChannelInitializer initializer;
+
+    Http2PriorKnowledgeDetector(ServerChannelInitializer initializer) {
+        this.initializer = initializer;
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        int prefaceLength = CONNECTION_PREFACE.readableBytes();
+        int bytesToCheck = Math.min(in.readableBytes(), prefaceLength);
+        boolean matches = ByteBufUtil.equals(
+                CONNECTION_PREFACE,
+                CONNECTION_PREFACE.readerIndex(),
+                in,
+                in.readerIndex(),
+                bytesToCheck);
+        if (matches && bytesToCheck < prefaceLength) {
+            // Not enough bytes to tell yet.
+            return;
+        }
+        if (matches) {
+            initializer.configureHttp2Pipeline(ctx.pipeline());
+        } else {
+            initializer.configureHttp1Pipeline(ctx.pipeline());
+        }
+        ctx.pipeline().remove(this);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt == DrainEvent.INSTANCE) {
+            // Nothing was received yet.
+            ctx.close();
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+}
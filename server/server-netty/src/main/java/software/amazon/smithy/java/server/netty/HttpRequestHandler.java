@@ -8,18 +8,43 @@ package software.amazon.smithy.java.server.netty;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.compression.DecompressionException;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.ReferenceCountUtil;
 import java.io.ByteArrayOutputStream;
-import java.net.URI;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import software.amazon.smithy.java.framework.model.UnknownOperationException;
 import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+import software.amazon.smithy.java.logging.InternalLogger;
+import software.amazon.smithy.java.server.AdmissionController;
+import software.amazon.smithy.java.server.OperationPriority;
 import software.amazon.smithy.java.server.core.CorsHeaders;
 import software.amazon.smithy.java.server.core.HttpJob;
 import software.amazon.smithy.java.server.core.HttpResponse;
@@ -29,21 +54,83 @@ import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
 
 final class HttpRequestHandler extends ChannelDuplexHandler {
 
+    private static final InternalLogger LOG = InternalLogger.getLogger(HttpRequestHandler.class);
+
+    // Upper bound of streamed request body bytes queued ahead of the consumer before reads are paused.
+    private static final int MAX_BUFFERED_REQUEST_BYTES = 256 * 1024;
+
     private final Orchestrator orchestrator;
     private final ProtocolResolver resolver;
+    private final boolean streamRequestBodies;
+    private final AdmissionController admissionController;
+    private final Map<String, OperationPriority> operationPriorities;
+    private final int maxRequestsPerConnection;
+    // Maximum decoded size of a buffered request body sent with a Content-Encoding; 0 disables decoding.
+    private final long maxDecodedRequestBytes;
+    private final EventStreamWriters eventStreamWriters;
+    // One entry per received request, in arrival order. Requests are processed concurrently but their responses
+    // are written strictly in this order, as pipelining clients expect.
+    private final Deque<PendingResponse> pendingResponses = new ArrayDeque<>();
+    private int requestCount;
+    // Set once a response that closes the connection is decided; later requests are ignored.
+    private boolean closing;
+    // Set while a streamed response body is being written; later responses wait for it to finish.
+    private boolean writingResponse;
     private HttpJob job;
+    private PendingResponse receiving;
     private ByteArrayOutputStream bodyAccumulator;
+    private RequestBodyDecoder bodyDecoder;
+    private NettyRequestBodyPublisher bodyPublisher;
+    private AdmissionController.Permit permit;
+    private ResponseCompressor compressor;
+    private NettyEventStreamOutput eventStreamOutput;
 
-    HttpRequestHandler(Orchestrator orchestrator, ProtocolResolver resolver) {
+    HttpRequestHandler(
+            Orchestrator orchestrator,
+            ProtocolResolver resolver,
+            boolean streamRequestBodies,
+            AdmissionController admissionController,
+            Map<String, OperationPriority> operationPriorities,
+            int maxRequestsPerConnection,
+            long maxDecodedRequestBytes,
+            EventStreamWriters eventStreamWriters
+    ) {
         this.orchestrator = orchestrator;
         this.resolver = resolver;
+        this.streamRequestBodies = streamRequestBodies;
+        this.admissionController = admissionController;
+        this.operationPriorities = operationPriorities;
+        this.maxRequestsPerConnection = maxRequestsPerConnection;
+        this.maxDecodedRequestBytes = maxDecodedRequestBytes;
+        this.eventStreamWriters = eventStreamWriters;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        compressor = ctx.pipeline().get(ResponseCompressor.class);
     }
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
         Channel channel = ctx.channel();
         if (msg instanceof HttpRequest httpRequest) {
-            URI uri = URI.create(httpRequest.uri());
+            if (closing) {
+                // Sent after a request that closes the connection; it will never be answered.
+                this.job = null;
+                ReferenceCountUtil.release(msg);
+                return;
+            }
+            var slot = new PendingResponse(httpRequest.protocolVersion(), isKeepAlive(channel, httpRequest));
+            closing = !slot.keepAlive;
+            pendingResponses.add(slot);
+
+            SmithyUri uri;
+            try {
+                uri = parseRequestTarget(httpRequest.uri());
+            } catch (IllegalArgumentException e) {
+                rejectAndClose(channel, slot, HttpResponseStatus.BAD_REQUEST);
+                return;
+            }
             HttpHeaders requestHeaders = new NettyHttpHeaders(httpRequest.headers());
 
             software.amazon.smithy.java.server.core.HttpRequest request =
@@ -55,14 +142,48 @@ final class HttpRequestHandler extends ChannelDuplexHandler {
             try {
                 var resolutionResult = resolver.resolve(
                         new ServiceProtocolResolutionRequest(uri, requestHeaders, request.context(), request.method()));
+                if (admissionController != null) {
+                    var priority = operationPriorities.getOrDefault(
+                            resolutionResult.operation().name(),
+                            OperationPriority.NORMAL);
+                    permit = admissionController.tryAcquire(priority);
+                    if (permit == null) {
+                        // Shed before the body is read or deserialized; the body is swallowed as it arrives.
+                        this.job = null;
+                        var response = emptyResponse(slot.version, HttpResponseStatus.SERVICE_UNAVAILABLE);
+                        response.headers().set("retry-after", 1);
+                        slot.complete(response);
+                        writeReadyResponses(channel);
+                        return;
+                    }
+                }
                 var response = new HttpResponse(new NettyHttpHeaders());
+                response.setBufferAllocator(() -> new ByteBufResponseBuffer(channel.alloc()));
                 this.job = new HttpJob(resolutionResult.operation(), resolutionResult.protocol(), request, response);
-                this.bodyAccumulator = new ByteArrayOutputStream();
+                if (hasEventStreamInput(job) || (streamRequestBodies && hasStreamingInput(job))) {
+                    // Dispatch right away and let the handlers pull the body as it arrives.
+                    this.bodyPublisher = new NettyRequestBodyPublisher(channel, MAX_BUFFERED_REQUEST_BYTES);
+                    request.setDataStream(DataStream.ofPublisher(
+                            bodyPublisher,
+                            requestHeaders.contentType(),
+                            HttpUtil.getContentLength(httpRequest, -1L)));
+                    dispatch(channel, slot, job, bodyPublisher, takePermit());
+                } else {
+                    this.bodyAccumulator = new ByteArrayOutputStream();
+                    this.receiving = slot;
+                    if (maxDecodedRequestBytes > 0) {
+                        // Only buffered bodies are decoded; a streamed body's coding belongs to its payload.
+                        bodyDecoder = RequestBodyDecoder.forEncoding(
+                                httpRequest.headers().get(HttpHeaderNames.CONTENT_ENCODING),
+                                maxDecodedRequestBytes);
+                        if (bodyDecoder != null) {
+                            httpRequest.headers().remove(HttpHeaderNames.CONTENT_ENCODING);
+                            httpRequest.headers().remove(HttpHeaderNames.CONTENT_LENGTH);
+                        }
+                    }
+                }
             } catch (UnknownOperationException e) {
-                var response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_FOUND);
-                ctx.writeAndFlush(response);
-                channel.close();
-                reset(channel);
+                rejectAndClose(channel, slot, HttpResponseStatus.NOT_FOUND);
             }
         } else if (msg instanceof HttpContent content) {
             // if the job is null, we either failed to select a protocol or prepare the job. in either case,
@@ -74,42 +195,403 @@ final class HttpRequestHandler extends ChannelDuplexHandler {
             }
 
             boolean isLast = content instanceof LastHttpContent;
-            content.content().readBytes(bodyAccumulator, content.content().readableBytes());
-            content.release();
+            if (bodyPublisher != null) {
+                // Ownership of the buffer moves to the publisher, which releases it once consumed.
+                bodyPublisher.offer(content.content());
+                if (isLast) {
+                    bodyPublisher.complete();
+                    bodyPublisher = null;
+                }
+                return;
+            }
+
+            if (bodyDecoder != null) {
+                if (!decodeBody(channel, content, isLast)) {
+                    return;
+                }
+            } else {
+                content.content().readBytes(bodyAccumulator, content.content().readableBytes());
+                content.release();
+            }
             if (isLast) {
                 job.request()
                         .setDataStream(
                                 DataStream.ofBytes(bodyAccumulator.toByteArray(),
                                         job.request().headers().contentType()));
-                orchestrator.enqueue(job).whenCompleteAsync((r, t) -> writeResponse(channel, job), channel.eventLoop());
+                bodyAccumulator = null;
+                dispatch(channel, receiving, job, null, takePermit());
+                receiving = null;
+            }
+
+        }
+    }
+
+    // Returns false if the request was rejected because the body is corrupt or decodes to more than the limit.
+    private boolean decodeBody(Channel channel, HttpContent content, boolean isLast) throws IOException {
+        HttpResponseStatus failure = null;
+        try {
+            // Ownership of the buffer moves to the decoder.
+            if (!bodyDecoder.decode(content.content(), bodyAccumulator)
+                    || (isLast && !bodyDecoder.finish(bodyAccumulator))) {
+                failure = HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE;
+            }
+        } catch (DecompressionException e) {
+            failure = HttpResponseStatus.BAD_REQUEST;
+        }
+        if (failure != null) {
+            rejectAndClose(channel, receiving, failure);
+            return false;
+        }
+        if (isLast) {
+            bodyDecoder.close();
+            bodyDecoder = null;
+        }
+        return true;
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt == DrainEvent.INSTANCE) {
+            drain(ctx);
+            return;
+        }
+        if (evt instanceof IdleStateEvent idle) {
+            if (idle.state() == IdleState.READER_IDLE && receiving != null) {
+                // The client stalled in the middle of sending a buffered request body.
+                var slot = receiving;
+                reset(ctx.channel());
+                slot.keepAlive = false;
+                closing = true;
+                slot.complete(emptyResponse(slot.version, HttpResponseStatus.REQUEST_TIMEOUT));
+                writeReadyResponses(ctx.channel());
+            } else if (idle.state() == IdleState.ALL_IDLE && isIdle()) {
+                ctx.close();
+            }
+            return;
+        }
+        super.userEventTriggered(ctx, evt);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (eventStreamOutput != null) {
+            eventStreamOutput.writabilityChanged();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (bodyPublisher != null) {
+            bodyPublisher.fail(new IOException("Connection closed before the request body was fully received"));
+            bodyPublisher = null;
+        }
+        closeBodyDecoder();
+        var pending = takePermit();
+        if (pending != null) {
+            // The connection went away while the request body was still being received.
+            pending.release();
+        }
+        super.channelInactive(ctx);
+    }
+
+    private void drain(ChannelHandlerContext ctx) {
+        closing = true;
+        if (isIdle()) {
+            ctx.close();
+        } else if (!pendingResponses.isEmpty()) {
+            // Answer the requests already received; the last response tells the client the connection is closing.
+            pendingResponses.peekLast().keepAlive = false;
+        }
+    }
+
+    private boolean isKeepAlive(Channel channel, HttpRequest httpRequest) {
+        if (channel instanceof Http2StreamChannel) {
+            // Each stream carries a single request, the connection itself is managed by the HTTP/2 codec.
+            return true;
+        }
+        requestCount++;
+        return HttpUtil.isKeepAlive(httpRequest)
+                && (maxRequestsPerConnection == 0 || requestCount < maxRequestsPerConnection);
+    }
+
+    private boolean isIdle() {
+        return pendingResponses.isEmpty() && !writingResponse && bodyAccumulator == null && bodyPublisher == null;
+    }
+
+    private void rejectAndClose(Channel channel, PendingResponse slot, HttpResponseStatus status) {
+        reset(channel);
+        slot.keepAlive = false;
+        closing = true;
+        slot.complete(emptyResponse(slot.version, status));
+        writeReadyResponses(channel);
+    }
+
+    // Origin-form targets ("/path?query") are split without going through java.net.URI, which is only needed for
+    // the rare absolute-form and asterisk-form targets. Components stay percent-encoded.
+    static SmithyUri parseRequestTarget(String target) {
+        if (target.isEmpty() || target.charAt(0) != '/') {
+            return SmithyUri.of(target);
+        }
+        int end = target.indexOf('#');
+        if (end < 0) {
+            end = target.length();
+        }
+        int queryStart = target.indexOf('?');
+        if (queryStart < 0 || queryStart > end) {
+            return SmithyUri.of(null, null, -1, target.substring(0, end), null);
+        }
+        return SmithyUri.of(null, null, -1, target.substring(0, queryStart), target.substring(queryStart + 1, end));
+    }
+
+    private static FullHttpResponse emptyResponse(HttpVersion version, HttpResponseStatus status) {
+        var response = new DefaultFullHttpResponse(version, status);
+        response.headers().set("content-length", 0);
+        return response;
+    }
+
+    private AdmissionController.Permit takePermit() {
+        var taken = permit;
+        permit = null;
+        return taken;
+    }
+
+    private void dispatch(
+            Channel channel,
+            PendingResponse slot,
+            HttpJob job,
+            NettyRequestBodyPublisher publisher,
+            AdmissionController.Permit permit
+    ) {
+        if (permit != null) {
+            // Admitted on the headers, but a buffered body's upload time isn't the server's latency.
+            permit.dispatched();
+        }
+        orchestrator.enqueue(job).whenCompleteAsync((r, t) -> {
+            if (permit != null) {
+                // Also for event stream responses: their writers outlive the job and are bounded by EventStreamWriters.
+                permit.release();
+            }
+            if (publisher != null) {
+                if (hasEventStreamInput(job)) {
+                    // The handler can keep reading events after returning, until its response is written.
+                    slot.eventStreamInput = publisher;
+                } else {
+                    // Drop whatever part of the body the handler chose not to read.
+                    publisher.discard();
+                }
             }
+            slot.complete(job);
+            writeReadyResponses(channel);
+        }, channel.eventLoop());
+    }
 
+    private void writeReadyResponses(Channel channel) {
+        while (!writingResponse && !pendingResponses.isEmpty() && pendingResponses.peek().ready) {
+            var slot = pendingResponses.poll();
+            ChannelFuture written;
+            if (slot.job != null) {
+                written = writeResponse(channel, slot);
+            } else {
+                if (!(channel instanceof Http2StreamChannel)) {
+                    HttpUtil.setKeepAlive(slot.response, slot.keepAlive);
+                }
+                written = channel.writeAndFlush(slot.response);
+            }
+            if (slot.eventStreamInput != null) {
+                var publisher = slot.eventStreamInput;
+                written.addListener(f -> publisher.discard());
+            }
+            if (!slot.keepAlive) {
+                written.addListener(ChannelFutureListener.CLOSE);
+            }
         }
     }
 
+    private static boolean hasStreamingInput(HttpJob job) {
+        var apiOperation = job.operation().getApiOperation();
+        return apiOperation != null && apiOperation.inputStreamMember() != null;
+    }
+
+    // Event streams can run in both directions at once, so their request bodies are always streamed.
+    private static boolean hasEventStreamInput(HttpJob job) {
+        var apiOperation = job.operation().getApiOperation();
+        return apiOperation != null && apiOperation.inputEventBuilderSupplier() != null;
+    }
+
+    private static boolean hasEventStreamOutput(HttpJob job) {
+        var apiOperation = job.operation().getApiOperation();
+        return apiOperation != null && apiOperation.outputEventBuilderSupplier() != null;
+    }
+
     private void reset(Channel channel) {
         this.job = null;
+        this.receiving = null;
+        this.bodyAccumulator = null;
+        this.bodyPublisher = null;
+        closeBodyDecoder();
+        var pending = takePermit();
+        if (pending != null) {
+            pending.release();
+        }
+    }
+
+    private void closeBodyDecoder() {
+        if (bodyDecoder != null) {
+            bodyDecoder.close();
+            bodyDecoder = null;
+        }
     }
 
-    private void writeResponse(Channel channel, HttpJob job) {
-        var serializedValue = job.response().getSerializedValue();
-        DefaultFullHttpResponse response = null;
+    private ChannelFuture writeResponse(Channel channel, PendingResponse slot) {
+        var job = slot.job;
+        var version = slot.version;
+        var body = job.response().getSerializedValue();
+        boolean compress = compressor != null && compressor.beforeResponse(job.operation().name());
+        io.netty.handler.codec.http.HttpResponse response = null;
         try {
-            response = new DefaultFullHttpResponse(
-                    HttpVersion.HTTP_1_1,
-                    HttpResponseStatus.valueOf(job.response().getStatusCode()),
-                    Unpooled.wrappedBuffer(serializedValue.asByteBuffer()));
+            var status = HttpResponseStatus.valueOf(job.response().getStatusCode());
+            if (body instanceof ByteBufDataStream bufferedBody) {
+                // Serialized straight into a pooled buffer, hand it to Netty as-is.
+                response = new DefaultFullHttpResponse(version, status, bufferedBody.takeBuffer());
+            } else if (body.hasByteBuffer()) {
+                response = new DefaultFullHttpResponse(
+                        version,
+                        status,
+                        Unpooled.wrappedBuffer(body.asByteBuffer()));
+            } else {
+                response = new DefaultHttpResponse(version, status);
+            }
             CorsHeaders.addCorsHeaders(job);
             response.headers().set(((NettyHttpHeaders) job.response().headers()).getNettyHeaders());
-            response.headers().set("content-length", serializedValue.contentLength());
-            if (serializedValue.contentType() != null) {
-                response.headers().set("content-type", serializedValue.contentType());
+            if (body.hasKnownLength()) {
+                response.headers().set("content-length", body.contentLength());
+            } else {
+                HttpUtil.setTransferEncodingChunked(response, true);
+            }
+            if (body.contentType() != null) {
+                response.headers().set("content-type", body.contentType());
             }
         } catch (Throwable e) {
-            response = new DefaultFullHttpResponse(
-                    HttpVersion.HTTP_1_1,
-                    HttpResponseStatus.INTERNAL_SERVER_ERROR);
+            if (response instanceof FullHttpResponse fullResponse) {
+                fullResponse.release();
+            }
+            if (body != null) {
+                body.close();
+            }
+            response = emptyResponse(version, HttpResponseStatus.INTERNAL_SERVER_ERROR);
+        }
+        if (!(channel instanceof Http2StreamChannel)) {
+            HttpUtil.setKeepAlive(response, slot.keepAlive);
+        }
+        if (response instanceof FullHttpResponse) {
+            return channel.writeAndFlush(response);
+        }
+        channel.write(response);
+        if (hasEventStreamOutput(job)) {
+            return writeEventStream(channel, body);
+        }
+        return writeBody(channel, body, compress);
+    }
+
+    private ChannelFuture writeBody(Channel channel, DataStream body, boolean compress) {
+        try {
+            // Replayable streams can be opened again, so check for a file we can hand to the kernel.
+            if (body.isReplayable()) {
+                var source = body.asChannel();
+                if (source instanceof FileChannel file) {
+                    return writeFile(channel, file, compress);
+                }
+                source.close();
+            }
+            ChannelPromise done = newStreamingPromise(channel);
+            body.subscribe(new NettyResponseBodySubscriber(channel, done));
+            return done;
+        } catch (Exception e) {
+            LOG.error("Failed to write response body", e);
+            return channel.close();
+        }
+    }
+
+    // Events are written as the handler produces them, blocking the producer whenever the channel is above its
+    // write-buffer high watermark.
+    private ChannelFuture writeEventStream(Channel channel, DataStream body) {
+        ChannelPromise done = newStreamingPromise(channel);
+        var output = new NettyEventStreamOutput(channel);
+        eventStreamOutput = output;
+        done.addListener(f -> eventStreamOutput = null);
+        try {
+            eventStreamWriters.start(() -> {
+                try (output) {
+                    body.writeTo(output);
+                    output.flush();
+                    channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT, done);
+                } catch (Throwable e) {
+                    failEventStream(channel, done, body, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            output.close();
+            failEventStream(channel, done, body, e);
+        }
+        return done;
+    }
+
+    private static void failEventStream(Channel channel, ChannelPromise done, DataStream body, Throwable e) {
+        // The status line is already on the wire, so the only way to signal failure is to cut it short.
+        LOG.error("Failed to stream event stream response", e);
+        channel.close();
+        done.tryFailure(e);
+        // Unblocks a handler still writing events.
+        body.close();
+    }
+
+    // Streamed bodies are written over several turns of the event loop; hold back later responses until done.
+    private ChannelPromise newStreamingPromise(Channel channel) {
+        writingResponse = true;
+        ChannelPromise done = channel.newPromise();
+        done.addListener(f -> {
+            writingResponse = false;
+            writeReadyResponses(channel);
+            if (closing && isIdle()) {
+                // Drained while this response was being written with a keep-alive header.
+                channel.close();
+            }
+        });
+        return done;
+    }
+
+    private static ChannelFuture writeFile(Channel channel, FileChannel file, boolean compress) throws IOException {
+        if (!compress && !(channel instanceof Http2StreamChannel) && channel.pipeline().get(SslHandler.class) == null) {
+            // Plaintext, uncompressed responses can use sendfile/transferTo without copying through user space.
+            channel.write(new DefaultFileRegion(file, 0, file.size()));
+            return channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        } else {
+            return channel.writeAndFlush(new HttpChunkedInput(new ChunkedNioFile(file)));
+        }
+    }
+
+    private static final class PendingResponse {
+        private final HttpVersion version;
+        private boolean keepAlive;
+        private boolean ready;
+        private HttpJob job;
+        private FullHttpResponse response;
+        private NettyRequestBodyPublisher eventStreamInput;
+
+        private PendingResponse(HttpVersion version, boolean keepAlive) {
+            this.version = version;
+            this.keepAlive = keepAlive;
+        }
+
+        private void complete(HttpJob job) {
+            this.job = job;
+            this.ready = true;
+        }
+
+        private void complete(FullHttpResponse response) {
+            this.response = response;
+            this.ready = true;
         }
-        channel.writeAndFlush(response);
     }
 }
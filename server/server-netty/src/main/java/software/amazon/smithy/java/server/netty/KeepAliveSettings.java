@@ -0,0 +1,17 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+/**
+ * Connection reuse limits.
+ *
+ * @param idleTimeoutMillis         close connections without traffic or pending requests after this long, 0 disables
+ * @param readTimeoutMillis         abort requests whose body stalls for this long, 0 disables
+ * @param maxRequestsPerConnection  close HTTP/1.1 connections after this many requests, 0 for no limit
+ */
+record KeepAliveSettings(long idleTimeoutMillis, long readTimeoutMillis, int maxRequestsPerConnection) {
+    static final KeepAliveSettings DISABLED = new KeepAliveSettings(0, 0, 0);
+}
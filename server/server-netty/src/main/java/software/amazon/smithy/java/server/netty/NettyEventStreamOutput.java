@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes an event stream response body to the channel, one HTTP content chunk (or HTTP/2 DATA frame) per event.
+ *
+ * <p>The body is drained on its own thread with {@code DataStream#writeTo}, which flushes after every event. Bytes
+ * written between two flushes go out as a single chunk. When the channel's outbound buffer is above its high
+ * write-buffer watermark, {@link #flush()} blocks until it drops below the low watermark again. That stops the
+ * event pipe from being drained, which in turn blocks the handler's {@code EventStreamWriter#write} once the pipe
+ * is full, so a slow client slows the producer down rather than having events pile up in memory.
+ *
+ * <p>Only one thread may write to this stream. {@link #writabilityChanged()} is called from the event loop.
+ */
+final class NettyEventStreamOutput extends OutputStream {
+
+    private final Channel channel;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition writable = lock.newCondition();
+    private volatile Throwable failure;
+    private ByteBuf pending;
+
+    NettyEventStreamOutput(Channel channel) {
+        this.channel = channel;
+        channel.closeFuture().addListener(f -> writabilityChanged());
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (pending == null) {
+            pending = channel.alloc().buffer(len);
+        }
+        pending.writeBytes(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        if (pending != null) {
+            var chunk = new DefaultHttpContent(pending);
+            pending = null;
+            channel.writeAndFlush(chunk).addListener(f -> {
+                if (!f.isSuccess()) {
+                    failure = f.cause();
+                    writabilityChanged();
+                }
+            });
+        }
+        awaitWritable();
+    }
+
+    @Override
+    public void close() {
+        if (pending != null) {
+            pending.release();
+            pending = null;
+        }
+    }
+
+    /**
+     * Wakes up a writer waiting for the outbound buffer to drain, or for the channel to close.
+     */
+    void writabilityChanged() {
+        lock.lock();
+        try {
+            writable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitWritable() throws IOException {
+        lock.lock();
+        try {
+            while (!channel.isWritable()) {
+                ensureOpen();
+                writable.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the channel to drain", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (failure != null) {
+            throw new IOException("Failed to write event", failure);
+        }
+        if (!channel.isActive()) {
+            throw new IOException("Connection closed before the event stream was fully written");
+        }
+    }
+}
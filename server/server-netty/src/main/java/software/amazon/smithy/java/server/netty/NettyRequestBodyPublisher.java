@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+
+/**
+ * A single-subscriber publisher of request body chunks read from a Netty channel.
+ *
+ * <p>Chunks are offered from the channel's event loop and handed to the subscriber as demand allows. When the
+ * subscriber falls behind and more than {@code maxBufferedBytes} are queued, {@code autoRead} is turned off on
+ * the channel so the kernel socket buffer and TCP flow control push back on the client. Reading resumes once the
+ * queue is drained and the subscriber requests more.
+ *
+ * <p>Each chunk is copied into a heap {@link ByteBuffer} before it's published, and the {@link ByteBuf} is released
+ * right away. Handing out {@link ByteBuf#nioBuffer()} views instead would need a point at which the subscriber is
+ * done with a buffer, and {@link Flow} has none: the subscribers behind {@code DataStream} (such as the JDK's
+ * {@code BodySubscribers.ofInputStream} and {@code ofByteArray}) keep buffers after {@code onNext} returns and after
+ * requesting more, so a released pooled buffer could be reused under them. The copy is what lets the pooled buffer
+ * go back to the allocator as soon as it is read off the socket.
+ *
+ * <p>All state is confined to the event loop; {@link Flow.Subscription} calls from other threads hop onto it.
+ */
+final class NettyRequestBodyPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final Channel channel;
+    private final int maxBufferedBytes;
+    private final ArrayDeque<ByteBuf> pending = new ArrayDeque<>();
+    private Flow.Subscriber<? super ByteBuffer> subscriber;
+    private long demand;
+    private int bufferedBytes;
+    private boolean completed;
+    private boolean cancelled;
+    private boolean terminated;
+    private Throwable failure;
+
+    NettyRequestBodyPublisher(Channel channel, int maxBufferedBytes) {
+        this.channel = channel;
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (channel.eventLoop().inEventLoop()) {
+            doSubscribe(subscriber);
+        } else {
+            channel.eventLoop().execute(() -> doSubscribe(subscriber));
+        }
+    }
+
+    /**
+     * Queue a chunk of the request body. Must be called on the event loop.
+     *
+     * <p>Ownership of {@code content} is transferred to this publisher.
+     *
+     * @param content chunk to publish.
+     */
+    void offer(ByteBuf content) {
+        if (cancelled || terminated || !content.isReadable()) {
+            content.release();
+            return;
+        }
+        pending.add(content);
+        bufferedBytes += content.readableBytes();
+        drain();
+        if (bufferedBytes > maxBufferedBytes) {
+            channel.config().setAutoRead(false);
+        }
+    }
+
+    /**
+     * Signal that the last chunk of the request body was received. Must be called on the event loop.
+     */
+    void complete() {
+        completed = true;
+        drain();
+    }
+
+    /**
+     * Fail the publisher, e.g. because the connection was closed mid-request. Must be called on the event loop.
+     *
+     * @param cause the failure to report to the subscriber.
+     */
+    void fail(Throwable cause) {
+        if (terminated || completed) {
+            return;
+        }
+        failure = cause;
+        releasePending();
+        drain();
+    }
+
+    /**
+     * Stop publishing and drop any remaining request body chunks. Must be called on the event loop.
+     *
+     * <p>Used when a response is written before the handler consumed the whole request body, so the rest of the
+     * body is read off the connection and discarded.
+     */
+    void discard() {
+        cancelled = true;
+        releasePending();
+        channel.config().setAutoRead(true);
+    }
+
+    private void doSubscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        if (this.subscriber != null) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {}
+
+                @Override
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("Request body can only be subscribed to once"));
+            return;
+        }
+        this.subscriber = subscriber;
+        subscriber.onSubscribe(new Subscription());
+        drain();
+    }
+
+    private void drain() {
+        if (subscriber == null || terminated) {
+            return;
+        }
+        if (failure != null) {
+            terminated = true;
+            subscriber.onError(failure);
+            return;
+        }
+        while (demand > 0 && !pending.isEmpty() && !cancelled) {
+            ByteBuf buf = pending.poll();
+            int readable = buf.readableBytes();
+            bufferedBytes -= readable;
+            // Copied because subscribers may hold on to published buffers; see the class docs.
+            ByteBuffer copy = ByteBuffer.allocate(readable);
+            buf.readBytes(copy);
+            buf.release();
+            demand--;
+            subscriber.onNext(copy.flip());
+        }
+        if (cancelled) {
+            return;
+        }
+        if (pending.isEmpty() && completed) {
+            terminated = true;
+            subscriber.onComplete();
+        } else if (demand > 0 && bufferedBytes <= maxBufferedBytes && !channel.config().isAutoRead()) {
+            channel.config().setAutoRead(true);
+        }
+    }
+
+    private void releasePending() {
+        ByteBuf buf;
+        while ((buf = pending.poll()) != null) {
+            buf.release();
+        }
+        bufferedBytes = 0;
+    }
+
+    private final class Subscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (channel.eventLoop().inEventLoop()) {
+                doRequest(n);
+            } else {
+                channel.eventLoop().execute(() -> doRequest(n));
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (channel.eventLoop().inEventLoop()) {
+                discard();
+            } else {
+                channel.eventLoop().execute(NettyRequestBodyPublisher.this::discard);
+            }
+        }
+
+        private void doRequest(long n) {
+            if (terminated || cancelled) {
+                return;
+            }
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Requested demand must be positive: " + n));
+                return;
+            }
+            demand += n;
+            if (demand < 0) {
+                demand = Long.MAX_VALUE;
+            }
+            drain();
+        }
+    }
+}
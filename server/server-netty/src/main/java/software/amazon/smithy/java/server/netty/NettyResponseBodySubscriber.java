@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import software.amazon.smithy.java.logging.InternalLogger;
+
+/**
+ * Writes a streamed response body to the channel as HTTP content chunks.
+ *
+ * <p>Only one chunk is requested at a time, and the next one is requested once the previous write completes, so
+ * a fast producer can't queue more data than the socket drains. The given promise completes once the last chunk
+ * is written or the body fails.
+ */
+final class NettyResponseBodySubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    private static final InternalLogger LOG = InternalLogger.getLogger(NettyResponseBodySubscriber.class);
+
+    private final Channel channel;
+    private final ChannelPromise done;
+    private Flow.Subscription subscription;
+
+    NettyResponseBodySubscriber(Channel channel, ChannelPromise done) {
+        this.channel = channel;
+        this.done = done;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        channel.writeAndFlush(new DefaultHttpContent(Unpooled.wrappedBuffer(item))).addListener(f -> {
+            if (f.isSuccess()) {
+                subscription.request(1);
+            } else {
+                subscription.cancel();
+                done.tryFailure(f.cause());
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        // The status line is already on the wire, so the only way to signal failure is to cut the response short.
+        LOG.error("Failed to stream response body", throwable);
+        channel.close();
+        done.tryFailure(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        channel.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT, done);
+    }
+}
@@ -8,21 +8,43 @@ package software.amazon.smithy.java.server.netty;
 import static software.amazon.smithy.java.server.netty.NettyUtils.toVoidCompletableFuture;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.AdaptiveByteBufAllocator;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.kqueue.KQueue;
+import io.netty.channel.kqueue.KQueueChannelOption;
 import io.netty.channel.kqueue.KQueueEventLoopGroup;
 import io.netty.channel.kqueue.KQueueServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.util.concurrent.GlobalEventExecutor;
 import java.net.InetSocketAddress;
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import software.amazon.smithy.java.logging.InternalLogger;
 import software.amazon.smithy.java.server.Server;
@@ -31,6 +53,7 @@ import software.amazon.smithy.java.server.core.HandlerAssembler;
 import software.amazon.smithy.java.server.core.OrchestratorGroup;
 import software.amazon.smithy.java.server.core.ProtocolResolver;
 import software.amazon.smithy.java.server.core.SingleThreadOrchestrator;
+import software.amazon.smithy.java.server.core.VirtualThreadOrchestrator;
 
 final class NettyServer implements Server {
 
@@ -41,60 +64,207 @@ final class NettyServer implements Server {
     private final EventLoopGroup workerGroup;
     private final List<URI> endpoints;
     private final OrchestratorGroup orchestrator;
+    private final EventStreamWriters eventStreamWriters;
+    private final ChannelGroup connections = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
+    private final Duration shutdownTimeout;
+    private final int acceptors;
+    private final List<Channel> listeners = new CopyOnWriteArrayList<>();
 
     NettyServer(NettyServerBuilder builder) {
         var bootstrap = new ServerBootstrap();
 
         var protocolResolver = new ProtocolResolver(builder.serviceMatcher);
 
-        var handlers = new HandlerAssembler().assembleHandlers(builder.serviceMatcher.getAllServices());
-        orchestrator = new OrchestratorGroup(
-                builder.numberOfWorkers,
-                () -> new ErrorHandlingOrchestrator(new SingleThreadOrchestrator(handlers)),
-                OrchestratorGroup.Strategy.roundRobin());
+        var handlers = builder.handlerChain.apply(
+                new HandlerAssembler().assembleHandlers(builder.serviceMatcher.getAllServices()));
+        if (builder.virtualThreads) {
+            // A single orchestrator suffices, every job gets its own virtual thread.
+            orchestrator = new OrchestratorGroup(
+                    1,
+                    () -> new ErrorHandlingOrchestrator(
+                            new VirtualThreadOrchestrator(handlers, builder.maxConcurrentRequests)),
+                    OrchestratorGroup.Strategy.roundRobin());
+        } else {
+            orchestrator = new OrchestratorGroup(
+                    builder.numberOfWorkers,
+                    () -> new ErrorHandlingOrchestrator(new SingleThreadOrchestrator(handlers)),
+                    builder.workStealing
+                            ? OrchestratorGroup.Strategy.workStealing()
+                            : OrchestratorGroup.Strategy.roundRobin());
+        }
+
+        // Event stream responses are written after their job finished, so they are bounded separately.
+        eventStreamWriters = new EventStreamWriters(builder.maxConcurrentRequests);
 
-        bootstrap.childHandler(new ServerChannelInitializer(orchestrator, protocolResolver));
+        Http2Settings http2Settings = null;
+        if (builder.http2) {
+            http2Settings = Http2Settings.defaultSettings()
+                    .maxConcurrentStreams(builder.http2MaxConcurrentStreams)
+                    .initialWindowSize(builder.http2InitialStreamWindowSize);
+        }
+        bootstrap.childHandler(new ServerChannelInitializer(
+                orchestrator,
+                protocolResolver,
+                builder.streamRequestBodies,
+                createSslContext(builder),
+                http2Settings,
+                builder.http2ConnectionWindowSize,
+                builder.admissionController,
+                builder.operationPriorities,
+                new KeepAliveSettings(
+                        builder.idleTimeout.toMillis(),
+                        builder.readTimeout.toMillis(),
+                        builder.maxRequestsPerConnection),
+                builder.compressResponses
+                        ? new CompressionSettings(
+                                builder.compressionThreshold,
+                                Set.copyOf(builder.uncompressedOperations))
+                        : null,
+                builder.decompressRequests ? builder.maxDecompressedRequestSize : 0,
+                eventStreamWriters,
+                connections));
         int numWorkers = Runtime.getRuntime().availableProcessors() * 2;
         final Function<Integer, EventLoopGroup> eventLoopProvider;
         final ChannelFactory<? extends ServerChannel> channelFactory;
+        int acceptors = builder.acceptors;
         if (Epoll.isAvailable()) {
             eventLoopProvider = EpollEventLoopGroup::new;
             channelFactory = EpollServerSocketChannel::new;
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, acceptors > 1);
         } else if (KQueue.isAvailable()) {
             eventLoopProvider = KQueueEventLoopGroup::new;
             channelFactory = KQueueServerSocketChannel::new;
+            bootstrap.option(KQueueChannelOption.SO_REUSEPORT, acceptors > 1);
         } else {
             eventLoopProvider = NioEventLoopGroup::new;
             channelFactory = NioServerSocketChannel::new;
+            if (acceptors > 1) {
+                LOG.warn("SO_REUSEPORT needs the native epoll or kqueue transport, using a single acceptor");
+                acceptors = 1;
+            }
         }
-        bossGroup = eventLoopProvider.apply(1);
+        configureSockets(bootstrap, builder);
+        // Each listening socket is registered with the next event loop, so every acceptor gets its own thread.
+        bossGroup = eventLoopProvider.apply(acceptors);
         workerGroup = eventLoopProvider.apply(numWorkers);
-        bootstrap.channelFactory(channelFactory);
+        bootstrap.group(bossGroup, workerGroup).channelFactory(channelFactory);
+        this.acceptors = acceptors;
 
         this.bootstrap = bootstrap;
         this.endpoints = builder.endpoints;
+        this.shutdownTimeout = builder.shutdownTimeout;
+    }
+
+    private static void configureSockets(ServerBootstrap bootstrap, NettyServerBuilder builder) {
+        if (builder.backlog > 0) {
+            bootstrap.option(ChannelOption.SO_BACKLOG, builder.backlog);
+        }
+        if (builder.tcpFastOpen > 0) {
+            bootstrap.option(ChannelOption.TCP_FASTOPEN, builder.tcpFastOpen);
+        }
+        if (builder.receiveBufferSize > 0) {
+            // Set on the listening socket too: windows above 64 KiB must be negotiated during the handshake.
+            bootstrap.option(ChannelOption.SO_RCVBUF, builder.receiveBufferSize);
+            bootstrap.childOption(ChannelOption.SO_RCVBUF, builder.receiveBufferSize);
+        }
+        if (builder.sendBufferSize > 0) {
+            bootstrap.childOption(ChannelOption.SO_SNDBUF, builder.sendBufferSize);
+        }
+        bootstrap.childOption(ChannelOption.TCP_NODELAY, builder.tcpNoDelay);
+        if (builder.bufferAllocator != null) {
+            ByteBufAllocator allocator = switch (builder.bufferAllocator) {
+                case POOLED -> PooledByteBufAllocator.DEFAULT;
+                case ADAPTIVE -> new AdaptiveByteBufAllocator();
+                case UNPOOLED -> UnpooledByteBufAllocator.DEFAULT;
+            };
+            bootstrap.option(ChannelOption.ALLOCATOR, allocator);
+            bootstrap.childOption(ChannelOption.ALLOCATOR, allocator);
+        }
+    }
 
+    private static SslContext createSslContext(NettyServerBuilder builder) {
+        if (builder.sslContext == null) {
+            return null;
+        }
+        ApplicationProtocolConfig alpn = null;
+        if (builder.http2) {
+            alpn = new ApplicationProtocolConfig(
+                    ApplicationProtocolConfig.Protocol.ALPN,
+                    ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                    ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                    ApplicationProtocolNames.HTTP_2,
+                    ApplicationProtocolNames.HTTP_1_1);
+        }
+        return new JdkSslContext(
+                builder.sslContext,
+                false,
+                null,
+                IdentityCipherSuiteFilter.INSTANCE,
+                alpn,
+                ClientAuth.NONE,
+                null,
+                false);
     }
 
     @Override
     public void start() {
         for (URI endpoint : endpoints) {
             try {
-                bootstrap.group(bossGroup, workerGroup)
-                        .localAddress(new InetSocketAddress(endpoint.getHost(), endpoint.getPort()))
-                        .bind()
-                        .sync();
+                var first = bootstrap.bind(new InetSocketAddress(endpoint.getHost(), endpoint.getPort()))
+                        .sync()
+                        .channel();
+                listeners.add(first);
+                // With port 0 each bind would get its own ephemeral port, so the others share the first one's.
+                int port = ((InetSocketAddress) first.localAddress()).getPort();
+                for (int i = 1; i < acceptors; i++) {
+                    var address = new InetSocketAddress(endpoint.getHost(), port);
+                    listeners.add(bootstrap.bind(address).sync().channel());
+                }
             } catch (InterruptedException e) {
                 throw new RuntimeException("Unable to start server on " + endpoint, e);
             }
-            LOG.info("Started listening on {}", endpoint);
+            LOG.info("Started listening on {} with {} acceptors", endpoint, acceptors);
         }
     }
 
+    /**
+     * @return the listening sockets, one per acceptor and endpoint.
+     */
+    List<Channel> listeners() {
+        return listeners;
+    }
+
     @Override
     public CompletableFuture<Void> shutdown() {
+        // Stop accepting connections first, so that none shows up after the open ones were told to drain.
         return toVoidCompletableFuture(bossGroup.shutdownGracefully())
-                .thenCompose(r -> orchestrator.shutdown())
+                .thenCompose(r -> drain())
+                .thenRun(eventStreamWriters::shutdownNow)
+                .thenCompose(r -> toVoidCompletableFuture(connections.close()))
                 .thenCompose(r -> toVoidCompletableFuture(workerGroup.shutdownGracefully()));
     }
+
+    private CompletableFuture<Void> drain() {
+        if (shutdownTimeout.isZero()) {
+            orchestrator.shutdown();
+            return CompletableFuture.completedFuture(null);
+        }
+        connections.forEach(channel -> channel.pipeline().fireUserEventTriggered(DrainEvent.INSTANCE));
+        // Connections close themselves once their last response is written, which is after the orchestrators are
+        // done with their jobs.
+        var closed = connections.stream()
+                .map(channel -> toVoidCompletableFuture(channel.closeFuture()))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture
+                .allOf(orchestrator.shutdown(), eventStreamWriters.drain(), CompletableFuture.allOf(closed))
+                .completeOnTimeout(null, shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenRun(() -> {
+                    int inflight = orchestrator.inflightJobs() + eventStreamWriters.active();
+                    if (inflight > 0 || !connections.isEmpty()) {
+                        LOG.warn("Shutdown timed out with {} requests in progress on {} connections",
+                                inflight,
+                                connections.size());
+                    }
+                });
+    }
 }
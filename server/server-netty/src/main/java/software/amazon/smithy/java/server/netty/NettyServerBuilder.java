@@ -6,17 +6,63 @@
 package software.amazon.smithy.java.server.netty;
 
 import java.net.URI;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import javax.net.ssl.SSLContext;
+import software.amazon.smithy.java.server.AdmissionController;
+import software.amazon.smithy.java.server.OperationPriority;
 import software.amazon.smithy.java.server.Route;
 import software.amazon.smithy.java.server.Server;
 import software.amazon.smithy.java.server.ServerBuilder;
+import software.amazon.smithy.java.server.core.Handler;
 import software.amazon.smithy.java.server.core.ServiceMatcher;
 
-final class NettyServerBuilder extends ServerBuilder<NettyServerBuilder> {
+/**
+ * Builder for the Netty-based {@link Server}.
+ *
+ * <p>{@link Server#builder()} returns an instance of this class when the Netty server is the selected provider,
+ * and it can be cast to access the Netty-specific options.
+ */
+public final class NettyServerBuilder extends ServerBuilder<NettyServerBuilder> {
 
     ServiceMatcher serviceMatcher;
     List<URI> endpoints;
     int numberOfWorkers = Runtime.getRuntime().availableProcessors() * 2;
+    int acceptors = 1;
+    int backlog;
+    int tcpFastOpen;
+    int receiveBufferSize;
+    int sendBufferSize;
+    boolean tcpNoDelay = true;
+    BufferAllocator bufferAllocator;
+    boolean streamRequestBodies;
+    boolean virtualThreads;
+    int maxConcurrentRequests;
+    boolean workStealing;
+    SSLContext sslContext;
+    boolean http2 = true;
+    long http2MaxConcurrentStreams = 1000;
+    int http2InitialStreamWindowSize = 1024 * 1024;
+    int http2ConnectionWindowSize = 8 * 1024 * 1024;
+    Duration idleTimeout = Duration.ofSeconds(60);
+    Duration readTimeout = Duration.ofSeconds(30);
+    int maxRequestsPerConnection;
+    Duration shutdownTimeout = Duration.ofSeconds(30);
+    boolean compressResponses;
+    int compressionThreshold = 1024;
+    final Set<String> uncompressedOperations = new HashSet<>();
+    boolean decompressRequests = true;
+    long maxDecompressedRequestSize = 16 * 1024 * 1024;
+    AdmissionController admissionController;
+    Map<String, OperationPriority> operationPriorities;
+    UnaryOperator<List<Handler>> handlerChain = UnaryOperator.identity();
+
+    NettyServerBuilder() {}
 
     @Override
     public NettyServerBuilder endpoints(URI... endpoints) {
@@ -30,6 +76,350 @@ final class NettyServerBuilder extends ServerBuilder<NettyServerBuilder> {
         return self();
     }
 
+    /**
+     * Listen on each endpoint with several sockets bound with {@code SO_REUSEPORT}, each accepting connections on
+     * its own thread, so that the kernel spreads incoming connections across them.
+     *
+     * <p>A single accept loop can fall behind during connection storms on hosts with many cores. Requires the
+     * native epoll or kqueue transport; with the NIO transport a single socket is used. Defaults to 1.
+     *
+     * @param acceptors number of listening sockets per endpoint.
+     * @return the builder.
+     */
+    public NettyServerBuilder acceptors(int acceptors) {
+        this.acceptors = acceptors;
+        return self();
+    }
+
+    /**
+     * Set the length of the queue of connections waiting to be accepted ({@code SO_BACKLOG}).
+     *
+     * @param backlog queue length, or 0 for the platform default (default).
+     * @return the builder.
+     */
+    public NettyServerBuilder backlog(int backlog) {
+        this.backlog = backlog;
+        return self();
+    }
+
+    /**
+     * Enable TCP Fast Open, letting clients that have connected before send their first request in the SYN.
+     * Only supported by the native epoll transport.
+     *
+     * @param queueLength maximum number of pending fast open requests, or 0 to disable (default).
+     * @return the builder.
+     */
+    public NettyServerBuilder tcpFastOpen(int queueLength) {
+        this.tcpFastOpen = queueLength;
+        return self();
+    }
+
+    /**
+     * Set the socket receive buffer size ({@code SO_RCVBUF}) of accepted connections.
+     *
+     * @param receiveBufferSize buffer size in bytes, or 0 for the platform default (default).
+     * @return the builder.
+     */
+    public NettyServerBuilder receiveBufferSize(int receiveBufferSize) {
+        this.receiveBufferSize = receiveBufferSize;
+        return self();
+    }
+
+    /**
+     * Set the socket send buffer size ({@code SO_SNDBUF}) of accepted connections.
+     *
+     * @param sendBufferSize buffer size in bytes, or 0 for the platform default (default).
+     * @return the builder.
+     */
+    public NettyServerBuilder sendBufferSize(int sendBufferSize) {
+        this.sendBufferSize = sendBufferSize;
+        return self();
+    }
+
+    /**
+     * Enable or disable {@code TCP_NODELAY} on accepted connections. Disabling it lets the kernel coalesce small
+     * writes at the cost of latency. Defaults to true.
+     *
+     * @param tcpNoDelay whether to send data without delay.
+     * @return the builder.
+     */
+    public NettyServerBuilder tcpNoDelay(boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+        return self();
+    }
+
+    /**
+     * Choose how connection buffers, including serialized response bodies, are allocated.
+     *
+     * @param bufferAllocator allocator to use, or null for Netty's default (default).
+     * @return the builder.
+     */
+    public NettyServerBuilder bufferAllocator(BufferAllocator bufferAllocator) {
+        this.bufferAllocator = bufferAllocator;
+        return self();
+    }
+
+    /**
+     * Balance requests across orchestrator threads per request rather than per connection, and let idle threads
+     * take queued requests from busy ones.
+     *
+     * <p>Without it, each connection is pinned to one orchestrator thread, so a slow request delays every request
+     * queued behind it on that thread even when other threads are idle. Has no effect with
+     * {@link #virtualThreads(boolean) virtual threads}. Defaults to false.
+     *
+     * @param workStealing whether to enable work stealing.
+     * @return the builder.
+     */
+    public NettyServerBuilder workStealing(boolean workStealing) {
+        this.workStealing = workStealing;
+        return self();
+    }
+
+    /**
+     * Run each request's handler chain on its own virtual thread instead of on a fixed pool of orchestrator
+     * threads.
+     *
+     * <p>Blocking operations then only park their own virtual thread and never hold up other requests. When
+     * enabled, {@link #numberOfWorkers(int)} no longer applies. Defaults to false.
+     *
+     * @param virtualThreads whether to use virtual threads.
+     * @return the builder.
+     * @see #maxConcurrentRequests(int)
+     */
+    public NettyServerBuilder virtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return self();
+    }
+
+    /**
+     * Limit how many requests run their handler chain at once when {@link #virtualThreads(boolean) virtual threads}
+     * are used. Requests over the limit wait for a running request to finish.
+     *
+     * <p>Event stream responses keep being written after their handler chain finished. The same limit separately
+     * bounds how many of them are written at once, whether or not virtual threads are used.
+     *
+     * @param maxConcurrentRequests maximum number of concurrently running requests, or 0 for no limit (default).
+     * @return the builder.
+     */
+    public NettyServerBuilder maxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return self();
+    }
+
+    /**
+     * Stream request bodies of operations with a {@code @streaming} input member instead of buffering them.
+     *
+     * <p>When enabled, such requests are dispatched as soon as their headers are routed and the request body is
+     * exposed as a backpressured stream fed directly from the connection. Reading from the connection is paused
+     * while the handler falls behind. Requests for other operations are still buffered in full before dispatch.
+     *
+     * <p>Handlers that block while reading a streamed body occupy their orchestrator thread for the duration of
+     * the upload. Defaults to false.
+     *
+     * @param streamRequestBodies whether to stream request bodies.
+     * @return the builder.
+     */
+    public NettyServerBuilder streamRequestBodies(boolean streamRequestBodies) {
+        this.streamRequestBodies = streamRequestBodies;
+        return self();
+    }
+
+    /**
+     * Serve TLS connections using the given context.
+     *
+     * <p>When HTTP/2 is enabled, h2 and http/1.1 are offered to clients through ALPN.
+     *
+     * @param sslContext context providing the server's key material.
+     * @return the builder.
+     */
+    public NettyServerBuilder sslContext(SSLContext sslContext) {
+        this.sslContext = sslContext;
+        return self();
+    }
+
+    /**
+     * Enable or disable HTTP/2.
+     *
+     * <p>When enabled, TLS connections negotiate h2 through ALPN and cleartext connections accept h2c from clients
+     * with prior knowledge. Each HTTP/2 stream is processed as its own request, so a single connection carries
+     * many concurrent calls. Defaults to true.
+     *
+     * @param http2 whether to accept HTTP/2 connections.
+     * @return the builder.
+     */
+    public NettyServerBuilder http2(boolean http2) {
+        this.http2 = http2;
+        return self();
+    }
+
+    /**
+     * Set the maximum number of concurrent streams a client may open on one HTTP/2 connection.
+     *
+     * @param maxConcurrentStreams stream limit advertised in SETTINGS. Defaults to 1000.
+     * @return the builder.
+     */
+    public NettyServerBuilder http2MaxConcurrentStreams(long maxConcurrentStreams) {
+        this.http2MaxConcurrentStreams = maxConcurrentStreams;
+        return self();
+    }
+
+    /**
+     * Set the initial flow-control window of each HTTP/2 stream.
+     *
+     * @param windowSize window size in bytes. Defaults to 1 MiB.
+     * @return the builder.
+     */
+    public NettyServerBuilder http2InitialStreamWindowSize(int windowSize) {
+        this.http2InitialStreamWindowSize = windowSize;
+        return self();
+    }
+
+    /**
+     * Set the connection-level flow-control window of each HTTP/2 connection.
+     *
+     * @param windowSize window size in bytes. Defaults to 8 MiB.
+     * @return the builder.
+     */
+    public NettyServerBuilder http2ConnectionWindowSize(int windowSize) {
+        this.http2ConnectionWindowSize = windowSize;
+        return self();
+    }
+
+    /**
+     * Close connections that have neither traffic nor requests in progress for the given duration.
+     *
+     * <p>Keep this longer than the idle timeout of load balancers in front of the server, so they are the ones
+     * closing idle connections and never send a request on a connection the server is tearing down.
+     *
+     * @param idleTimeout idle timeout, or {@link Duration#ZERO} to keep idle connections open. Defaults to 60 seconds.
+     * @return the builder.
+     */
+    public NettyServerBuilder idleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        return self();
+    }
+
+    /**
+     * Abort a request with a 408 response when the client stops sending the request body for the given duration.
+     * The HTTP/1.1 connection is then closed; for HTTP/2, only the request's stream is reset. Streamed request bodies
+     * are not subject to this timeout.
+     *
+     * @param readTimeout read timeout, or {@link Duration#ZERO} to wait indefinitely. Defaults to 30 seconds.
+     * @return the builder.
+     */
+    public NettyServerBuilder readTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+        return self();
+    }
+
+    /**
+     * Close HTTP/1.1 connections after serving the given number of requests, by sending {@code Connection: close}
+     * with the last response. Helps spread long-lived client connections across servers.
+     *
+     * @param maxRequestsPerConnection request limit, or 0 for no limit (default).
+     * @return the builder.
+     */
+    public NettyServerBuilder maxRequestsPerConnection(int maxRequestsPerConnection) {
+        this.maxRequestsPerConnection = maxRequestsPerConnection;
+        return self();
+    }
+
+    /**
+     * Bound how long {@link Server#shutdown()} waits for requests in progress to finish.
+     *
+     * <p>On shutdown the server stops accepting connections and drains the open ones: idle HTTP/1.1 connections are
+     * closed, busy ones get {@code Connection: close} on the response to the last request they received, and HTTP/2
+     * connections get a GOAWAY and close once their open streams are done. Connections still open after the
+     * timeout are closed, abandoning whatever they were doing.
+     *
+     * @param shutdownTimeout drain timeout, or {@link Duration#ZERO} to close connections right away. Defaults to
+     *                        30 seconds.
+     * @return the builder.
+     */
+    public NettyServerBuilder shutdownTimeout(Duration shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+        return self();
+    }
+
+    /**
+     * Compress responses with gzip or deflate when the client accepts it through {@code Accept-Encoding}.
+     *
+     * <p>Compression trades CPU for bandwidth and pays off for large, repetitive payloads such as list operations.
+     * Files served on plaintext HTTP/1.1 connections are no longer sent with zero-copy transfers when their
+     * response is compressed. Decompression of request bodies is configured separately with
+     * {@link #decompressRequests(boolean)}. Defaults to false.
+     *
+     * @param compressResponses whether to compress responses.
+     * @return the builder.
+     * @see #compressionThreshold(int)
+     * @see #uncompressedOperation(String)
+     */
+    public NettyServerBuilder compressResponses(boolean compressResponses) {
+        this.compressResponses = compressResponses;
+        return self();
+    }
+
+    /**
+     * Send buffered responses smaller than the given size uncompressed, as compressing them saves too little to
+     * be worth it. Streamed responses of unknown size are always compressed.
+     *
+     * @param compressionThreshold minimum response size in bytes. Defaults to 1024.
+     * @return the builder.
+     */
+    public NettyServerBuilder compressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+        return self();
+    }
+
+    /**
+     * Never compress responses of the given operation, e.g. because its payload is already compressed.
+     *
+     * @param operationName name of the operation.
+     * @return the builder.
+     */
+    public NettyServerBuilder uncompressedOperation(String operationName) {
+        this.uncompressedOperations.add(operationName);
+        return self();
+    }
+
+    /**
+     * Decompress request bodies sent with a gzip or deflate {@code Content-Encoding} before they're deserialized.
+     *
+     * <p>Only buffered request bodies are decompressed. Streaming blob and event stream inputs are always passed on
+     * as received, since their Content-Encoding describes the payload itself. Defaults to true.
+     *
+     * @param decompressRequests whether to decompress request bodies.
+     * @return the builder.
+     * @see #maxDecompressedRequestSize(long)
+     */
+    public NettyServerBuilder decompressRequests(boolean decompressRequests) {
+        this.decompressRequests = decompressRequests;
+        return self();
+    }
+
+    /**
+     * Reject requests whose decompressed body is larger than the given size with a 413 status, protecting the
+     * server from small payloads that decompress to huge ones.
+     *
+     * @param maxDecompressedRequestSize maximum decompressed body size in bytes. Defaults to 16 MiB.
+     * @return the builder.
+     */
+    public NettyServerBuilder maxDecompressedRequestSize(long maxDecompressedRequestSize) {
+        this.maxDecompressedRequestSize = maxDecompressedRequestSize;
+        return self();
+    }
+
+    /**
+     * Customize the chain of handlers every request runs through, e.g. to instrument it.
+     *
+     * @param handlerChain receives the default chain and returns the chain to use.
+     * @return the builder.
+     */
+    public NettyServerBuilder handlerChain(UnaryOperator<List<Handler>> handlerChain) {
+        this.handlerChain = Objects.requireNonNull(handlerChain, "handlerChain");
+        return self();
+    }
+
     @Override
     protected NettyServerBuilder setServerRoutes(List<Route> routes) {
         this.serviceMatcher = new ServiceMatcher(routes);
@@ -39,6 +429,8 @@ final class NettyServerBuilder extends ServerBuilder<NettyServerBuilder> {
     @Override
     protected Server buildServer() {
         validate();
+        this.admissionController = getAdmissionController();
+        this.operationPriorities = getOperationPriorities();
         return new NettyServer(this);
     }
 
@@ -46,5 +438,67 @@ final class NettyServerBuilder extends ServerBuilder<NettyServerBuilder> {
         if (numberOfWorkers <= 0) {
             throw new IllegalArgumentException("Number of workers must be greater than zero");
         }
+        if (acceptors <= 0) {
+            throw new IllegalArgumentException("Number of acceptors must be greater than zero");
+        }
+        if (backlog < 0) {
+            throw new IllegalArgumentException("Backlog must not be negative");
+        }
+        if (tcpFastOpen < 0) {
+            throw new IllegalArgumentException("TCP fast open queue length must not be negative");
+        }
+        if (receiveBufferSize < 0 || sendBufferSize < 0) {
+            throw new IllegalArgumentException("Socket buffer sizes must not be negative");
+        }
+        if (maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("Max concurrent requests must not be negative");
+        }
+        if (idleTimeout == null || idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("Idle timeout must not be negative");
+        }
+        if (readTimeout == null || readTimeout.isNegative()) {
+            throw new IllegalArgumentException("Read timeout must not be negative");
+        }
+        if (shutdownTimeout == null || shutdownTimeout.isNegative()) {
+            throw new IllegalArgumentException("Shutdown timeout must not be negative");
+        }
+        if (compressionThreshold < 0) {
+            throw new IllegalArgumentException("Compression threshold must not be negative");
+        }
+        if (maxDecompressedRequestSize <= 0) {
+            throw new IllegalArgumentException("Max decompressed request size must be greater than zero");
+        }
+        if (maxRequestsPerConnection < 0) {
+            throw new IllegalArgumentException("Max requests per connection must not be negative");
+        }
+        if (http2MaxConcurrentStreams <= 0) {
+            throw new IllegalArgumentException("HTTP/2 max concurrent streams must be greater than zero");
+        }
+        if (http2InitialStreamWindowSize <= 0) {
+            throw new IllegalArgumentException("HTTP/2 initial stream window size must be greater than zero");
+        }
+        if (http2ConnectionWindowSize <= 0) {
+            throw new IllegalArgumentException("HTTP/2 connection window size must be greater than zero");
+        }
+    }
+
+    /**
+     * Strategies for allocating connection buffers.
+     */
+    public enum BufferAllocator {
+        /**
+         * Pooled buffers with size classes tuned up front. Fast, at the cost of memory retained per thread.
+         */
+        POOLED,
+
+        /**
+         * Pooled buffers whose size classes adapt to the observed allocation sizes.
+         */
+        ADAPTIVE,
+
+        /**
+         * A fresh buffer for every allocation. Uses the least memory when idle, at the cost of more garbage.
+         */
+        UNPOOLED
     }
 }
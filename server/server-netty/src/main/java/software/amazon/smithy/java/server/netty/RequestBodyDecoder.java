@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Decodes a buffered request body sent with a {@code Content-Encoding}, up to a maximum decoded size.
+ *
+ * <p>This is only used for request bodies that are buffered before they are dispatched. Streamed bodies, including
+ * event streams, are passed on as received, since their Content-Encoding describes the payload itself.
+ *
+ * <p>Not thread-safe; used from the channel's event loop only.
+ */
+final class RequestBodyDecoder implements AutoCloseable {
+
+    private final EmbeddedChannel decoder;
+    private final long maxDecodedBytes;
+    private long decodedBytes;
+
+    private RequestBodyDecoder(ZlibWrapper wrapper, long maxDecodedBytes) {
+        this.decoder = new EmbeddedChannel(ZlibCodecFactory.newZlibDecoder(wrapper, 0));
+        this.maxDecodedBytes = maxDecodedBytes;
+    }
+
+    /**
+     * Creates a decoder for the given content coding.
+     *
+     * @param contentEncoding  value of the Content-Encoding header, may be null
+     * @param maxDecodedBytes  maximum size of the decoded body
+     * @return the decoder, or null if the coding is absent or not supported.
+     */
+    static RequestBodyDecoder forEncoding(String contentEncoding, long maxDecodedBytes) {
+        if (contentEncoding == null) {
+            return null;
+        }
+        return switch (contentEncoding.trim().toLowerCase(Locale.ROOT)) {
+            case "gzip", "x-gzip" -> new RequestBodyDecoder(ZlibWrapper.GZIP, maxDecodedBytes);
+            // Some clients send raw deflate data instead of the zlib format HTTP specifies.
+            case "deflate", "x-deflate" -> new RequestBodyDecoder(ZlibWrapper.ZLIB_OR_NONE, maxDecodedBytes);
+            default -> null;
+        };
+    }
+
+    /**
+     * Decodes a chunk of the body into {@code out}.
+     *
+     * <p>Ownership of {@code content} is transferred to this decoder. Throws
+     * {@link io.netty.handler.codec.compression.DecompressionException} if the data is corrupt.
+     *
+     * @param content  encoded chunk
+     * @param out      where decoded bytes are written
+     * @return false once the decoded body exceeds the maximum size.
+     */
+    boolean decode(ByteBuf content, OutputStream out) throws IOException {
+        decoder.writeInbound(content);
+        return drain(out);
+    }
+
+    /**
+     * Decodes whatever the decoder still holds once the whole body was received.
+     *
+     * @param out where decoded bytes are written
+     * @return false if the decoded body exceeds the maximum size.
+     */
+    boolean finish(OutputStream out) throws IOException {
+        decoder.finish();
+        return drain(out);
+    }
+
+    private boolean drain(OutputStream out) throws IOException {
+        ByteBuf decoded;
+        while ((decoded = decoder.readInbound()) != null) {
+            try {
+                decodedBytes += decoded.readableBytes();
+                if (decodedBytes > maxDecodedBytes) {
+                    return false;
+                }
+                decoded.readBytes(out, decoded.readableBytes());
+            } finally {
+                decoded.release();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        decoder.finishAndReleaseAll();
+    }
+}
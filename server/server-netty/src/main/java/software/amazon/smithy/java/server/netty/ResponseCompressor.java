@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpObject;
+import io.netty.handler.codec.http.HttpResponse;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compresses responses with gzip or deflate as negotiated through the request's {@code accept-encoding}.
+ *
+ * <p>Compression is streamed: each chunk is deflated into the outgoing buffer as it's written. Responses that
+ * already carry a {@code content-encoding}, and responses of operations opted out of compression, pass through
+ * untouched.
+ */
+final class ResponseCompressor extends HttpContentCompressor {
+
+    private final Set<String> uncompressedOperations;
+    private boolean skipNext;
+    private boolean skipCurrent;
+
+    ResponseCompressor(CompressionSettings settings) {
+        super(settings.minResponseSize(), StandardCompressionOptions.gzip(), StandardCompressionOptions.deflate());
+        this.uncompressedOperations = settings.uncompressedOperations();
+    }
+
+    /**
+     * Called before writing the response of an operation.
+     *
+     * @param operationName name of the operation the next response belongs to.
+     * @return whether the response may be compressed.
+     */
+    boolean beforeResponse(String operationName) {
+        skipNext = uncompressedOperations.contains(operationName);
+        return !skipNext;
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, HttpObject msg, List<Object> out) throws Exception {
+        if (msg instanceof HttpResponse) {
+            // Responses not announced through beforeResponse (e.g. errors written by the transport) are eligible.
+            skipCurrent = skipNext;
+            skipNext = false;
+        }
+        super.encode(ctx, msg, out);
+    }
+
+    @Override
+    protected Result beginEncode(HttpResponse response, String acceptEncoding) throws Exception {
+        if (skipCurrent) {
+            return null;
+        }
+        return super.beginEncode(response, acceptEncoding);
+    }
+}
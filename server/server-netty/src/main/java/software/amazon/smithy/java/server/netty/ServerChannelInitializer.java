@@ -6,9 +6,24 @@
 package software.amazon.smithy.java.server.netty;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.group.ChannelGroup;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.handler.timeout.IdleStateHandler;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import software.amazon.smithy.java.server.AdmissionController;
+import software.amazon.smithy.java.server.OperationPriority;
 import software.amazon.smithy.java.server.core.OrchestratorGroup;
 import software.amazon.smithy.java.server.core.ProtocolResolver;
 
@@ -16,21 +31,162 @@ final class ServerChannelInitializer extends ChannelInitializer<Channel> {
 
     private final OrchestratorGroup orchestratorGroup;
     private final ProtocolResolver protocolResolver;
+    private final boolean streamRequestBodies;
+    private final SslContext sslContext;
+    private final Http2Settings http2Settings;
+    private final int http2ConnectionWindowSize;
+    private final AdmissionController admissionController;
+    private final Map<String, OperationPriority> operationPriorities;
+    private final KeepAliveSettings keepAlive;
+    private final CompressionSettings compression;
+    private final long maxDecodedRequestBytes;
+    private final EventStreamWriters eventStreamWriters;
+    private final ChannelGroup connections;
 
-    public ServerChannelInitializer(OrchestratorGroup selector, ProtocolResolver protocolResolver) {
+    /**
+     * @param selector                   orchestrators to spread requests (or HTTP/2 streams) across
+     * @param protocolResolver           resolves the operation and protocol of each request
+     * @param streamRequestBodies        whether to stream bodies of operations with streaming input
+     * @param sslContext                 TLS context, or null for plaintext connections
+     * @param http2Settings              settings advertised to HTTP/2 clients, or null to disable HTTP/2
+     * @param http2ConnectionWindowSize  connection-level HTTP/2 flow-control window
+     * @param admissionController        decides whether to take on each request, or null to admit all
+     * @param operationPriorities        admission priority of operations by name
+     * @param keepAlive                  idle timeouts and connection reuse limits
+     * @param compression                response compression options, or null to never compress responses
+     * @param maxDecodedRequestBytes     maximum decoded size of buffered request bodies sent with a
+     *                                   Content-Encoding, or 0 to leave them encoded
+     * @param eventStreamWriters         runs the writers of event stream responses
+     * @param connections                group every accepted connection is added to, or null to not track them
+     */
+    ServerChannelInitializer(
+            OrchestratorGroup selector,
+            ProtocolResolver protocolResolver,
+            boolean streamRequestBodies,
+            SslContext sslContext,
+            Http2Settings http2Settings,
+            int http2ConnectionWindowSize,
+            AdmissionController admissionController,
+            Map<String, OperationPriority> operationPriorities,
+            KeepAliveSettings keepAlive,
+            CompressionSettings compression,
+            long maxDecodedRequestBytes,
+            EventStreamWriters eventStreamWriters,
+            ChannelGroup connections
+    ) {
         this.orchestratorGroup = selector;
         this.protocolResolver = protocolResolver;
+        this.streamRequestBodies = streamRequestBodies;
+        this.sslContext = sslContext;
+        this.http2Settings = http2Settings;
+        this.http2ConnectionWindowSize = http2ConnectionWindowSize;
+        this.admissionController = admissionController;
+        this.operationPriorities = operationPriorities;
+        this.keepAlive = keepAlive;
+        this.compression = compression;
+        this.maxDecodedRequestBytes = maxDecodedRequestBytes;
+        this.eventStreamWriters = eventStreamWriters;
+        this.connections = connections;
     }
 
     @Override
     protected void initChannel(Channel channel) throws Exception {
+        if (connections != null) {
+            // Closed connections are removed from the group automatically.
+            connections.add(channel);
+        }
         ChannelPipeline pipeline = channel.pipeline();
-        configureHttp1Pipeline(pipeline);
-        pipeline.addLast(new HttpRequestHandler(orchestratorGroup.next(), protocolResolver));
+        if (sslContext != null) {
+            pipeline.addLast("ssl", sslContext.newHandler(channel.alloc()));
+            if (http2Settings != null) {
+                // Let ALPN pick between h2 and http/1.1.
+                pipeline.addLast("alpn", new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                    @Override
+                    protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                        if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                            configureHttp2Pipeline(ctx.pipeline());
+                        } else {
+                            configureHttp1Pipeline(ctx.pipeline());
+                        }
+                    }
+
+                    @Override
+                    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+                        if (evt == DrainEvent.INSTANCE) {
+                            // The handshake hasn't finished, so no request was received yet.
+                            ctx.close();
+                            return;
+                        }
+                        super.userEventTriggered(ctx, evt);
+                    }
+                });
+            } else {
+                configureHttp1Pipeline(pipeline);
+            }
+        } else if (http2Settings != null) {
+            // Cleartext: a client that speaks h2c with prior knowledge starts with the connection preface.
+            pipeline.addLast("h2cDetector", new Http2PriorKnowledgeDetector(this));
+        } else {
+            configureHttp1Pipeline(pipeline);
+        }
         pipeline.read();
     }
 
-    private void configureHttp1Pipeline(ChannelPipeline pipeline) {
+    void configureHttp1Pipeline(ChannelPipeline pipeline) {
+        if (keepAlive.idleTimeoutMillis() > 0 || keepAlive.readTimeoutMillis() > 0) {
+            pipeline.addLast("idle", new IdleStateHandler(
+                    keepAlive.readTimeoutMillis(),
+                    0,
+                    keepAlive.idleTimeoutMillis(),
+                    TimeUnit.MILLISECONDS));
+        }
         pipeline.addLast("http1Codec", new HttpServerCodec());
+        addResponseCompression(pipeline);
+        pipeline.addLast("chunkedWriter", new ChunkedWriteHandler());
+        pipeline.addLast(newRequestHandler());
+    }
+
+    void configureHttp2Pipeline(ChannelPipeline pipeline) {
+        if (keepAlive.idleTimeoutMillis() > 0) {
+            pipeline.addLast("idle", new IdleStateHandler(0, 0, keepAlive.idleTimeoutMillis(), TimeUnit.MILLISECONDS));
+        }
+        pipeline.addLast("http2Codec", Http2FrameCodecBuilder.forServer().initialSettings(http2Settings).build());
+        // Each stream gets its own child channel, translated to HTTP objects so the HTTP/1.1 request handling
+        // is reused as-is, and its own orchestrator so streams of one connection are processed concurrently.
+        pipeline.addLast("http2Multiplexer", new Http2MultiplexHandler(new ChannelInitializer<>() {
+            @Override
+            protected void initChannel(Channel stream) {
+                if (keepAlive.readTimeoutMillis() > 0) {
+                    // Times out a stalled request body on this stream only; the stream is reset, not the connection.
+                    stream.pipeline()
+                            .addLast(new IdleStateHandler(keepAlive.readTimeoutMillis(), 0, 0, TimeUnit.MILLISECONDS));
+                }
+                stream.pipeline().addLast(new Http2StreamFrameToHttpObjectCodec(true));
+                addResponseCompression(stream.pipeline());
+                stream.pipeline()
+                        .addLast(new ChunkedWriteHandler())
+                        .addLast(newRequestHandler());
+            }
+        }));
+        pipeline.addLast("http2Connection", new Http2ConnectionFrameHandler(http2ConnectionWindowSize));
+    }
+
+    private void addResponseCompression(ChannelPipeline pipeline) {
+        // Request bodies are decoded by HttpRequestHandler, which knows whether the operation streams its input.
+        if (compression != null) {
+            pipeline.addLast("compressor", new ResponseCompressor(compression));
+        }
+    }
+
+    private HttpRequestHandler newRequestHandler() {
+        return new HttpRequestHandler(
+                orchestratorGroup.next(),
+                protocolResolver,
+                streamRequestBodies,
+                admissionController,
+                operationPriorities,
+                keepAlive.maxRequestsPerConnection(),
+                maxDecodedRequestBytes,
+                eventStreamWriters);
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class ByteBufResponseBufferTest {
+
+    @Test
+    public void handsOffWrittenBytes() {
+        var buffer = new ByteBufResponseBuffer(UnpooledByteBufAllocator.DEFAULT);
+        buffer.write("hello".getBytes(StandardCharsets.UTF_8), 0, 5);
+        buffer.write('!');
+        var stream = buffer.toDataStream("text/plain");
+        buffer.close();
+
+        assertThat(stream, instanceOf(ByteBufDataStream.class));
+        assertThat(stream.contentLength(), equalTo(6L));
+        assertThat(stream.contentType(), equalTo("text/plain"));
+        assertThat(StandardCharsets.UTF_8.decode(stream.asByteBuffer()).toString(), equalTo("hello!"));
+
+        var buf = ((ByteBufDataStream) stream).takeBuffer();
+        assertThat(buf.refCnt(), equalTo(1));
+        stream.close();
+        assertThat(buf.refCnt(), equalTo(1));
+        buf.release();
+    }
+
+    @Test
+    public void releasesBufferWhenNotTaken() {
+        var buf = UnpooledByteBufAllocator.DEFAULT.ioBuffer();
+        buf.writeByte(1);
+        var stream = new ByteBufDataStream(buf, null);
+        stream.close();
+
+        assertThat(buf.refCnt(), equalTo(0));
+        assertThat(stream.isAvailable(), equalTo(false));
+    }
+}
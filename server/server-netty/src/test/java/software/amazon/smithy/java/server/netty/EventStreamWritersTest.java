@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class EventStreamWritersTest {
+
+    @Test
+    public void drainWaitsForRunningWriters() throws Exception {
+        var writers = new EventStreamWriters(0);
+        var release = new CountDownLatch(1);
+        writers.start(() -> await(release));
+
+        var drained = writers.drain();
+        assertThat(drained.isDone(), equalTo(false));
+        assertThat(writers.active(), equalTo(1));
+
+        release.countDown();
+        drained.get(5, TimeUnit.SECONDS);
+        assertThat(writers.active(), equalTo(0));
+    }
+
+    @Test
+    public void boundsConcurrentWriters() throws Exception {
+        var writers = new EventStreamWriters(2);
+        var release = new CountDownLatch(1);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var finished = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            writers.start(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                await(release);
+                running.decrementAndGet();
+                finished.countDown();
+            });
+        }
+
+        Thread.sleep(100);
+        assertThat(maxRunning.get(), equalTo(2));
+        release.countDown();
+        finished.await(5, TimeUnit.SECONDS);
+        assertThat(maxRunning.get(), equalTo(2));
+    }
+
+    @Test
+    public void rejectsWritersAfterShutdown() {
+        var writers = new EventStreamWriters(0);
+        writers.shutdownNow();
+
+        assertThrows(RejectedExecutionException.class, () -> writers.start(() -> {}));
+        assertThat(writers.active(), equalTo(0));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpContent;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+public class NettyEventStreamOutputTest {
+
+    @Test
+    public void writesOneChunkPerFlush() throws IOException {
+        var channel = new EmbeddedChannel();
+        var output = new NettyEventStreamOutput(channel);
+
+        output.write(bytes("hello "));
+        output.write(bytes("world"));
+        output.flush();
+        output.write(bytes("!"));
+        output.flush();
+
+        assertThat(readChunk(channel), equalTo("hello world"));
+        assertThat(readChunk(channel), equalTo("!"));
+        assertThat(channel.readOutbound(), nullValue());
+    }
+
+    @Test
+    public void flushBlocksUntilChannelIsWritable() throws Exception {
+        var channel = new EmbeddedChannel();
+        var output = new NettyEventStreamOutput(channel);
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+
+        var flushed = flushAsync(output);
+        assertTimesOut(flushed);
+
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        output.writabilityChanged();
+        flushed.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void flushFailsWhenChannelCloses() throws Exception {
+        var channel = new EmbeddedChannel();
+        var output = new NettyEventStreamOutput(channel);
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+
+        var flushed = flushAsync(output);
+        assertTimesOut(flushed);
+
+        channel.close();
+        try {
+            flushed.get(5, TimeUnit.SECONDS);
+            throw new AssertionError("Expected the flush to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(IOException.class));
+        }
+    }
+
+    private static CompletableFuture<Void> flushAsync(NettyEventStreamOutput output) {
+        var result = new CompletableFuture<Void>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                output.flush();
+                result.complete(null);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private static void assertTimesOut(CompletableFuture<Void> future) throws Exception {
+        try {
+            future.get(100, TimeUnit.MILLISECONDS);
+            throw new AssertionError("Expected the flush to block");
+        } catch (TimeoutException e) {
+            assertThat(future.isDone(), is(false));
+        }
+    }
+
+    private static String readChunk(EmbeddedChannel channel) {
+        HttpContent content = channel.readOutbound();
+        try {
+            return content.content().toString(StandardCharsets.UTF_8);
+        } finally {
+            content.release();
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import org.junit.jupiter.api.Test;
+
+public class NettyRequestBodyPublisherTest {
+
+    @Test
+    public void publishesChunksAccordingToDemand() {
+        var channel = new EmbeddedChannel();
+        var publisher = new NettyRequestBodyPublisher(channel, 1024);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.offer(buf("hello "));
+        publisher.offer(buf("world"));
+        assertThat(subscriber.received.size(), equalTo(0));
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.body(), equalTo("hello "));
+
+        publisher.complete();
+        assertThat(subscriber.completed, is(false));
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.body(), equalTo("hello world"));
+        assertThat(subscriber.completed, is(true));
+    }
+
+    @Test
+    public void pausesReadsWhenBufferIsFull() {
+        var channel = new EmbeddedChannel();
+        var publisher = new NettyRequestBodyPublisher(channel, 4);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        publisher.offer(buf("abcdef"));
+        assertThat(channel.config().isAutoRead(), is(false));
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.body(), equalTo("abcdef"));
+        assertThat(channel.config().isAutoRead(), is(true));
+    }
+
+    @Test
+    public void releasesBuffersOnDiscard() {
+        var channel = new EmbeddedChannel();
+        var publisher = new NettyRequestBodyPublisher(channel, 4);
+        var first = buf("abcdef");
+        publisher.offer(first);
+        publisher.discard();
+        var second = buf("ghi");
+        publisher.offer(second);
+
+        assertThat(first.refCnt(), equalTo(0));
+        assertThat(second.refCnt(), equalTo(0));
+        assertThat(channel.config().isAutoRead(), is(true));
+    }
+
+    @Test
+    public void propagatesFailures() {
+        var channel = new EmbeddedChannel();
+        var publisher = new NettyRequestBodyPublisher(channel, 1024);
+        var subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        publisher.offer(buf("abc"));
+        publisher.fail(new IOException("closed"));
+
+        assertThat(subscriber.error, instanceOf(IOException.class));
+    }
+
+    private static ByteBuf buf(String value) {
+        return Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+        private final List<ByteBuffer> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        String body() {
+            var builder = new StringBuilder();
+            for (var buffer : received) {
+                builder.append(StandardCharsets.UTF_8.decode(buffer.duplicate()));
+            }
+            return builder.toString();
+        }
+    }
+}
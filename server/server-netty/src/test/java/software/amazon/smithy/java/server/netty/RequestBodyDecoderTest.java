@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.compression.DecompressionException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+
+public class RequestBodyDecoderTest {
+
+    private static final String BODY = "{\"items\":[" + "\"item\",".repeat(1000) + "\"item\"]}";
+
+    @Test
+    public void decodesGzipInChunks() throws Exception {
+        var encoded = gzip(BODY);
+        var out = new ByteArrayOutputStream();
+
+        try (var decoder = RequestBodyDecoder.forEncoding("GZIP", 1024 * 1024)) {
+            int half = encoded.length / 2;
+            assertThat(decoder.decode(Unpooled.wrappedBuffer(encoded, 0, half), out), is(true));
+            assertThat(decoder.decode(Unpooled.wrappedBuffer(encoded, half, encoded.length - half), out), is(true));
+            assertThat(decoder.finish(out), is(true));
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8), equalTo(BODY));
+    }
+
+    @Test
+    public void decodesDeflate() throws Exception {
+        var out = new ByteArrayOutputStream();
+
+        try (var decoder = RequestBodyDecoder.forEncoding("deflate", 1024 * 1024)) {
+            assertThat(decoder.decode(Unpooled.wrappedBuffer(deflate(BODY)), out), is(true));
+            assertThat(decoder.finish(out), is(true));
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8), equalTo(BODY));
+    }
+
+    @Test
+    public void stopsOnceOverTheLimit() throws Exception {
+        var bomb = gzip("0".repeat(10 * 1024 * 1024));
+        var out = new ByteArrayOutputStream();
+
+        try (var decoder = RequestBodyDecoder.forEncoding("gzip", 64 * 1024)) {
+            assertThat(decoder.decode(Unpooled.wrappedBuffer(bomb), out) && decoder.finish(out), is(false));
+        }
+
+        assertThat(out.size() <= 64 * 1024, is(true));
+    }
+
+    @Test
+    public void failsOnCorruptData() throws Exception {
+        var out = new ByteArrayOutputStream();
+
+        try (var decoder = RequestBodyDecoder.forEncoding("gzip", 1024 * 1024)) {
+            var notGzip = Unpooled.wrappedBuffer("not gzip data".getBytes(StandardCharsets.UTF_8));
+            assertThrows(DecompressionException.class, () -> decoder.decode(notGzip, out));
+        }
+    }
+
+    @Test
+    public void ignoresUnsupportedEncodings() {
+        assertThat(RequestBodyDecoder.forEncoding(null, 1024), nullValue());
+        assertThat(RequestBodyDecoder.forEncoding("br", 1024), nullValue());
+        assertThat(RequestBodyDecoder.forEncoding("gzip, br", 1024), nullValue());
+        try (var decoder = RequestBodyDecoder.forEncoding("x-gzip", 1024)) {
+            assertThat(decoder, notNullValue());
+        }
+    }
+
+    private static byte[] gzip(String data) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(data.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(String data) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var deflate = new DeflaterOutputStream(out)) {
+            deflate.write(data.getBytes(StandardCharsets.UTF_8));
+        }
+        return out.toByteArray();
+    }
+}
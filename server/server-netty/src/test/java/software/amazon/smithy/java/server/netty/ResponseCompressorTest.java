@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class ResponseCompressorTest {
+
+    @Test
+    public void compressesLargeResponses() {
+        var compressor = new ResponseCompressor(new CompressionSettings(1024, Set.of()));
+        var channel = new EmbeddedChannel(compressor);
+
+        assertThat(roundTrip(channel, compressor, "ListThings", 4096), equalTo("gzip"));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void skipsSmallResponses() {
+        var compressor = new ResponseCompressor(new CompressionSettings(1024, Set.of()));
+        var channel = new EmbeddedChannel(compressor);
+
+        assertThat(roundTrip(channel, compressor, "ListThings", 100), nullValue());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void skipsOptedOutOperationsOnly() {
+        var compressor = new ResponseCompressor(new CompressionSettings(0, Set.of("GetArchive")));
+        var channel = new EmbeddedChannel(compressor);
+
+        assertThat(roundTrip(channel, compressor, "GetArchive", 4096), nullValue());
+        assertThat(roundTrip(channel, compressor, "ListThings", 4096), equalTo("gzip"));
+        channel.finishAndReleaseAll();
+    }
+
+    private static String roundTrip(
+            EmbeddedChannel channel,
+            ResponseCompressor compressor,
+            String operation,
+            int size
+    ) {
+        var request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/");
+        request.headers().set("accept-encoding", "gzip, deflate");
+        channel.writeInbound(request);
+        ReferenceCountUtil.release(channel.readInbound());
+
+        compressor.beforeResponse(operation);
+        var response = new DefaultFullHttpResponse(
+                HttpVersion.HTTP_1_1,
+                HttpResponseStatus.OK,
+                Unpooled.wrappedBuffer(new byte[size]));
+        response.headers().set("content-length", size);
+        channel.writeOutbound(response);
+
+        HttpResponse head = channel.readOutbound();
+        String encoding = head.headers().get("content-encoding");
+        ReferenceCountUtil.release(head);
+        Object written;
+        while ((written = channel.readOutbound()) != null) {
+            ReferenceCountUtil.release(written);
+        }
+        return encoding;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.netty;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.util.ReferenceCountUtil;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.server.core.OrchestratorGroup;
+import software.amazon.smithy.java.server.core.ProtocolResolver;
+import software.amazon.smithy.java.server.core.ServiceMatcher;
+import software.amazon.smithy.java.server.core.SingleThreadOrchestrator;
+
+public class ServerChannelInitializerTest {
+
+    @Test
+    public void detectsPriorKnowledgeHttp2() {
+        var channel = new EmbeddedChannel(initializer(Http2Settings.defaultSettings()));
+        channel.writeInbound(Http2CodecUtil.connectionPrefaceBuf());
+
+        assertThat(channel.pipeline().get("http2Codec"), notNullValue());
+        assertThat(channel.pipeline().get("http1Codec"), nullValue());
+        assertThat(channel.pipeline().get("h2cDetector"), nullValue());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void fallsBackToHttp1() {
+        var channel = new EmbeddedChannel(initializer(Http2Settings.defaultSettings()));
+        channel.writeInbound(Unpooled.copiedBuffer("PUT", StandardCharsets.US_ASCII));
+
+        assertThat(channel.pipeline().get("http1Codec"), notNullValue());
+        assertThat(channel.pipeline().get("http2Codec"), nullValue());
+        assertThat(channel.pipeline().get("h2cDetector"), nullValue());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void waitsForEnoughBytesToDecide() {
+        var channel = new EmbeddedChannel(initializer(Http2Settings.defaultSettings()));
+        channel.writeInbound(Unpooled.copiedBuffer("PRI", StandardCharsets.US_ASCII));
+
+        assertThat(channel.pipeline().get("h2cDetector"), notNullValue());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void usesHttp1WhenHttp2IsDisabled() {
+        var channel = new EmbeddedChannel(initializer(null));
+
+        assertThat(channel.pipeline().get("http1Codec"), notNullValue());
+        assertThat(channel.pipeline().get("h2cDetector"), nullValue());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void closesIdleHttp1Connection() {
+        var channel = new EmbeddedChannel(initializer(null, new KeepAliveSettings(60_000, 30_000, 0)));
+
+        assertThat(channel.pipeline().get("idle"), notNullValue());
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.ALL_IDLE_STATE_EVENT);
+        assertThat(channel.isOpen(), equalTo(false));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void ignoresReadTimeoutBetweenRequests() {
+        var channel = new EmbeddedChannel(initializer(null, new KeepAliveSettings(60_000, 30_000, 0)));
+
+        channel.pipeline().fireUserEventTriggered(IdleStateEvent.READER_IDLE_STATE_EVENT);
+        assertThat(channel.isOpen(), equalTo(true));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void ignoresRequestsPipelinedAfterClosingResponse() {
+        var channel = new EmbeddedChannel(initializer(null));
+        channel.writeInbound(Unpooled.copiedBuffer(
+                "GET /a HTTP/1.1\r\nhost: localhost\r\n\r\nGET /b HTTP/1.1\r\nhost: localhost\r\n\r\n",
+                StandardCharsets.US_ASCII));
+
+        var response = new StringBuilder();
+        ByteBuf written;
+        while ((written = channel.readOutbound()) != null) {
+            response.append(written.toString(StandardCharsets.US_ASCII));
+            written.release();
+        }
+        assertThat(response.toString(), containsString("404 Not Found"));
+        assertThat(response.toString(), containsString("connection: close"));
+        assertThat(response.indexOf("HTTP/1.1", 1), equalTo(-1));
+        assertThat(channel.isOpen(), equalTo(false));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void rejectsMalformedRequestTarget() {
+        var channel = new EmbeddedChannel(initializer(null));
+        channel.writeInbound(Unpooled.copiedBuffer(
+                "GET /a%zz HTTP/1.1\r\nhost: localhost\r\n\r\n",
+                StandardCharsets.US_ASCII));
+
+        ByteBuf written = channel.readOutbound();
+        assertThat(written.toString(StandardCharsets.US_ASCII), containsString("400 Bad Request"));
+        written.release();
+        assertThat(channel.isOpen(), equalTo(false));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void drainClosesIdleHttp1Connection() {
+        var channel = new EmbeddedChannel(initializer(null));
+
+        channel.pipeline().fireUserEventTriggered(DrainEvent.INSTANCE);
+        assertThat(channel.isOpen(), equalTo(false));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void drainClosesUndecidedConnection() {
+        var channel = new EmbeddedChannel(initializer(Http2Settings.defaultSettings()));
+
+        channel.pipeline().fireUserEventTriggered(DrainEvent.INSTANCE);
+        assertThat(channel.isOpen(), equalTo(false));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void drainClosesConnectionDuringTlsHandshake() throws Exception {
+        // A client context is enough to put the handshake and ALPN stages in place.
+        var sslContext = SslContextBuilder.forClient().build();
+        var channel = new EmbeddedChannel(initializer(sslContext, Http2Settings.defaultSettings()));
+        releaseOutbound(channel);
+        assertThat(channel.pipeline().get("alpn"), notNullValue());
+
+        channel.pipeline().fireUserEventTriggered(DrainEvent.INSTANCE);
+        assertThat(channel.isOpen(), equalTo(false));
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void drainSendsGoAwayOnHttp2Connection() {
+        var channel = new EmbeddedChannel(initializer(Http2Settings.defaultSettings()));
+        channel.writeInbound(Http2CodecUtil.connectionPrefaceBuf());
+        releaseOutbound(channel);
+
+        channel.pipeline().fireUserEventTriggered(DrainEvent.INSTANCE);
+        var written = Unpooled.buffer();
+        ByteBuf buf;
+        while ((buf = channel.readOutbound()) != null) {
+            written.writeBytes(buf);
+            buf.release();
+        }
+        List<Byte> frameTypes = new ArrayList<>();
+        while (written.readableBytes() >= 9) {
+            int length = written.readUnsignedMedium();
+            frameTypes.add(written.readByte());
+            written.skipBytes(5 + length);
+        }
+        written.release();
+        assertThat(frameTypes, hasItem((byte) 0x7));
+        assertThat(channel.isOpen(), equalTo(false));
+        channel.finishAndReleaseAll();
+    }
+
+    private static void releaseOutbound(EmbeddedChannel channel) {
+        Object written;
+        while ((written = channel.readOutbound()) != null) {
+            ReferenceCountUtil.release(written);
+        }
+    }
+
+    private static ServerChannelInitializer initializer(Http2Settings http2Settings) {
+        return initializer(http2Settings, KeepAliveSettings.DISABLED);
+    }
+
+    private static ServerChannelInitializer initializer(Http2Settings http2Settings, KeepAliveSettings keepAlive) {
+        return initializer(null, http2Settings, keepAlive);
+    }
+
+    private static ServerChannelInitializer initializer(SslContext sslContext, Http2Settings http2Settings) {
+        return initializer(sslContext, http2Settings, KeepAliveSettings.DISABLED);
+    }
+
+    private static ServerChannelInitializer initializer(
+            SslContext sslContext,
+            Http2Settings http2Settings,
+            KeepAliveSettings keepAlive
+    ) {
+        return new ServerChannelInitializer(
+                new OrchestratorGroup(
+                        1,
+                        () -> new SingleThreadOrchestrator(List.of()),
+                        OrchestratorGroup.Strategy.roundRobin()),
+                new ProtocolResolver(new ServiceMatcher(List.of())),
+                false,
+                sslContext,
+                http2Settings,
+                Http2CodecUtil.DEFAULT_WINDOW_SIZE,
+                null,
+                Map.of(),
+                keepAlive,
+                null,
+                0,
+                new EventStreamWriters(0),
+                null);
+    }
+}
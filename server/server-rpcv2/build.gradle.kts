@@ -10,4 +10,7 @@ extra["moduleName"] = "software.amazon.smithy.java.server.rpcv2"
 dependencies {
     api(project(":server:server-api"))
     api(project(":server:server-core"))
+    api(project(":aws:aws-event-streams"))
+
+    testImplementation(testFixtures(project(":server:server-core")))
 }
@@ -5,16 +5,28 @@
 
 package software.amazon.smithy.java.server.rpcv2;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import software.amazon.smithy.java.aws.events.AwsEventDecoderFactory;
+import software.amazon.smithy.java.aws.events.AwsEventEncoderFactory;
+import software.amazon.smithy.java.aws.events.RpcEventStreamsUtil;
 import software.amazon.smithy.java.core.error.ModeledException;
+import software.amazon.smithy.java.core.schema.ApiOperation;
 import software.amazon.smithy.java.core.schema.SerializableStruct;
 import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.core.serde.event.EventStreamingException;
+import software.amazon.smithy.java.core.serde.event.ProtocolEventStreamWriter;
 import software.amazon.smithy.java.framework.model.MalformedRequestException;
 import software.amazon.smithy.java.framework.model.UnknownOperationException;
-import software.amazon.smithy.java.io.ByteBufferOutputStream;
+import software.amazon.smithy.java.http.api.HttpHeaders;
 import software.amazon.smithy.java.io.datastream.DataStream;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+import software.amazon.smithy.java.server.Operation;
 import software.amazon.smithy.java.server.Service;
+import software.amazon.smithy.java.server.core.HttpRequest;
 import software.amazon.smithy.java.server.core.Job;
 import software.amazon.smithy.java.server.core.ServerProtocol;
 import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
@@ -33,12 +45,14 @@ import software.amazon.smithy.utils.SmithyInternalApi;
 public abstract class AbstractRpcV2ServerProtocol extends ServerProtocol {
 
     private static final String SMITHY_PROTOCOL_PREFIX = "rpc-v2-";
+    private static final String EVENT_STREAM_MEDIA_TYPE = "application/vnd.amazon.eventstream";
     // length of "application/"
     private static final int MEDIA_TYPE_PREFIX_LENGTH = 12;
 
     private final String payloadMediaType;
     private final String smithyProtocolValue;
     private final boolean allowFullyQualifiedService;
+    private final Map<String, ServiceProtocolResolutionResult> operationsByPath;
 
     /**
      * @param services         the list of services this protocol handles
@@ -63,6 +77,25 @@ public abstract class AbstractRpcV2ServerProtocol extends ServerProtocol {
         this.smithyProtocolValue = SMITHY_PROTOCOL_PREFIX
                 + payloadMediaType.substring(MEDIA_TYPE_PREFIX_LENGTH);
         this.allowFullyQualifiedService = allowFullyQualifiedService;
+        this.operationsByPath = indexOperations(services);
+    }
+
+    // Index the canonical "/service/{Name}/operation/{Operation}" paths so that the common case is resolved with a
+    // single lookup. Paths shared by more than one service are left out so the candidates decide between them.
+    private Map<String, ServiceProtocolResolutionResult> indexOperations(List<Service> services) {
+        Map<String, ServiceProtocolResolutionResult> index = new HashMap<>();
+        var ambiguous = new HashSet<String>();
+        for (Service service : services) {
+            for (var operation : service.getAllOperations()) {
+                var path = "/service/" + service.schema().id().getName() + "/operation/" + operation.name();
+                var result = new ServiceProtocolResolutionResult(service, operation, this);
+                if (index.putIfAbsent(path, result) != null) {
+                    ambiguous.add(path);
+                }
+            }
+        }
+        index.keySet().removeAll(ambiguous);
+        return index;
     }
 
     /** Returns the codec used for serialization and deserialization. */
@@ -77,6 +110,10 @@ public abstract class AbstractRpcV2ServerProtocol extends ServerProtocol {
             return null;
         }
         String path = request.uri().getPath();
+        var indexed = operationsByPath.get(path);
+        if (indexed != null && isCandidate(indexed.service(), candidates)) {
+            return indexed;
+        }
         var serviceAndOperation = parseRpcV2StylePath(path);
         if (!allowFullyQualifiedService && serviceAndOperation.isFullyQualifiedService()) {
             throw UnknownOperationException.builder().message("Invalid RpcV2 URI").build();
@@ -107,23 +144,53 @@ public abstract class AbstractRpcV2ServerProtocol extends ServerProtocol {
     @Override
     public CompletableFuture<Void> deserializeInput(Job job) {
         var dataStream = job.request().getDataStream();
+        var apiOperation = job.operation().getApiOperation();
+        if (apiOperation.inputEventBuilderSupplier() != null) {
+            if (!EVENT_STREAM_MEDIA_TYPE.equals(dataStream.contentType())) {
+                throw MalformedRequestException.builder().message("Invalid content type").build();
+            }
+            // Only the initial-request frame is awaited here; the remaining frames are decoded as the handler reads
+            // events, straight from the body chunks as they arrive.
+            var decoderFactory = AwsEventDecoderFactory.forInputStream(apiOperation, codec(), f -> f);
+            return RpcEventStreamsUtil.<SerializableStruct>deserializeInitialEvent(decoderFactory, dataStream)
+                    .thenAccept(input -> job.request().setDeserializedValue(input));
+        }
         if (dataStream.contentLength() > 0 && !payloadMediaType.equals(dataStream.contentType())) {
             throw MalformedRequestException.builder().message("Invalid content type").build();
         }
 
-        var input = codec().deserializeShape(dataStream.asByteBuffer(),
-                job.operation().getApiOperation().inputBuilder());
+        var decoder = codec().createDeserializer(dataStream.asByteBuffer());
+        var input = deserializeAndValidate(job, apiOperation.inputBuilder(), decoder);
         job.request().setDeserializedValue(input);
         return CompletableFuture.completedFuture(null);
     }
 
+    @Override
+    public HttpRequest createPrimingRequest(Operation<?, ?> operation, SerializableStruct input) {
+        var path = "/service/" + operation.getOwningService().schema().id().getName()
+                + "/operation/" + operation.name();
+        var headers = HttpHeaders.ofModifiable();
+        headers.setHeader("smithy-protocol", smithyProtocolValue);
+        headers.setHeader("content-type", payloadMediaType);
+        var request = new HttpRequest(headers, SmithyUri.of(null, null, -1, path, null), "POST");
+        request.setDataStream(DataStream.ofByteBuffer(codec().serialize(input), payloadMediaType));
+        return request;
+    }
+
     @Override
     protected CompletableFuture<Void> serializeOutput(Job job, SerializableStruct output, boolean isError) {
-        var sink = new ByteBufferOutputStream();
-        try (var serializer = codec().createSerializer(sink)) {
-            output.serialize(serializer);
+        var apiOperation = job.operation().getApiOperation();
+        if (!isError && apiOperation.outputEventBuilderSupplier() != null) {
+            serializeEventStream(job, apiOperation, output);
+            return CompletableFuture.completedFuture(null);
+        }
+        // Serialize straight into the transport's buffer; it is released here if serialization fails.
+        try (var sink = job.response().allocateBuffer()) {
+            try (var serializer = codec().createSerializer(sink)) {
+                output.serialize(serializer);
+            }
+            job.response().setSerializedValue(sink.toDataStream(payloadMediaType));
         }
-        job.response().setSerializedValue(DataStream.ofByteBuffer(sink.toByteBuffer(), payloadMediaType));
         var httpJob = job.asHttpJob();
         final int statusCode;
         if (isError) {
@@ -136,6 +203,31 @@ public abstract class AbstractRpcV2ServerProtocol extends ServerProtocol {
         return CompletableFuture.completedFuture(null);
     }
 
+    // The initial-response frame goes out first, then every event the handler writes is sent as its own frame.
+    private void serializeEventStream(Job job, ApiOperation<?, ?> apiOperation, SerializableStruct output) {
+        var encoderFactory = AwsEventEncoderFactory.forOutputStream(
+                apiOperation,
+                codec(),
+                payloadMediaType,
+                true,
+                e -> new EventStreamingException("InternalServerException", "Internal Server Error"));
+        var body = RpcEventStreamsUtil.bodyForEventStreaming(encoderFactory, output);
+        ProtocolEventStreamWriter.of(output.getMemberValue(apiOperation.outputStreamMember())).activate();
+        job.response().setSerializedValue(DataStream.withMetadata(body, EVENT_STREAM_MEDIA_TYPE, -1L));
+        var httpJob = job.asHttpJob();
+        httpJob.response().headers().setHeader("smithy-protocol", smithyProtocolValue);
+        httpJob.response().setStatusCode(200);
+    }
+
+    private static boolean isCandidate(Service service, List<Service> candidates) {
+        for (Service candidate : candidates) {
+            if (candidate == service) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean matchService(Service service, ServiceAndOperation serviceAndOperation) {
         var schema = service.schema();
         if (serviceAndOperation.isFullyQualifiedService()) {
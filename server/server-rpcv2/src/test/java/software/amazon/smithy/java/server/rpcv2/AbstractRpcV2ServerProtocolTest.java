@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package software.amazon.smithy.java.server.rpcv2;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.java.context.Context;
+import software.amazon.smithy.java.core.serde.Codec;
+import software.amazon.smithy.java.framework.model.UnknownOperationException;
+import software.amazon.smithy.java.http.api.HttpHeaders;
+import software.amazon.smithy.java.io.uri.SmithyUri;
+import software.amazon.smithy.java.server.Service;
+import software.amazon.smithy.java.server.core.ServiceProtocolResolutionRequest;
+import software.amazon.smithy.java.server.core.ServiceProtocolResolutionResult;
+import software.amazon.smithy.java.server.core.testing.TestService;
+import software.amazon.smithy.model.shapes.ShapeId;
+
+public class AbstractRpcV2ServerProtocolTest {
+
+    private static final TestService THINGS = new TestService("com.a#Things", "GetThing", "PutThing");
+    private static final TestService OTHER_THINGS = new TestService("com.b#Things", "GetThing");
+    private static final TestService WIDGETS = new TestService("com.a#Widgets", "GetWidget");
+
+    @Test
+    public void resolvesCanonicalPathsFromTheIndex() {
+        var protocol = new TestProtocol(List.of(THINGS, WIDGETS));
+        var candidates = List.<Service>of(THINGS, WIDGETS);
+
+        var first = resolve(protocol, "/service/Things/operation/GetThing", candidates);
+        var second = resolve(protocol, "/service/Things/operation/GetThing", candidates);
+
+        assertThat(first.operation(), sameInstance(THINGS.getOperation("GetThing")));
+        assertThat(first.service(), sameInstance(THINGS));
+        // Indexed paths hand out the same precomputed result.
+        assertThat(second, sameInstance(first));
+        assertThat(resolve(protocol, "/service/Widgets/operation/GetWidget", candidates).operation(),
+                sameInstance(WIDGETS.getOperation("GetWidget")));
+    }
+
+    @Test
+    public void ambiguousServiceNamesAreResolvedFromTheCandidates() {
+        var protocol = new TestProtocol(List.of(THINGS, OTHER_THINGS));
+
+        var fromOther = resolve(protocol, "/service/Things/operation/GetThing", List.of(OTHER_THINGS));
+        var fromThings = resolve(protocol, "/service/Things/operation/GetThing", List.of(THINGS));
+
+        assertThat(fromOther.operation(), sameInstance(OTHER_THINGS.getOperation("GetThing")));
+        assertThat(fromThings.operation(), sameInstance(THINGS.getOperation("GetThing")));
+    }
+
+    @Test
+    public void indexedServicesMustBeCandidates() {
+        var protocol = new TestProtocol(List.of(THINGS, WIDGETS));
+
+        assertThrows(UnknownOperationException.class,
+                () -> resolve(protocol, "/service/Things/operation/GetThing", List.of(WIDGETS)));
+    }
+
+    @Test
+    public void resolvesPrefixedPaths() {
+        var protocol = new TestProtocol(List.of(THINGS));
+
+        var result = resolve(protocol, "/v1/service/Things/operation/PutThing", List.of(THINGS));
+
+        assertThat(result.operation(), sameInstance(THINGS.getOperation("PutThing")));
+    }
+
+    @Test
+    public void rejectsFullyQualifiedServiceNamesUnlessAllowed() {
+        var protocol = new TestProtocol(List.of(THINGS));
+
+        assertThrows(UnknownOperationException.class,
+                () -> resolve(protocol, "/service/com.a.Things/operation/GetThing", List.of(THINGS)));
+    }
+
+    @Test
+    public void rejectsMalformedPaths() {
+        var protocol = new TestProtocol(List.of(THINGS));
+
+        assertThrows(UnknownOperationException.class,
+                () -> resolve(protocol, "/service/Things/operation/", List.of(THINGS)));
+        assertThrows(UnknownOperationException.class,
+                () -> resolve(protocol, "/service//operation/GetThing", List.of(THINGS)));
+    }
+
+    @Test
+    public void ignoresRequestsForOtherProtocols() {
+        var protocol = new TestProtocol(List.of(THINGS));
+        var request = new ServiceProtocolResolutionRequest(
+                SmithyUri.of(null, null, -1, "/service/Things/operation/GetThing", null),
+                HttpHeaders.of(Map.of("smithy-protocol", List.of("rpc-v2-json"))),
+                Context.create(),
+                "POST");
+
+        assertThat(protocol.resolveOperation(request, List.of(THINGS)), nullValue());
+    }
+
+    private static ServiceProtocolResolutionResult resolve(
+            TestProtocol protocol,
+            String path,
+            List<Service> candidates
+    ) {
+        var request = new ServiceProtocolResolutionRequest(
+                SmithyUri.of(null, null, -1, path, null),
+                HttpHeaders.of(Map.of("smithy-protocol", List.of("rpc-v2-cbor"))),
+                Context.create(),
+                "POST");
+        return protocol.resolveOperation(request, candidates);
+    }
+
+    private static final class TestProtocol extends AbstractRpcV2ServerProtocol {
+        TestProtocol(List<Service> services) {
+            super(services, "application/cbor");
+        }
+
+        @Override
+        protected Codec codec() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ShapeId getProtocolId() {
+            return ShapeId.from("smithy.protocols#rpcv2Cbor");
+        }
+    }
+}
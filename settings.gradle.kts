@@ -66,6 +66,7 @@ include(":server:server-rpcv2")
 include(":server:server-rpcv2-cbor")
 include(":server:server-rpcv2-json")
 include(":server:server-proxy")
+include(":server:server-metrics-otel")
 
 // Codegen
 include(":codegen:codegen-core")
@@ -136,3 +137,4 @@ include(":model-bundle:model-bundle-api")
 include(":benchmarks")
 include(":benchmarks:serde-benchmarks")
 include(":benchmarks:e2e-benchmarks")
+include(":benchmarks:server-benchmarks")